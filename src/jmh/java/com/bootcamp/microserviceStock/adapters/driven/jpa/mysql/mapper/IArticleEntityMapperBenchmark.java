@@ -0,0 +1,39 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IArticleEntityMapperBenchmark {
+    private IArticleEntityMapper articleEntityMapper;
+    private ArticleEntity articleEntity;
+
+    @Setup
+    public void setUp() {
+        articleEntityMapper = Mappers.getMapper(IArticleEntityMapper.class);
+        articleEntity = new ArticleEntity(1L, "Treadmill", "Folding treadmill", 10, new BigDecimal("899.90"),
+                new BrandEntity(7L, "FitLife", "Workout gear"),
+                List.of(new CategoryEntity(1L, "Cardio", "Cardio machines"), new CategoryEntity(2L, "Home gym", "Home training")));
+    }
+
+    @Benchmark
+    public Article entityToDomain() {
+        return articleEntityMapper.entityToDomain(articleEntity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleSearchIndexBenchmark {
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ne", "ru", "sa", "te", "vo", "zi", "ba", "do", "fe",
+            "gu", "hi", "jo", "pa", "qui", "ro", "su", "ti", "ul", "ve", "wa", "xo", "yu", "ze", "an", "el", "in", "or"};
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"1000000"})
+    private int articles;
+
+    // Words are drawn with a Zipf distribution, so 'common' matches a large share of the catalog.
+    @Param({"common", "rare", "two-words", "prefix"})
+    private String query;
+
+    private ArticleSearchIndex index;
+    private String[] words;
+    private double[] cumulative;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = SYLLABLES[i % 30] + SYLLABLES[i / 30 % 30] + SYLLABLES[i / 900 % 30] + (i < 900 ? "" : "n");
+        }
+        cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+
+        index = new ArticleSearchIndex();
+        for (long id = 1; id <= articles; id++) {
+            StringBuilder description = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                description.append(word(random)).append(' ');
+            }
+            index.add(id, word(random) + " " + word(random) + " " + id % 1000, description.toString());
+        }
+
+        text = switch (query) {
+            case "common" -> words[0];
+            case "rare" -> words[5000];
+            case "two-words" -> words[2] + " " + words[40];
+            default -> words[1].substring(0, 3);
+        };
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(text, 20);
+    }
+
+    private String word(Random random) {
+        double target = random.nextDouble() * cumulative[VOCABULARY - 1];
+        int position = Arrays.binarySearch(cumulative, target);
+        return words[position >= 0 ? position : -position - 1];
+    }
+}
\ No newline at end of file
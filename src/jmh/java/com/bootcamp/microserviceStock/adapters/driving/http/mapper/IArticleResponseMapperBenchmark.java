@@ -0,0 +1,100 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IArticleResponseMapperBenchmark {
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private IArticleResponseMapper articleResponseMapper;
+    private ObjectMapper objectMapper;
+    private Pagination<Article> pagination;
+    private PaginationResponse<ArticleResponse> paginationResponse;
+
+    @Setup
+    public void setUp() {
+        articleResponseMapper = Mappers.getMapper(IArticleResponseMapper.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Brand> brands = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            brands.add(new Brand(id, "Brand " + id, null));
+        }
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            categories.add(new Category(id, "Category " + id, null));
+        }
+        List<Article> articles = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            articles.add(new Article((long) i + 1, "Article " + i, "Article description " + i, i,
+                    new BigDecimal("19.99"),
+                    brands.get(i % brands.size()),
+                    List.of(categories.get(i % categories.size()), categories.get((i + 1) % categories.size()))));
+        }
+        pagination = new Pagination<>(articles, 0, pageSize, 10_000L);
+        paginationResponse = articleResponseMapper.paginationToPaginationResponse(pagination);
+    }
+
+    @Benchmark
+    public PaginationResponse<ArticleResponse> paginationToPaginationResponse() {
+        return articleResponseMapper.paginationToPaginationResponse(pagination);
+    }
+
+    @Benchmark
+    public void categoriesToSummaries(Blackhole blackhole) {
+        for (Article article : pagination.getContent()) {
+            blackhole.consume(articleResponseMapper.mapCategoryListToSummaryList(article.getCategoryList()));
+        }
+    }
+
+    @Benchmark
+    public void categoriesToMaps(Blackhole blackhole) {
+        for (Article article : pagination.getContent()) {
+            blackhole.consume(categoryListToMaps(article.getCategoryList()));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePaginationResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paginationResponse);
+    }
+
+    private static List<Map<String, Object>> categoryListToMaps(List<Category> categoryList) {
+        return categoryList.stream()
+                .map(category -> {
+                    Map<String, Object> categoryMap = new LinkedHashMap<>();
+                    categoryMap.put("id", category.getId());
+                    categoryMap.put("name", category.getName());
+                    return categoryMap;
+                })
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.bootcamp.microserviceStock.configuration.metrics;
+
+import com.bootcamp.microserviceStock.domain.api.IBrandServicePort;
+import com.bootcamp.microserviceStock.domain.api.useCase.BrandUseCase;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PortMetricsInterceptorBenchmark {
+    private IBrandServicePort plain;
+    private IBrandServicePort instrumented;
+
+    @Setup
+    public void setUp() {
+        IBrandPersistencePort brandPersistencePort = new InMemoryBrandPersistencePort();
+        plain = new BrandUseCase(brandPersistencePort);
+        instrumented = PortMetricsInterceptor.instrument(IBrandServicePort.class,
+                new BrandUseCase(PortMetricsInterceptor.instrument(IBrandPersistencePort.class, brandPersistencePort, new SimpleMeterRegistry())),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Pagination<Brand> listBrandsPlain() {
+        return plain.listBrands(0, 20, "name", "asc", PaginationTotal.NONE);
+    }
+
+    @Benchmark
+    public Pagination<Brand> listBrandsInstrumented() {
+        return instrumented.listBrands(0, 20, "name", "asc", PaginationTotal.NONE);
+    }
+
+    private static final class InMemoryBrandPersistencePort implements IBrandPersistencePort {
+        private final Pagination<Brand> page = new Pagination<>(List.of(new Brand(1L, "FitLife", "Workout gear")), 0, 20, true);
+
+        @Override
+        public void createBrand(Brand brand) {
+        }
+
+        @Override
+        public boolean alreadyExistsByName(String name) {
+            return false;
+        }
+
+        @Override
+        public boolean alreadyExistsByID(Long id) {
+            return true;
+        }
+
+        @Override
+        public Set<Long> findExistingIDs(Set<Long> ids) {
+            return ids;
+        }
+
+        @Override
+        public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
+            return page;
+        }
+
+        @Override
+        public CursorPagination<Brand> listBrandsAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+            return new CursorPagination<>(List.of(), pageSize, null);
+        }
+
+        @Override
+        public List<Brand> suggestBrands(String prefix, int limit) {
+            return List.of();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArticleUseCaseBenchmark {
+    private ArticleUseCase articleUseCase;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        Set<Long> existingIDs = LongStream.rangeClosed(1, 100).boxed().collect(Collectors.toSet());
+        articleUseCase = new ArticleUseCase(new InMemoryArticlePersistencePort(),
+                new InMemoryCategoryPersistencePort(existingIDs), new InMemoryBrandPersistencePort(existingIDs));
+        article = new Article(null, "Treadmill", "Folding treadmill", 10, new BigDecimal("899.90"),
+                new Brand(7L, null, null),
+                List.of(new Category(1L, null, null), new Category(2L, null, null), new Category(3L, null, null)));
+    }
+
+    @Benchmark
+    public void createArticle(Blackhole blackhole) {
+        articleUseCase.createArticle(article);
+        blackhole.consume(article);
+    }
+
+    private static final class InMemoryArticlePersistencePort implements IArticlePersistencePort {
+        private final Set<String> names = new HashSet<>(List.of("Dumbbell", "Kettlebell", "Yoga mat"));
+
+        @Override
+        public void createArticle(Article article) {
+        }
+
+        @Override
+        public void createArticles(List<Article> articles) {
+        }
+
+        @Override
+        public boolean alreadyExistsByName(String name) {
+            return names.contains(name);
+        }
+
+        @Override
+        public boolean alreadyExistsByID(Long id) {
+            return false;
+        }
+
+        @Override
+        public Set<Long> findExistingIDs(Set<Long> ids) {
+            return Set.of();
+        }
+
+        @Override
+        public Set<String> findExistingNames(Set<String> candidates) {
+            return candidates.stream().filter(names::contains).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection,
+                                                PaginationTotal total, ArticleFilter filter) {
+            return new Pagination<>(List.of(), pageNumber, pageSize, true);
+        }
+
+        @Override
+        public ArticleFacets countArticleFacets(ArticleFilter filter) {
+            return new ArticleFacets(Map.of(), Map.of(), 0);
+        }
+
+        @Override
+        public CursorPagination<Article> listArticlesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+            return new CursorPagination<>(List.of(), pageSize, null);
+        }
+
+        @Override
+        public void exportArticles(Consumer<Article> consumer) {
+        }
+
+        @Override
+        public List<Article> searchArticles(String query, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean adjustStock(Long articleId, int delta) {
+            return true;
+        }
+
+        @Override
+        public Set<Long> adjustStocks(List<StockAdjustment> adjustments) {
+            return Set.of();
+        }
+    }
+
+    private static final class InMemoryBrandPersistencePort implements IBrandPersistencePort {
+        private final Set<Long> ids;
+
+        private InMemoryBrandPersistencePort(Set<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void createBrand(Brand brand) {
+        }
+
+        @Override
+        public boolean alreadyExistsByName(String name) {
+            return false;
+        }
+
+        @Override
+        public boolean alreadyExistsByID(Long id) {
+            return ids.contains(id);
+        }
+
+        @Override
+        public Set<Long> findExistingIDs(Set<Long> candidates) {
+            return candidates.stream().filter(ids::contains).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
+            return new Pagination<>(List.of(), pageNumber, pageSize, true);
+        }
+
+        @Override
+        public CursorPagination<Brand> listBrandsAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+            return new CursorPagination<>(List.of(), pageSize, null);
+        }
+
+        @Override
+        public List<Brand> suggestBrands(String prefix, int limit) {
+            return List.of();
+        }
+    }
+
+    private static final class InMemoryCategoryPersistencePort implements ICategoryPersistencePort {
+        private final Set<Long> ids;
+
+        private InMemoryCategoryPersistencePort(Set<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void createCategory(Category category) {
+        }
+
+        @Override
+        public boolean alreadyExistsByName(String name) {
+            return false;
+        }
+
+        @Override
+        public boolean alreadyExistsByID(Long id) {
+            return ids.contains(id);
+        }
+
+        @Override
+        public Set<Long> findExistingIDs(Set<Long> candidates) {
+            return candidates.stream().filter(ids::contains).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
+            return new Pagination<>(List.of(), pageNumber, pageSize, true);
+        }
+
+        @Override
+        public CursorPagination<Category> listCategoriesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+            return new CursorPagination<>(List.of(), pageSize, null);
+        }
+
+        @Override
+        public List<Category> suggestCategories(String prefix, int limit) {
+            return List.of();
+        }
+    }
+}
\ No newline at end of file
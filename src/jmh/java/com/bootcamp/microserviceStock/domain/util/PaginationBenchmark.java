@@ -0,0 +1,42 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PaginationBenchmark {
+    private List<Integer> content;
+    private List<String> mappedContent;
+
+    @Setup
+    public void setUp() {
+        content = IntStream.range(0, 20).boxed().toList();
+        mappedContent = content.stream().map(String::valueOf).toList();
+    }
+
+    @Benchmark
+    public Pagination<Integer> withTotal() {
+        return new Pagination<>(content, 3, 20, 1000L);
+    }
+
+    @Benchmark
+    public Pagination<Integer> withoutTotal() {
+        return new Pagination<>(content, 3, 20, false);
+    }
+
+    @Benchmark
+    public Pagination<String> withContent() {
+        return new Pagination<>(content, 3, 20, 1000L).withContent(mappedContent);
+    }
+}
\ No newline at end of file
@@ -1,59 +1,424 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ArticlePageMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.FacetCountRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class ArticleAdapter implements IArticlePersistencePort {
+    // Bounds of DECIMAL(38, 2) stand in for an open price range, and an id no row has for an unused IN list.
+    private static final BigDecimal MAX_PRICE = new BigDecimal("999999999999999999999999999999999999.99");
+    private static final List<Long> NO_IDS = List.of(0L);
+
     private final IArticleRepository articleRepository;
     private final IArticleEntityMapper articleEntityMapper;
+    private final CachedCount articleCount;
+    private final NameBloomFilter articleNameFilter;
+    private final TransactionOperations readOnlyTransaction;
+    private final TransactionOperations transaction;
+    private final ArticleOutbox articleOutbox;
+    private final StockMovementLog stockMovements;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleFacetIndex articleFacetIndex;
 
     @Override
     public void createArticle(Article article) {
-        articleRepository.save(articleEntityMapper.articleToEntity(article));
+        List<ArticleEntity> saved;
+        try {
+            saved = transaction.execute(status -> {
+                List<ArticleEntity> entities = List.of(articleRepository.saveAndFlush(articleEntityMapper.articleToEntity(article)));
+                fillPrimaryCategoryNames(entities);
+                articleOutbox.recordCreated(entities);
+                stockMovements.recordReceipts(entities);
+                return entities;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            throw articleAlreadyExists(exception);
+        }
+        articleNameFilter.put(article.getName());
+        indexArticles(saved);
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        List<ArticleEntity> saved;
+        try {
+            saved = transaction.execute(status -> {
+                List<ArticleEntity> entities = articleRepository.saveAllAndFlush(articles.stream()
+                        .map(articleEntityMapper::articleToEntity)
+                        .toList());
+                fillPrimaryCategoryNames(entities);
+                articleOutbox.recordCreated(entities);
+                stockMovements.recordReceipts(entities);
+                return entities;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            throw articleAlreadyExists(exception);
+        }
+        articles.forEach(article -> articleNameFilter.put(article.getName()));
+        indexArticles(saved);
     }
 
     @Override
     public boolean alreadyExistsByName(String name) {
-        return articleRepository.findByName(name).isPresent();
-    }
-
-    @Override
-    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
-        Page<ArticleEntity> page;
-
-        if ("categoryName".equalsIgnoreCase(sortBy)) {
-            Page<ArticleEntity> allArticles = articleRepository.findAll(PageRequest.of(pageNumber, pageSize));
-            List<ArticleEntity> sortedArticles = allArticles.getContent().stream()
-                    .sorted((article1, article2) -> {
-                        String firstCategoryName1 = article1.getCategoryEntityList().isEmpty() ? "" : article1.getCategoryEntityList().get(0).getName();
-                        String firstCategoryName2 = article2.getCategoryEntityList().isEmpty() ? "" : article2.getCategoryEntityList().get(0).getName();
-                        if (DomainConstants.SORT_DIRECTION_ASC.equalsIgnoreCase(sortDirection)) {
-                            return firstCategoryName1.compareToIgnoreCase(firstCategoryName2);
-                        } else {
-                            return firstCategoryName2.compareToIgnoreCase(firstCategoryName1);
-                        }
-                    }).toList();
-            Page<ArticleEntity> sortedPage = new PageImpl<>(sortedArticles, PageRequest.of(pageNumber, pageSize), allArticles.getTotalElements());
-            ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
-            return articlePageMapper.pageToPagination(sortedPage);
+        if (!articleNameFilter.mightContain(name)) {
+            return false;
+        }
+        boolean exists = articleRepository.existsByName(name);
+        if (!exists) {
+            articleNameFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    @Override
+    public boolean alreadyExistsByID(Long id) {
+        return articleRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        return new HashSet<>(articleRepository.findExistingIds(ids));
+    }
+
+    @Override
+    public Set<String> findExistingNames(Set<String> names) {
+        Set<String> candidates = names.stream()
+                .filter(articleNameFilter::mightContain)
+                .collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>(articleRepository.findExistingNames(candidates));
+        for (int i = existing.size(); i < candidates.size(); i++) {
+            articleNameFilter.recordFalsePositive();
+        }
+        return existing;
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection,
+                                            PaginationTotal total, ArticleFilter filter) {
+        boolean ascending = DomainConstants.SORT_DIRECTION_ASC.equalsIgnoreCase(sortDirection);
+        if (!filter.isEmpty()) {
+            return listFilteredArticles(pageNumber, pageSize, sortBy, ascending, total, filter);
+        }
+        Slice<Long> ids;
+
+        if (DomainConstants.SORT_BY_CATEGORY_NAME.equals(sortBy)) {
+            Pageable pageable = PageRequest.of(pageNumber, pageSize);
+            ids = ascending
+                    ? articleRepository.findIdsOrderByCategoryNameAsc(pageable)
+                    : articleRepository.findIdsOrderByCategoryNameDesc(pageable);
+        } else if (DomainConstants.SORT_BY_BRAND_NAME.equals(sortBy)) {
+            Pageable pageable = PageRequest.of(pageNumber, pageSize);
+            ids = ascending
+                    ? articleRepository.findIdsOrderByBrandNameAsc(pageable)
+                    : articleRepository.findIdsOrderByBrandNameDesc(pageable);
         } else {
-            Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
+            Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+            Sort sort = Sort.by(Sort.Order.by(sortBy).with(direction), Sort.Order.by(DomainConstants.SORT_BY_ID).with(direction));
             Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+            ids = total == PaginationTotal.EXACT ? articleRepository.findIdPage(pageable) : articleRepository.findIdSlice(pageable);
+        }
+
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper();
+        Map<Long, Article> articlesById = findArticlesById(articlePageMapper, ids.getContent());
+        if (ids instanceof Page<Long> page) {
+            return articlePageMapper.pageToPagination(page.map(articlesById::get));
+        }
+        Slice<Article> slice = ids.map(articlesById::get);
+        if (total == PaginationTotal.EXACT) {
+            return articlePageMapper.pageToPagination(new PageImpl<>(slice.getContent(), slice.getPageable(), articleRepository.count()));
+        }
+        return articlePageMapper.sliceToPagination(slice, total == PaginationTotal.APPROXIMATE ? articleCount.get() : null);
+    }
+
+    // Until the index has loaded, facets are counted in the DB rather than reported as zero.
+    @Override
+    public ArticleFacets countArticleFacets(ArticleFilter filter) {
+        if (articleFacetIndex.isLoaded()) {
+            return articleFacetIndex.facets(filter);
+        }
+        boolean brandFiltered = !filter.getBrandIds().isEmpty();
+        Collection<Long> brandIds = brandFiltered ? filter.getBrandIds() : NO_IDS;
+        boolean categoryFiltered = !filter.getCategoryIds().isEmpty();
+        Collection<Long> categoryIds = categoryFiltered ? filter.getCategoryIds() : NO_IDS;
+        BigDecimal minPrice = filter.getMinPrice() == null ? BigDecimal.ZERO : filter.getMinPrice();
+        BigDecimal maxPrice = filter.getMaxPrice() == null ? MAX_PRICE : filter.getMaxPrice();
+
+        Map<Long, Long> brandCounts = toCounts(articleRepository.countFilteredByBrand(false, NO_IDS,
+                categoryFiltered, categoryIds, minPrice, maxPrice, filter.isInStockOnly()));
+        Map<Long, Long> categoryCounts = toCounts(articleRepository.countFilteredByCategory(brandFiltered, brandIds,
+                false, NO_IDS, minPrice, maxPrice, filter.isInStockOnly()));
+        long total = articleRepository.countFiltered(brandFiltered, brandIds, categoryFiltered, categoryIds,
+                minPrice, maxPrice, filter.isInStockOnly());
+        return new ArticleFacets(brandCounts, categoryCounts, total);
+    }
+
+    @Override
+    public CursorPagination<Article> listArticlesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        boolean ascending = DomainConstants.SORT_DIRECTION_ASC.equalsIgnoreCase(sortDirection);
+        String lastSortKey = after == null ? null : after.getLastSortKey();
+        Long lastId = after == null ? null : after.getLastId();
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Long> ids;
+        Function<Article, String> sortKey;
+
+        // The first page has no bound at all, so neither query needs a null check that would defeat the index range.
+        if (DomainConstants.SORT_BY_CATEGORY_NAME.equals(sortBy)) {
+            if (after == null) {
+                ids = ascending
+                        ? articleRepository.findFirstIdsOrderByCategoryNameAsc(pageable)
+                        : articleRepository.findFirstIdsOrderByCategoryNameDesc(pageable);
+            } else {
+                ids = ascending
+                        ? articleRepository.findIdsAfterOrderByCategoryNameAsc(lastSortKey, lastId, pageable)
+                        : articleRepository.findIdsAfterOrderByCategoryNameDesc(lastSortKey, lastId, pageable);
+            }
+            sortKey = ArticleAdapter::firstCategoryName;
+        } else if (DomainConstants.SORT_BY_BRAND_NAME.equals(sortBy)) {
+            if (after == null) {
+                ids = ascending
+                        ? articleRepository.findFirstIdsOrderByBrandNameAsc(pageable)
+                        : articleRepository.findFirstIdsOrderByBrandNameDesc(pageable);
+            } else {
+                ids = ascending
+                        ? articleRepository.findIdsAfterOrderByBrandNameAsc(lastSortKey, lastId, pageable)
+                        : articleRepository.findIdsAfterOrderByBrandNameDesc(lastSortKey, lastId, pageable);
+            }
+            sortKey = article -> article.getBrand().getName();
+        } else {
+            if (after == null) {
+                ids = ascending
+                        ? articleRepository.findFirstIdsOrderByNameAsc(pageable)
+                        : articleRepository.findFirstIdsOrderByNameDesc(pageable);
+            } else {
+                ids = ascending
+                        ? articleRepository.findIdsAfterOrderByNameAsc(lastSortKey, lastId, pageable)
+                        : articleRepository.findIdsAfterOrderByNameDesc(lastSortKey, lastId, pageable);
+            }
+            sortKey = Article::getName;
+        }
+
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper();
+        Map<Long, Article> articlesById = findArticlesById(articlePageMapper, ids);
+        List<Article> rows = ids.stream()
+                .map(articlesById::get)
+                .toList();
+        return articlePageMapper.rowsToCursorPagination(rows, pageSize, sortKey, sortBy, sortDirection);
+    }
+
+    @Override
+    public void exportArticles(Consumer<Article> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ArticleRow> rows = articleRepository.streamAllRows()) {
+                new ArticlePageMapper().rowsToArticles(rows.iterator(), consumer);
+            }
+        });
+    }
+
+    // Until the index has loaded, a search is a substring match in the DB rather than an empty result.
+    @Override
+    public List<Article> searchArticles(String query, int limit) {
+        List<Long> ids = articleSearchIndex.isLoaded()
+                ? articleSearchIndex.search(query, limit)
+                : articleRepository.findIdsByTextLike(LikePatterns.containing(query), PageRequest.of(0, limit));
+        Map<Long, Article> articlesById = findArticlesById(new ArticlePageMapper(), ids);
+        return ids.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public boolean adjustStock(Long articleId, int delta) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (articleRepository.adjustQuantity(articleId, delta) == 0) {
+                return false;
+            }
+            articleRepository.touchUpdatedAt(List.of(articleId), LocalDateTime.now());
+            stockMovements.recordAdjustment(articleId, delta);
+            return true;
+        }));
+    }
+
+    // Not part of the port: only the stock buffer coalesces adjustments. One update carries the sum, while the
+    // ledger keeps every caller's own movement. The update only matches when every delta would also have been
+    // accepted one by one in this order, otherwise the caller has to replay them.
+    public boolean adjustStockCombined(Long articleId, List<Integer> deltas) {
+        int delta = 0;
+        int lowest = 0;
+        for (int next : deltas) {
+            delta += next;
+            lowest = Math.min(lowest, delta);
+        }
+        int sum = delta;
+        int floor = lowest;
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (articleRepository.adjustQuantityNeverBelow(articleId, sum, floor) == 0) {
+                return false;
+            }
+            articleRepository.touchUpdatedAt(List.of(articleId), LocalDateTime.now());
+            stockMovements.recordAdjustments(articleId, deltas);
+            return true;
+        }));
+    }
+
+    @Override
+    public Set<Long> adjustStocks(List<StockAdjustment> adjustments) {
+        return transaction.execute(status -> {
+            Set<Long> rejected = new HashSet<>();
+            for (StockAdjustment adjustment : adjustments) {
+                if (articleRepository.adjustQuantity(adjustment.getArticleId(), adjustment.getDelta()) == 0) {
+                    rejected.add(adjustment.getArticleId());
+                } else {
+                    stockMovements.recordAdjustment(adjustment.getArticleId(), adjustment.getDelta());
+                }
+            }
+            if (!rejected.isEmpty()) {
+                status.setRollbackOnly();
+                return rejected;
+            }
+            // Every row of the batch is locked by now and commits at once, so they share the time they became current.
+            articleRepository.touchUpdatedAt(adjustments.stream().map(StockAdjustment::getArticleId).toList(), LocalDateTime.now());
+            return rejected;
+        });
+    }
+
+    private Pagination<Article> listFilteredArticles(Integer pageNumber, Integer pageSize, String sortBy, boolean ascending,
+                                                     PaginationTotal total, ArticleFilter filter) {
+        FilteredIdQuery query;
+        if (DomainConstants.SORT_BY_CATEGORY_NAME.equals(sortBy)) {
+            query = ascending
+                    ? articleRepository::findFilteredIdsOrderByCategoryNameAsc
+                    : articleRepository::findFilteredIdsOrderByCategoryNameDesc;
+        } else if (DomainConstants.SORT_BY_BRAND_NAME.equals(sortBy)) {
+            query = ascending
+                    ? articleRepository::findFilteredIdsOrderByBrandNameAsc
+                    : articleRepository::findFilteredIdsOrderByBrandNameDesc;
+        } else {
+            query = ascending
+                    ? articleRepository::findFilteredIdsOrderByNameAsc
+                    : articleRepository::findFilteredIdsOrderByNameDesc;
+        }
+
+        boolean brandFiltered = !filter.getBrandIds().isEmpty();
+        Collection<Long> brandIds = brandFiltered ? filter.getBrandIds() : NO_IDS;
+        boolean categoryFiltered = !filter.getCategoryIds().isEmpty();
+        Collection<Long> categoryIds = categoryFiltered ? filter.getCategoryIds() : NO_IDS;
+        BigDecimal minPrice = filter.getMinPrice() == null ? BigDecimal.ZERO : filter.getMinPrice();
+        BigDecimal maxPrice = filter.getMaxPrice() == null ? MAX_PRICE : filter.getMaxPrice();
+        Slice<Long> ids = query.find(brandFiltered, brandIds, categoryFiltered, categoryIds, minPrice, maxPrice,
+                filter.isInStockOnly(), PageRequest.of(pageNumber, pageSize));
+
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper();
+        Map<Long, Article> articlesById = findArticlesById(articlePageMapper, ids.getContent());
+        Slice<Article> slice = ids.map(articlesById::get);
+        if (total == PaginationTotal.EXACT) {
+            long count = articleRepository.countFiltered(brandFiltered, brandIds, categoryFiltered, categoryIds,
+                    minPrice, maxPrice, filter.isInStockOnly());
+            return articlePageMapper.pageToPagination(new PageImpl<>(slice.getContent(), slice.getPageable(), count));
+        }
+        if (total == PaginationTotal.APPROXIMATE) {
+            long count = articleFacetIndex.isLoaded()
+                    ? articleFacetIndex.count(filter)
+                    : articleRepository.countFiltered(brandFiltered, brandIds, categoryFiltered, categoryIds,
+                            minPrice, maxPrice, filter.isInStockOnly());
+            return articlePageMapper.sliceToPagination(slice, count);
+        }
+        return articlePageMapper.sliceToPagination(slice, null);
+    }
+
+    // Articles are only searchable and counted in facets once their transaction has committed, like the name filter.
+    private void indexArticles(List<ArticleEntity> saved) {
+        if (saved != null) {
+            saved.forEach(entity -> {
+                articleSearchIndex.add(entity.getId(), entity.getName(), entity.getDescription());
+                articleFacetIndex.add(entity.getId(), entity.getBrand().getId(),
+                        entity.getCategoryEntityList().stream().map(CategoryEntity::getId).toList(),
+                        entity.getPrice(), entity.getQuantity() > 0);
+            });
+        }
+    }
+
+    private Map<Long, Article> findArticlesById(ArticlePageMapper articlePageMapper, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return articlePageMapper.rowsToArticlesById(articleRepository.findRowsByIdIn(ids));
+    }
+
+    private static Map<Long, Long> toCounts(List<FacetCountRow> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(FacetCountRow::getId, FacetCountRow::getArticles, Long::sum, TreeMap::new));
+    }
+
+    private void fillPrimaryCategoryNames(List<ArticleEntity> entities) {
+        articleRepository.fillPrimaryCategoryNames(entities.stream()
+                .map(ArticleEntity::getId)
+                .toList());
+    }
+
+    private static String firstCategoryName(Article article) {
+        return article.getCategoryList().stream()
+                .min(Comparator.comparing(Category::getId))
+                .map(Category::getName)
+                .orElse("");
+    }
+
+    @FunctionalInterface
+    private interface FilteredIdQuery {
+        Slice<Long> find(boolean brandFiltered, Collection<Long> brandIds, boolean categoryFiltered, Collection<Long> categoryIds,
+                         BigDecimal minPrice, BigDecimal maxPrice, boolean inStockOnly, Pageable pageable);
+    }
 
-            page = articleRepository.findAll(pageable);
-            ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
-            return articlePageMapper.pageToPagination(page);
+    private static RuntimeException articleAlreadyExists(DataIntegrityViolationException exception) {
+        if (!ConstraintViolations.isViolated(exception, ArticleEntity.NAME_CONSTRAINT)) {
+            return exception;
         }
+        return new ValidationException(new ArrayList<>(List.of(DomainConstants.ARTICLE_ALREADY_EXISTS_MESSAGE)));
     }
-}
\ No newline at end of file
+}
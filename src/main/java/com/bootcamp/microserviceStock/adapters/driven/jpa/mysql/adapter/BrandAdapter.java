@@ -1,45 +1,124 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.BrandPageMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Brand;
 import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class BrandAdapter implements IBrandPersistencePort {
     private final IBrandRepository brandRepository;
     private final IBrandEntityMapper brandEntityMapper;
+    private final CachedCount brandCount;
+    private final NameBloomFilter brandNameFilter;
+    private final NameSuggestionIndex brandNameIndex;
 
     @Override
     public void createBrand(Brand brand) {
-        brandRepository.save(brandEntityMapper.brandToEntity(brand));
+        BrandEntity brandEntity;
+        try {
+            brandEntity = brandRepository.saveAndFlush(brandEntityMapper.brandToEntity(brand));
+        } catch (DataIntegrityViolationException exception) {
+            if (!ConstraintViolations.isViolated(exception, BrandEntity.NAME_CONSTRAINT)) {
+                throw exception;
+            }
+            brandNameFilter.put(brand.getName());
+            throw new ValidationException(new ArrayList<>(List.of(DomainConstants.BRAND_ALREADY_EXISTS_MESSAGE)));
+        }
+        brand.setId(brandEntity.getId());
+        brandNameFilter.put(brand.getName());
+        brandNameIndex.add(brand.getId(), brand.getName());
     }
 
     @Override
     public boolean alreadyExistsByName(String name) {
-        return brandRepository.findByName(name).isPresent();
+        if (!brandNameFilter.mightContain(name)) {
+            return false;
+        }
+        boolean exists = brandRepository.existsByName(name);
+        if (!exists) {
+            brandNameFilter.recordFalsePositive();
+        }
+        return exists;
     }
 
     @Override
     public boolean alreadyExistsByID(Long id) {
-        return brandRepository.findById(id).isPresent();
+        return brandRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        return new HashSet<>(brandRepository.findExistingIds(ids));
     }
 
     @Override
-    public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+    public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
         Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
         Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+        BrandPageMapper brandPageMapper = new BrandPageMapper(brandEntityMapper);
+
+        if (total == PaginationTotal.EXACT) {
+            Page<BrandEntity> page = brandRepository.findAll(pageable);
+            return brandPageMapper.pageToPagination(page);
+        }
+        Slice<BrandEntity> slice = brandRepository.findAllBy(pageable);
+        return brandPageMapper.sliceToPagination(slice, total == PaginationTotal.APPROXIMATE ? brandCount.get() : null);
+    }
+
+    @Override
+    public CursorPagination<Brand> listBrandsAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        String lastName = after == null ? null : after.getLastSortKey();
+        Long lastId = after == null ? null : after.getLastId();
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-        Page<BrandEntity> page = brandRepository.findAll(pageable);
+        boolean ascending = DomainConstants.SORT_DIRECTION_ASC.equalsIgnoreCase(sortDirection);
+        List<BrandEntity> rows;
+        if (after == null) {
+            rows = ascending
+                    ? brandRepository.findFirstPageOrderByNameAsc(pageable)
+                    : brandRepository.findFirstPageOrderByNameDesc(pageable);
+        } else {
+            rows = ascending
+                    ? brandRepository.findPageAfterOrderByNameAsc(lastName, lastId, pageable)
+                    : brandRepository.findPageAfterOrderByNameDesc(lastName, lastId, pageable);
+        }
         BrandPageMapper brandPageMapper = new BrandPageMapper(brandEntityMapper);
-        return brandPageMapper.pageToPagination(page);
+        return brandPageMapper.rowsToCursorPagination(rows, pageSize, sortBy, sortDirection);
+    }
+
+    // Until the index has loaded, names are suggested from the DB rather than not at all.
+    @Override
+    public List<Brand> suggestBrands(String prefix, int limit) {
+        List<NameRow> rows = brandNameIndex.isLoaded()
+                ? brandNameIndex.suggest(prefix, limit)
+                : brandRepository.findNameRowsLike(LikePatterns.startingWith(prefix), PageRequest.of(0, limit));
+        return rows.stream()
+                .map(row -> new Brand(row.id(), row.name(), null))
+                .toList();
     }
 }
\ No newline at end of file
@@ -1,45 +1,124 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.CategoryPageMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class CategoryAdapter implements ICategoryPersistencePort {
     private final ICategoryRepository categoryRepository;
     private final ICategoryEntityMapper categoryEntityMapper;
+    private final CachedCount categoryCount;
+    private final NameBloomFilter categoryNameFilter;
+    private final NameSuggestionIndex categoryNameIndex;
 
     @Override
     public void createCategory(Category category) {
-        categoryRepository.save(categoryEntityMapper.categoryToEntity(category));
+        CategoryEntity categoryEntity;
+        try {
+            categoryEntity = categoryRepository.saveAndFlush(categoryEntityMapper.categoryToEntity(category));
+        } catch (DataIntegrityViolationException exception) {
+            if (!ConstraintViolations.isViolated(exception, CategoryEntity.NAME_CONSTRAINT)) {
+                throw exception;
+            }
+            categoryNameFilter.put(category.getName());
+            throw new ValidationException(new ArrayList<>(List.of(DomainConstants.CATEGORY_ALREADY_EXISTS_MESSAGE)));
+        }
+        category.setId(categoryEntity.getId());
+        categoryNameFilter.put(category.getName());
+        categoryNameIndex.add(category.getId(), category.getName());
     }
 
     @Override
     public boolean alreadyExistsByName(String name) {
-        return categoryRepository.findByName(name).isPresent();
+        if (!categoryNameFilter.mightContain(name)) {
+            return false;
+        }
+        boolean exists = categoryRepository.existsByName(name);
+        if (!exists) {
+            categoryNameFilter.recordFalsePositive();
+        }
+        return exists;
     }
 
     @Override
     public boolean alreadyExistsByID(Long id) {
-        return categoryRepository.findById(id).isPresent();
+        return categoryRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        return new HashSet<>(categoryRepository.findExistingIds(ids));
     }
 
     @Override
-    public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+    public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
         Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
         Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+        CategoryPageMapper categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
+
+        if (total == PaginationTotal.EXACT) {
+            Page<CategoryEntity> page = categoryRepository.findAll(pageable);
+            return categoryPageMapper.pageToPagination(page);
+        }
+        Slice<CategoryEntity> slice = categoryRepository.findAllBy(pageable);
+        return categoryPageMapper.sliceToPagination(slice, total == PaginationTotal.APPROXIMATE ? categoryCount.get() : null);
+    }
+
+    @Override
+    public CursorPagination<Category> listCategoriesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        String lastName = after == null ? null : after.getLastSortKey();
+        Long lastId = after == null ? null : after.getLastId();
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-        Page<CategoryEntity> page = categoryRepository.findAll(pageable);
+        boolean ascending = DomainConstants.SORT_DIRECTION_ASC.equalsIgnoreCase(sortDirection);
+        List<CategoryEntity> rows;
+        if (after == null) {
+            rows = ascending
+                    ? categoryRepository.findFirstPageOrderByNameAsc(pageable)
+                    : categoryRepository.findFirstPageOrderByNameDesc(pageable);
+        } else {
+            rows = ascending
+                    ? categoryRepository.findPageAfterOrderByNameAsc(lastName, lastId, pageable)
+                    : categoryRepository.findPageAfterOrderByNameDesc(lastName, lastId, pageable);
+        }
         CategoryPageMapper categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
-        return categoryPageMapper.pageToPagination(page);
+        return categoryPageMapper.rowsToCursorPagination(rows, pageSize, sortBy, sortDirection);
+    }
+
+    // Until the index has loaded, names are suggested from the DB rather than not at all.
+    @Override
+    public List<Category> suggestCategories(String prefix, int limit) {
+        List<NameRow> rows = categoryNameIndex.isLoaded()
+                ? categoryNameIndex.suggest(prefix, limit)
+                : categoryRepository.findNameRowsLike(LikePatterns.startingWith(prefix), PageRequest.of(0, limit));
+        return rows.stream()
+                .map(row -> new Category(row.id(), row.name(), null))
+                .toList();
     }
 }
\ No newline at end of file
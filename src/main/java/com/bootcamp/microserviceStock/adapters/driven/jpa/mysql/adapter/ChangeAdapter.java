@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChangeAdapter implements IChangePersistencePort {
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final IArticleRepository articleRepository;
+    private final IBrandEntityMapper brandEntityMapper;
+    private final ICategoryEntityMapper categoryEntityMapper;
+    private final IArticleEntityMapper articleEntityMapper;
+    private final IChangeStampRepository changeStampRepository;
+
+    @Override
+    public List<CatalogChange> listChangesSince(long since, int limit) {
+        // Versions are stamped after commit, and the last stamped version is read before the rows: everything at or
+        // below it is already visible, so no lower version can show up after a reader has moved past it. A row that
+        // changes again between two stamps is published once, with its latest state.
+        long through = changeStampRepository.findLastVersion();
+        Pageable pageable = PageRequest.of(0, limit);
+        List<CatalogChange> changes = new ArrayList<>();
+
+        brandRepository.findChangedSince(since, through, pageable)
+                .forEach(brand -> changes.add(CatalogChange.of(brandEntityMapper.entityToDomain(brand))));
+        categoryRepository.findChangedSince(since, through, pageable)
+                .forEach(category -> changes.add(CatalogChange.of(categoryEntityMapper.entityToDomain(category))));
+        List<Long> articleIds = articleRepository.findIdsChangedSince(since, through, pageable);
+        if (!articleIds.isEmpty()) {
+            articleRepository.findWithBrandAndCategoriesByIdIn(articleIds)
+                    .forEach(article -> changes.add(CatalogChange.of(articleEntityMapper.entityToDomain(article))));
+        }
+
+        changes.sort(Comparator.comparing(CatalogChange::getVersion));
+        return changes.size() > limit ? changes.subList(0, limit) : changes;
+    }
+}
\ No newline at end of file
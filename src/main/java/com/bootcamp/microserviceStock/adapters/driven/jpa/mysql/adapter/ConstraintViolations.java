@@ -0,0 +1,15 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+final class ConstraintViolations {
+    private ConstraintViolations() {
+    }
+
+    static boolean isViolated(DataIntegrityViolationException exception, String constraintName) {
+        String message = exception.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import java.util.Locale;
+
+// Patterns for 'LIKE ... ESCAPE '!'', so wildcards typed by the user only match themselves.
+final class LikePatterns {
+    private LikePatterns() {
+    }
+
+    static String containing(String text) {
+        return "%" + escape(text) + "%";
+    }
+
+    static String startingWith(String text) {
+        return escape(text) + "%";
+    }
+
+    private static String escape(String text) {
+        return text.strip()
+                .toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ReservationEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IReservationEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IReservationRepository;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ReservationAdapter implements IReservationPersistencePort {
+    private final IReservationRepository reservationRepository;
+    private final IArticleRepository articleRepository;
+    private final IReservationEntityMapper reservationEntityMapper;
+    private final TransactionOperations readOnlyTransaction;
+    private final TransactionOperations transaction;
+    private final StockMovementLog stockMovements;
+
+    @Override
+    public Reservation reserve(Reservation reservation) {
+        return transaction.execute(status -> {
+            if (articleRepository.reserveQuantity(reservation.getArticleId(), reservation.getQuantity()) == 0) {
+                return null;
+            }
+            stockMovements.recordReservation(reservation.getArticleId(), reservation.getQuantity());
+            return reservationEntityMapper.entityToDomain(
+                    reservationRepository.save(reservationEntityMapper.reservationToEntity(reservation)));
+        });
+    }
+
+    @Override
+    public Reservation findReservation(Long id) {
+        return reservationRepository.findById(id)
+                .map(reservationEntityMapper::entityToDomain)
+                .orElse(null);
+    }
+
+    // Deleting the reservation row settles it: whoever deletes it first, confirmation, release or expiry, owns the stock.
+    @Override
+    public boolean confirmReservation(Reservation reservation) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (reservationRepository.deleteReservation(reservation.getId()) == 0) {
+                return false;
+            }
+            articleRepository.confirmReservedQuantity(reservation.getArticleId(), reservation.getQuantity());
+            articleRepository.touchUpdatedAt(List.of(reservation.getArticleId()), LocalDateTime.now());
+            stockMovements.recordSale(reservation.getArticleId(), reservation.getQuantity());
+            return true;
+        }));
+    }
+
+    @Override
+    public boolean releaseReservation(Reservation reservation) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (reservationRepository.deleteReservation(reservation.getId()) == 0) {
+                return false;
+            }
+            articleRepository.releaseReservedQuantity(reservation.getArticleId(), reservation.getQuantity());
+            stockMovements.recordRelease(reservation.getArticleId(), reservation.getQuantity());
+            return true;
+        }));
+    }
+
+    @Override
+    public StockAvailability findAvailability(Long articleId) {
+        return articleRepository.findAvailability(articleId)
+                .map(row -> new StockAvailability(row.getId(), row.getQuantity(), row.getReserved()))
+                .orElse(null);
+    }
+
+    @Override
+    public void forEachReservation(Consumer<Reservation> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ReservationEntity> reservations = reservationRepository.streamAll()) {
+                reservations.map(reservationEntityMapper::entityToDomain).forEach(consumer);
+            }
+        });
+    }
+}
\ No newline at end of file
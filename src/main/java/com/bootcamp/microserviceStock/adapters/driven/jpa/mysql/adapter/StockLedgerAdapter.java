@@ -0,0 +1,44 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IStockMovementEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArchivedStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.spi.IStockLedgerPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class StockLedgerAdapter implements IStockLedgerPersistencePort {
+    private final IStockMovementRepository stockMovementRepository;
+    private final IArchivedStockMovementRepository archivedStockMovementRepository;
+    private final IStockMovementEntityMapper stockMovementEntityMapper;
+    private final TransactionOperations readOnlyTransaction;
+
+    @Override
+    public StockAvailability findStockLevel(Long articleId) {
+        return stockMovementRepository.findStockLevel(articleId)
+                .map(row -> new StockAvailability(row.getId(), row.getQuantity(), row.getReserved()))
+                .orElse(null);
+    }
+
+    @Override
+    public List<StockMovement> listMovements(Long articleId, Long before, int limit) {
+        Long upperBound = before == null ? Long.MAX_VALUE : before;
+        PageRequest page = PageRequest.of(0, limit);
+        return readOnlyTransaction.execute(status -> Stream.concat(
+                        stockMovementRepository.findByArticleIdBefore(articleId, upperBound, page).stream()
+                                .map(stockMovementEntityMapper::entityToDomain),
+                        archivedStockMovementRepository.findByArticleIdBefore(articleId, upperBound, page).stream()
+                                .map(stockMovementEntityMapper::archivedEntityToDomain))
+                .sorted(Comparator.comparing(StockMovement::getId).reversed())
+                .limit(limit)
+                .toList());
+    }
+}
\ No newline at end of file
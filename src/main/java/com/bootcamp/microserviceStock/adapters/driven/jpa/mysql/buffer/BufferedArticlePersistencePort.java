@@ -0,0 +1,89 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer;
+
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class BufferedArticlePersistencePort implements IArticlePersistencePort {
+    private final IArticlePersistencePort articlePersistencePort;
+    private final StockAdjustmentBuffer stockAdjustmentBuffer;
+
+    @Override
+    public void createArticle(Article article) {
+        articlePersistencePort.createArticle(article);
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        articlePersistencePort.createArticles(articles);
+    }
+
+    @Override
+    public boolean alreadyExistsByName(String name) {
+        return articlePersistencePort.alreadyExistsByName(name);
+    }
+
+    @Override
+    public boolean alreadyExistsByID(Long id) {
+        return articlePersistencePort.alreadyExistsByID(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        return articlePersistencePort.findExistingIDs(ids);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Set<String> names) {
+        return articlePersistencePort.findExistingNames(names);
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection,
+                                            PaginationTotal total, ArticleFilter filter) {
+        return articlePersistencePort.listArticles(pageNumber, pageSize, sortBy, sortDirection, total, filter);
+    }
+
+    @Override
+    public ArticleFacets countArticleFacets(ArticleFilter filter) {
+        return articlePersistencePort.countArticleFacets(filter);
+    }
+
+    @Override
+    public CursorPagination<Article> listArticlesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        return articlePersistencePort.listArticlesAfter(after, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public void exportArticles(Consumer<Article> consumer) {
+        articlePersistencePort.exportArticles(consumer);
+    }
+
+    @Override
+    public List<Article> searchArticles(String query, int limit) {
+        return articlePersistencePort.searchArticles(query, limit);
+    }
+
+    @Override
+    public boolean adjustStock(Long articleId, int delta) {
+        return stockAdjustmentBuffer.adjustStock(articleId, delta);
+    }
+
+    // Batches are all-or-nothing across articles, which a per-article accumulator can't honour.
+    @Override
+    public Set<Long> adjustStocks(List<StockAdjustment> adjustments) {
+        return articlePersistencePort.adjustStocks(adjustments);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ArticleAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class StockAdjustmentBuffer implements SmartLifecycle {
+    private final ArticleAdapter articleAdapter;
+    private final Stripe[] stripes;
+    private final Duration flushInterval;
+    private final int maxPendingUnits;
+    private final Semaphore pendingUnits;
+    private final LongAdder adjustments = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private volatile ScheduledExecutorService executor;
+
+    public StockAdjustmentBuffer(ArticleAdapter articleAdapter, int stripes, Duration flushInterval, int maxPendingUnits) {
+        this.articleAdapter = articleAdapter;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.flushInterval = flushInterval;
+        this.maxPendingUnits = maxPendingUnits;
+        this.pendingUnits = new Semaphore(maxPendingUnits, true);
+    }
+
+    public boolean adjustStock(Long articleId, int delta) {
+        if (executor == null) {
+            return articleAdapter.adjustStock(articleId, delta);
+        }
+        // A delta larger than the bound takes every permit, so it waits until nothing else is unflushed.
+        int units = Math.min(Math.abs(delta), maxPendingUnits);
+        pendingUnits.acquireUninterruptibly(units);
+        PendingAdjustment adjustment = new PendingAdjustment(delta, units, new CompletableFuture<>());
+        if (!stripeOf(articleId).add(articleId, adjustment)) {
+            pendingUnits.release(units);
+            return articleAdapter.adjustStock(articleId, delta);
+        }
+        adjustments.increment();
+        try {
+            return adjustment.result().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    public void flush() {
+        for (Stripe stripe : stripes) {
+            stripe.drain(false).forEach(this::flush);
+        }
+    }
+
+    public long getAdjustments() {
+        return adjustments.sum();
+    }
+
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        for (Stripe stripe : stripes) {
+            stripe.open();
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-buffer-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushInterval.toNanos(), flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        ScheduledExecutorService running = executor;
+        executor = null;
+        running.shutdown();
+        try {
+            running.awaitTermination(flushInterval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        // Closed stripes turn late callers away, so whatever is drained here is the last of it.
+        for (Stripe stripe : stripes) {
+            stripe.drain(true).forEach(this::flush);
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            log.warn("Stock buffer flush failed", exception);
+        }
+    }
+
+    private void flush(Long articleId, List<PendingAdjustment> pending) {
+        try {
+            updates.increment();
+            if (pending.size() == 1) {
+                complete(pending.get(0), articleAdapter.adjustStock(articleId, pending.get(0).delta()));
+            } else if (articleAdapter.adjustStockCombined(articleId, pending.stream().map(PendingAdjustment::delta).toList())) {
+                pending.forEach(adjustment -> complete(adjustment, true));
+            } else {
+                // Some delta would have been rejected on its own: replay them in arrival order so each caller gets
+                // its own answer.
+                for (PendingAdjustment adjustment : pending) {
+                    updates.increment();
+                    complete(adjustment, articleAdapter.adjustStock(articleId, adjustment.delta()));
+                }
+            }
+        } catch (RuntimeException exception) {
+            pending.forEach(adjustment -> {
+                if (adjustment.result().completeExceptionally(exception)) {
+                    pendingUnits.release(adjustment.units());
+                }
+            });
+        }
+    }
+
+    private void complete(PendingAdjustment adjustment, boolean applied) {
+        if (adjustment.result().complete(applied)) {
+            pendingUnits.release(adjustment.units());
+        }
+    }
+
+    private Stripe stripeOf(Long articleId) {
+        return stripes[Math.floorMod(articleId.hashCode(), stripes.length)];
+    }
+
+    private record PendingAdjustment(int delta, int units, CompletableFuture<Boolean> result) {
+    }
+
+    private static final class Stripe {
+        private Map<Long, List<PendingAdjustment>> pending = new HashMap<>();
+        private boolean closed;
+
+        synchronized boolean add(Long articleId, PendingAdjustment adjustment) {
+            if (closed) {
+                return false;
+            }
+            pending.computeIfAbsent(articleId, id -> new ArrayList<>()).add(adjustment);
+            return true;
+        }
+
+        synchronized Map<Long, List<PendingAdjustment>> drain(boolean close) {
+            closed = close;
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<Long, List<PendingAdjustment>> drained = pending;
+            pending = new HashMap<>();
+            return drained;
+        }
+
+        synchronized void open() {
+            closed = false;
+        }
+    }
+}
\ No newline at end of file
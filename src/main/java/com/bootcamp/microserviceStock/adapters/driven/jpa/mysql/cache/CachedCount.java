@@ -0,0 +1,39 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+public class CachedCount {
+    private static final long NOT_LOADED = -1L;
+
+    private final LongSupplier counter;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile long value = NOT_LOADED;
+    private volatile long refreshedAt;
+
+    public CachedCount(LongSupplier counter, Duration refreshInterval) {
+        this.counter = counter;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    public long get() {
+        long current = value;
+        if (current != NOT_LOADED && System.nanoTime() - refreshedAt < refreshIntervalNanos) {
+            return current;
+        }
+        if (refreshing.compareAndSet(false, true)) {
+            try {
+                current = counter.getAsLong();
+                refreshedAt = System.nanoTime();
+                value = current;
+            } finally {
+                refreshing.set(false);
+            }
+            return current;
+        }
+        // Another caller is already refreshing: serve the stale value instead of piling up COUNT queries.
+        return current != NOT_LOADED ? current : counter.getAsLong();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class CachingBrandPersistencePort implements IBrandPersistencePort {
+    private final IBrandPersistencePort brandPersistencePort;
+    private final ExistingIdCache brandIdCache;
+    private final ListingCache<Brand> brandListingCache;
+
+    @Override
+    public void createBrand(Brand brand) {
+        brandPersistencePort.createBrand(brand);
+        brandListingCache.invalidate();
+        if (brand.getId() != null) {
+            brandIdCache.add(brand.getId());
+        }
+    }
+
+    @Override
+    public boolean alreadyExistsByName(String name) {
+        return brandPersistencePort.alreadyExistsByName(name);
+    }
+
+    @Override
+    public boolean alreadyExistsByID(Long id) {
+        if (brandIdCache.contains(id)) {
+            return true;
+        }
+        boolean exists = brandPersistencePort.alreadyExistsByID(id);
+        if (exists) {
+            brandIdCache.add(id);
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        Set<Long> unknown = new HashSet<>();
+        for (Long id : ids) {
+            (brandIdCache.contains(id) ? existing : unknown).add(id);
+        }
+        if (!unknown.isEmpty()) {
+            Set<Long> found = brandPersistencePort.findExistingIDs(unknown);
+            brandIdCache.addAll(found);
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    @Override
+    public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
+        return brandListingCache.get(pageNumber, pageSize, sortBy, sortDirection, total,
+                () -> brandPersistencePort.listBrands(pageNumber, pageSize, sortBy, sortDirection, total));
+    }
+
+    @Override
+    public CursorPagination<Brand> listBrandsAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        return brandPersistencePort.listBrandsAfter(after, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public List<Brand> suggestBrands(String prefix, int limit) {
+        return brandPersistencePort.suggestBrands(prefix, limit);
+    }
+}
\ No newline at end of file
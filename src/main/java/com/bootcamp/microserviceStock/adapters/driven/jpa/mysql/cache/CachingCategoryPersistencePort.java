@@ -0,0 +1,77 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class CachingCategoryPersistencePort implements ICategoryPersistencePort {
+    private final ICategoryPersistencePort categoryPersistencePort;
+    private final ExistingIdCache categoryIdCache;
+    private final ListingCache<Category> categoryListingCache;
+
+    @Override
+    public void createCategory(Category category) {
+        categoryPersistencePort.createCategory(category);
+        categoryListingCache.invalidate();
+        if (category.getId() != null) {
+            categoryIdCache.add(category.getId());
+        }
+    }
+
+    @Override
+    public boolean alreadyExistsByName(String name) {
+        return categoryPersistencePort.alreadyExistsByName(name);
+    }
+
+    @Override
+    public boolean alreadyExistsByID(Long id) {
+        if (categoryIdCache.contains(id)) {
+            return true;
+        }
+        boolean exists = categoryPersistencePort.alreadyExistsByID(id);
+        if (exists) {
+            categoryIdCache.add(id);
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<Long> findExistingIDs(Set<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        Set<Long> unknown = new HashSet<>();
+        for (Long id : ids) {
+            (categoryIdCache.contains(id) ? existing : unknown).add(id);
+        }
+        if (!unknown.isEmpty()) {
+            Set<Long> found = categoryPersistencePort.findExistingIDs(unknown);
+            categoryIdCache.addAll(found);
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    @Override
+    public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
+        return categoryListingCache.get(pageNumber, pageSize, sortBy, sortDirection, total,
+                () -> categoryPersistencePort.listCategories(pageNumber, pageSize, sortBy, sortDirection, total));
+    }
+
+    @Override
+    public CursorPagination<Category> listCategoriesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection) {
+        return categoryPersistencePort.listCategoriesAfter(after, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public List<Category> suggestCategories(String prefix, int limit) {
+        return categoryPersistencePort.suggestCategories(prefix, limit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ExistingIdCache {
+    private final Cache<Long, Boolean> ids;
+
+    public ExistingIdCache(long maxSize, Duration ttl) {
+        this(maxSize, ttl, ForkJoinPool.commonPool());
+    }
+
+    // Evictions run on the executor, so tests pass one that runs them in place to see the bound right away.
+    ExistingIdCache(long maxSize, Duration ttl, Executor executor) {
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    public boolean contains(Long id) {
+        return ids.getIfPresent(id) != null;
+    }
+
+    public void add(Long id) {
+        ids.put(id, Boolean.TRUE);
+    }
+
+    public void addAll(Collection<Long> ids) {
+        this.ids.putAll(ids.stream().collect(Collectors.toMap(Function.identity(), id -> Boolean.TRUE, (first, second) -> first)));
+    }
+
+    public long size() {
+        return ids.estimatedSize();
+    }
+
+    public long getHits() {
+        return ids.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return ids.stats().missCount();
+    }
+
+    public long getEvictions() {
+        return ids.stats().evictionCount();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class ListingCache<T> {
+    private final Cache<Key, Pagination<T>> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ListingCache(long maxSize, Duration ttl) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Pagination<T> get(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total,
+                             Supplier<Pagination<T>> loader) {
+        Key key = new Key(generation.get(), pageNumber, pageSize, sortBy, sortDirection, total);
+        return pages.get(key, ignored -> loader.get());
+    }
+
+    // Pages are keyed by the generation they were loaded in, and a successful write moves to the next generation
+    // once it has committed. A load that raced with the write is stored under the old generation, which no read
+    // asks for anymore, so after a create returns every listing served by this instance includes it. Writes made
+    // by other instances are only picked up once the pages expire.
+    public void invalidate() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    public long size() {
+        return pages.estimatedSize();
+    }
+
+    public long getHits() {
+        return pages.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return pages.stats().missCount();
+    }
+
+    public double getHitRatio() {
+        return pages.stats().hitRate();
+    }
+
+    public long getEvictions() {
+        return pages.stats().evictionCount();
+    }
+
+    private record Key(long generation, Integer pageNumber, Integer pageSize, String sortBy, String sortDirection,
+                       PaginationTotal total) {
+    }
+}
\ No newline at end of file
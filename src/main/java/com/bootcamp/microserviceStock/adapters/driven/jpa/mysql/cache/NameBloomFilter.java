@@ -0,0 +1,108 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.bootcamp.microserviceStock.domain.util.TextNormalizer;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public class NameBloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile boolean loaded;
+
+    public NameBloomFilter(long expectedNames, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedNames) * Math.log(2)));
+    }
+
+    public void load(Stream<String> names) {
+        try (names) {
+            names.forEach(this::put);
+        }
+        loaded = true;
+    }
+
+    public void put(String name) {
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String name) {
+        if (!loaded) {
+            return true;
+        }
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void recordFalsePositive() {
+        if (loaded) {
+            falsePositives.increment();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public double getFalsePositiveRate() {
+        long falsePositiveCount = falsePositives.sum();
+        long negatives = falsePositiveCount + definitelyAbsent.sum();
+        return negatives == 0 ? 0 : (double) falsePositiveCount / negatives;
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.sum() / bitCount), hashCount);
+    }
+
+    public long getMemoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    // The filter must never tell apart names the database considers equal.
+    private static long hash(String name) {
+        String normalized = TextNormalizer.normalize(name);
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Loads the in-memory indexes off the startup path and then follows the change feed, so rows written through
+// other instances show up within an interval instead of only after a restart.
+@Slf4j
+public class CatalogIndexSync implements SmartLifecycle {
+    private final IChangePersistencePort changePersistencePort;
+    private final IChangeStampRepository changeStampRepository;
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final IArticleRepository articleRepository;
+    private final NameSuggestionIndex brandNameIndex;
+    private final NameSuggestionIndex categoryNameIndex;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleFacetIndex articleFacetIndex;
+    private final TransactionOperations readOnlyTransaction;
+    private final int batchSize;
+    private final Duration interval;
+    private final LongAdder applied = new LongAdder();
+    private boolean loaded;
+    private long lastSeen;
+    private ScheduledExecutorService executor;
+
+    public CatalogIndexSync(IChangePersistencePort changePersistencePort, IChangeStampRepository changeStampRepository,
+                            IBrandRepository brandRepository, ICategoryRepository categoryRepository,
+                            IArticleRepository articleRepository, NameSuggestionIndex brandNameIndex,
+                            NameSuggestionIndex categoryNameIndex, ArticleSearchIndex articleSearchIndex,
+                            ArticleFacetIndex articleFacetIndex, TransactionOperations readOnlyTransaction,
+                            int batchSize, Duration interval) {
+        this.changePersistencePort = changePersistencePort;
+        this.changeStampRepository = changeStampRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.articleRepository = articleRepository;
+        this.brandNameIndex = brandNameIndex;
+        this.categoryNameIndex = categoryNameIndex;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleFacetIndex = articleFacetIndex;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    // The last stamped version is read before the rows: anything the load misses commits later and is stamped above
+    // it, so the feed picks it up. Rows loaded but stamped afterwards come back through the feed, which only re-adds them.
+    public void load() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            lastSeen = changeStampRepository.findLastVersion();
+            brandNameIndex.load(brandRepository.streamAllNameRows());
+            categoryNameIndex.load(categoryRepository.streamAllNameRows());
+            articleSearchIndex.load(articleRepository.streamAllText());
+            articleFacetIndex.load(articleRepository.streamAllFacetRows(), articleRepository.streamInStockIds());
+        });
+        loaded = true;
+    }
+
+    public boolean syncBatch() {
+        List<CatalogChange> changes = readOnlyTransaction.execute(status ->
+                changePersistencePort.listChangesSince(lastSeen, batchSize));
+        if (changes == null || changes.isEmpty()) {
+            return false;
+        }
+        changes.forEach(this::apply);
+        lastSeen = changes.get(changes.size() - 1).getVersion();
+        applied.add(changes.size());
+        return changes.size() == batchSize;
+    }
+
+    // Nothing is renamed and articles never change brand or price, so adding a row that is already indexed, as after
+    // a stock change, leaves it as it is. Whether an article is in stock is left to the in-stock refresh.
+    private void apply(CatalogChange change) {
+        switch (change.getType()) {
+            case BRAND -> brandNameIndex.add(change.getBrand().getId(), change.getBrand().getName());
+            case CATEGORY -> categoryNameIndex.add(change.getCategory().getId(), change.getCategory().getName());
+            case ARTICLE -> {
+                Article article = change.getArticle();
+                articleSearchIndex.add(article.getId(), article.getName(), article.getDescription());
+                articleFacetIndex.add(article.getId(), article.getBrand().getId(),
+                        article.getCategoryList().stream().map(Category::getId).toList(),
+                        article.getPrice(), article.getQuantity() > 0);
+            }
+        }
+    }
+
+    public void drain() {
+        try {
+            if (!loaded) {
+                load();
+            }
+            boolean full;
+            do {
+                full = syncBatch();
+            } while (full);
+        } catch (RuntimeException exception) {
+            log.warn("Catalog index sync failed, it will be retried", exception);
+        }
+    }
+
+    public long getApplied() {
+        return applied.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-index-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(interval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ChangeStampEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Slf4j
+public class ChangeVersionStamper implements SmartLifecycle {
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final IArticleRepository articleRepository;
+    private final IChangeStampRepository changeStampRepository;
+    private final TransactionOperations transaction;
+    private final int batchSize;
+    private final Duration interval;
+    private final LongAdder stamped = new LongAdder();
+    private ScheduledExecutorService executor;
+
+    public ChangeVersionStamper(IBrandRepository brandRepository, ICategoryRepository categoryRepository,
+                                IArticleRepository articleRepository, IChangeStampRepository changeStampRepository,
+                                TransactionOperations transaction, int batchSize, Duration interval) {
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.articleRepository = articleRepository;
+        this.changeStampRepository = changeStampRepository;
+        this.transaction = transaction;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    // Writers only clear the version, and only committed rows are visible here. Holding the stamp row serializes
+    // stampers across nodes, and the rows and the new last version commit together, so every version up to the
+    // published last version is already readable when a reader sees it.
+    public boolean stampBatch() {
+        Boolean full = transaction.execute(status -> {
+            ChangeStampEntity stamp = changeStampRepository.lockStamp();
+            Pageable pageable = PageRequest.of(0, batchSize);
+            boolean brands = stamp(stamp, brandRepository::findUnstampedIds, brandRepository::stampVersions, pageable);
+            boolean categories = stamp(stamp, categoryRepository::findUnstampedIds, categoryRepository::stampVersions, pageable);
+            boolean articles = stamp(stamp, articleRepository::findUnstampedIds, articleRepository::stampVersions, pageable);
+            return brands || categories || articles;
+        });
+        return Boolean.TRUE.equals(full);
+    }
+
+    // One statement per table: versions follow the ids of the batch, so they increase in id order and may leave gaps.
+    private boolean stamp(ChangeStampEntity stamp, Function<Pageable, List<Long>> findUnstampedIds,
+                          BiFunction<Collection<Long>, Long, Integer> stampVersions, Pageable pageable) {
+        List<Long> ids = findUnstampedIds.apply(pageable);
+        if (ids.isEmpty()) {
+            return false;
+        }
+        long offset = stamp.getLastVersion() - ids.get(0) + 1;
+        stamped.add(stampVersions.apply(ids, offset));
+        stamp.setLastVersion(ids.get(ids.size() - 1) + offset);
+        return ids.size() == batchSize;
+    }
+
+    public void drain() {
+        try {
+            boolean full;
+            do {
+                full = stampBatch();
+            } while (full);
+        } catch (RuntimeException exception) {
+            log.warn("Change version stamping failed, the batch will be retried", exception);
+        }
+    }
+
+    public long getStamped() {
+        return stamped.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-version-stamper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(interval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,14 +11,16 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
-@Table(name = "article")
+@Table(name = "article", uniqueConstraints = @UniqueConstraint(name = ArticleEntity.NAME_CONSTRAINT, columnNames = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-public class ArticleEntity {
+public class ArticleEntity extends ChangeTrackedEntity {
+    public static final String NAME_CONSTRAINT = "uk_article_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "article_seq")
     private Long id;
     private String name;
     private String description;
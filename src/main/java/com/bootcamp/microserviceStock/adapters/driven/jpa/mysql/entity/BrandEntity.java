@@ -1,5 +1,6 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,14 +8,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "brand")
+@Table(name = "brand", uniqueConstraints = @UniqueConstraint(name = BrandEntity.NAME_CONSTRAINT, columnNames = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-public class BrandEntity {
+public class BrandEntity extends ChangeTrackedEntity {
+    public static final String NAME_CONSTRAINT = "uk_brand_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "brand_seq")
     private Long id;
     private String name;
     private String description;
@@ -1,5 +1,6 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,14 +8,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "category")
+@Table(name = "category", uniqueConstraints = @UniqueConstraint(name = CategoryEntity.NAME_CONSTRAINT, columnNames = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-public class CategoryEntity {
+public class CategoryEntity extends ChangeTrackedEntity {
+    public static final String NAME_CONSTRAINT = "uk_category_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "category_seq")
     private Long id;
     private String name;
     private String description;
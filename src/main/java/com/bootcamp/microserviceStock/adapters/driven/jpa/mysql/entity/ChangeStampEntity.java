@@ -0,0 +1,19 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "change_stamp")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ChangeStampEntity {
+    @Id
+    private Long id;
+    private Long lastVersion;
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PreUpdate;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class ChangeTrackedEntity {
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Left empty by writers and filled in by the ChangeVersionStamper once the change has committed.
+    private Long changeVersion;
+
+    @PreUpdate
+    void clearChangeVersion() {
+        changeVersion = null;
+    }
+}
\ No newline at end of file
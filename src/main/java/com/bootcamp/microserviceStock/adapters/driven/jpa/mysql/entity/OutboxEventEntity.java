@@ -0,0 +1,28 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_event")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class OutboxEventEntity {
+    @Id
+    @PooledSequence(name = "outbox_event_seq")
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private String eventType;
+    @Column(length = 4000)
+    private String payload;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservation")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ReservationEntity {
+    @Id
+    @PooledSequence(name = "reservation_seq")
+    private Long id;
+    @Column(name = "id_article")
+    private Long articleId;
+    private Integer quantity;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator.PooledSequence;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_movement")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StockMovementEntity {
+    @Id
+    @PooledSequence(name = "stock_movement_seq")
+    private Long id;
+    @Column(name = "id_article")
+    private Long articleId;
+    @Enumerated(EnumType.STRING)
+    private StockMovementReason reason;
+    private Integer quantityDelta;
+    private Integer reservedDelta;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_snapshot")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StockSnapshotEntity {
+    @Id
+    @Column(name = "id_article")
+    private Long articleId;
+    private Integer quantity;
+    private Integer reserved;
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
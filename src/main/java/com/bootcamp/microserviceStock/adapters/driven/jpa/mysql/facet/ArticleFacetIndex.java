@@ -0,0 +1,241 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleFacetRow;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Articles are numbered densely in the order they are added, and every brand and category keeps the bitmap
+// of its articles, so a facet count is the cardinality of an intersection instead of a GROUP BY. Documents are
+// also kept sorted by price, so a price range is two binary searches instead of a scan of every price.
+public class ArticleFacetIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> documentsByArticleId = new HashMap<>();
+    private final Map<Long, RoaringBitmap> brands = new HashMap<>();
+    private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+    private long[] prices = new long[1024];
+    private int[] documentsByPrice = new int[1024];
+    private int documents;
+    private int ranked;
+    private RoaringBitmap inStock = new RoaringBitmap();
+    private volatile boolean loaded;
+
+    // Loaded documents are ranked by price once at the end instead of one insertion at a time. The index only
+    // reports loaded once the in-stock articles are in too, so an in-stock count is never zero for lack of them.
+    public void load(Stream<ArticleFacetRow> rows, Stream<Long> inStockIds) {
+        try (rows) {
+            rows.forEach(row -> add(row.id(), row.brandId(),
+                    row.categoryId() == null ? List.of() : List.of(row.categoryId()), row.price(), false, false));
+        }
+        lock.writeLock().lock();
+        try {
+            documentsByPrice = IntStream.range(0, documents)
+                    .boxed()
+                    .sorted(Comparator.comparingLong(document -> prices[document]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            ranked = documents;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loadInStock(inStockIds);
+        loaded = true;
+    }
+
+    // Adding an article that is already indexed only adds the categories it didn't have yet.
+    public void add(Long articleId, Long brandId, Collection<Long> categoryIds, BigDecimal price, boolean available) {
+        add(articleId, brandId, categoryIds, price, available, true);
+    }
+
+    // Stock moves with every adjustment and reservation, so which articles are in stock is reloaded as a whole.
+    public void loadInStock(Stream<Long> articleIds) {
+        long[] ids;
+        try (articleIds) {
+            ids = articleIds.mapToLong(Long::longValue).toArray();
+        }
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap loaded = new RoaringBitmap();
+            for (long id : ids) {
+                Integer document = documentsByArticleId.get(id);
+                if (document != null) {
+                    loaded.add(document.intValue());
+                }
+            }
+            loaded.runOptimize();
+            inStock = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Facets are disjunctive: brand counts ignore the selected brands and category counts the selected categories,
+    // so every count tells how many articles selecting that value as well would match.
+    public ArticleFacets facets(ArticleFilter filter) {
+        lock.readLock().lock();
+        try {
+            Selection selection = select(filter);
+            RoaringBitmap brandScope = intersect(selection.matches(), selection.categoryMatches());
+            RoaringBitmap categoryScope = intersect(selection.matches(), selection.brandMatches());
+            return new ArticleFacets(counts(brands, brandScope), counts(categories, categoryScope),
+                    cardinality(intersect(brandScope, selection.brandMatches())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(ArticleFilter filter) {
+        lock.readLock().lock();
+        try {
+            Selection selection = select(filter);
+            return cardinality(intersect(intersect(selection.matches(), selection.brandMatches()), selection.categoryMatches()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getDocuments() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long articleId, Long brandId, Collection<Long> categoryIds, BigDecimal price, boolean available, boolean rank) {
+        lock.writeLock().lock();
+        try {
+            Integer indexed = documentsByArticleId.get(articleId);
+            int document = indexed == null ? documents : indexed;
+            if (indexed == null) {
+                documentsByArticleId.put(articleId, document);
+                documents++;
+                if (document == prices.length) {
+                    prices = Arrays.copyOf(prices, document * 2);
+                }
+                prices[document] = toCents(price, RoundingMode.HALF_UP);
+                if (rank) {
+                    rank(document);
+                }
+                brands.computeIfAbsent(brandId, id -> new RoaringBitmap()).add(document);
+                if (available) {
+                    inStock.add(document);
+                }
+            }
+            categoryIds.forEach(categoryId -> categories.computeIfAbsent(categoryId, id -> new RoaringBitmap()).add(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rank(int document) {
+        int position = firstPriceAbove(prices[document]);
+        if (ranked == documentsByPrice.length) {
+            documentsByPrice = Arrays.copyOf(documentsByPrice, Math.max(1024, ranked * 2));
+        }
+        System.arraycopy(documentsByPrice, position, documentsByPrice, position + 1, ranked - position);
+        documentsByPrice[position] = document;
+        ranked++;
+    }
+
+    // A null bitmap stands for every article, so unfiltered dimensions cost nothing.
+    private Selection select(ArticleFilter filter) {
+        RoaringBitmap matches = filter.hasPriceRange() ? priceRange(filter.getMinPrice(), filter.getMaxPrice()) : null;
+        if (filter.isInStockOnly()) {
+            matches = intersect(matches, inStock);
+        }
+        return new Selection(matches, union(brands, filter.getBrandIds()), union(categories, filter.getCategoryIds()));
+    }
+
+    private RoaringBitmap priceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        long min = minPrice == null ? Long.MIN_VALUE : toCents(minPrice, RoundingMode.CEILING);
+        long max = maxPrice == null ? Long.MAX_VALUE : toCents(maxPrice, RoundingMode.FLOOR);
+        RoaringBitmap range = new RoaringBitmap();
+        if (min <= max) {
+            int from = min == Long.MIN_VALUE ? 0 : firstPriceAbove(min - 1);
+            int to = firstPriceAbove(max);
+            range.addN(documentsByPrice, from, to - from);
+        }
+        return range;
+    }
+
+    private int firstPriceAbove(long price) {
+        int low = 0;
+        int high = ranked;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prices[documentsByPrice[middle]] <= price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long cardinality(RoaringBitmap bitmap) {
+        return bitmap == null ? documents : bitmap.getLongCardinality();
+    }
+
+    private static RoaringBitmap union(Map<Long, RoaringBitmap> bitmaps, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        return FastAggregation.or(ids.stream()
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap left, RoaringBitmap right) {
+        if (left == null) {
+            return right;
+        }
+        return right == null ? left : RoaringBitmap.and(left, right);
+    }
+
+    private static Map<Long, Long> counts(Map<Long, RoaringBitmap> bitmaps, RoaringBitmap scope) {
+        Map<Long, Long> counts = new TreeMap<>();
+        bitmaps.forEach((id, bitmap) -> {
+            long count = scope == null ? bitmap.getLongCardinality() : RoaringBitmap.andCardinality(bitmap, scope);
+            if (count > 0) {
+                counts.put(id, count);
+            }
+        });
+        return counts;
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        BigInteger cents = price.setScale(2, roundingMode).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    private record Selection(RoaringBitmap matches, RoaringBitmap brandMatches, RoaringBitmap categoryMatches) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Reloads the in-stock articles off the request path, so an in-stock filter never waits for the id scan.
+@Slf4j
+public class InStockRefresher implements SmartLifecycle {
+    private final ArticleFacetIndex articleFacetIndex;
+    private final IArticleRepository articleRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final Duration interval;
+    private final LongAdder refreshes = new LongAdder();
+    private ScheduledExecutorService executor;
+
+    public InStockRefresher(ArticleFacetIndex articleFacetIndex, IArticleRepository articleRepository,
+                            TransactionOperations readOnlyTransaction, Duration interval) {
+        this.articleFacetIndex = articleFacetIndex;
+        this.articleRepository = articleRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.interval = interval;
+    }
+
+    public void refresh() {
+        if (!articleFacetIndex.isLoaded()) {
+            return;
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    articleFacetIndex.loadInStock(articleRepository.streamInStockIds()));
+            refreshes.increment();
+        } catch (RuntimeException exception) {
+            log.warn("In-stock refresh failed, the previous set is kept", exception);
+        }
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "facet-in-stock-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(interval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
\ No newline at end of file
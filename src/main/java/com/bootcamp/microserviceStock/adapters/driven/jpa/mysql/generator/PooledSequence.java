@@ -0,0 +1,18 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// Ids drawn in blocks from the named sequence, see PooledSequenceGenerator.
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+    String name();
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.generator;
+
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    // Fixed rather than configurable: the migrations create every sequence for blocks of 50 (INCREMENT BY 50 on H2,
+    // next_val seeded past MAX(id) + 50 on MySQL), and any other size makes the pooled optimizer hand out ids that
+    // overlap or skip blocks.
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequence config) {
+        this.sequenceName = config.name();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.put(SEQUENCE_PARAM, sequenceName);
+        parameters.put(INCREMENT_PARAM, String.valueOf(ALLOCATION_SIZE));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.instrumentation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+public class RepositoryMethodInterceptor implements MethodInterceptor {
+    public static final String NO_REPOSITORY_METHOD = "none";
+
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    private final String repositoryName;
+
+    public RepositoryMethodInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    public static String currentMethod() {
+        String method = CURRENT_METHOD.get();
+        return method == null ? NO_REPOSITORY_METHOD : method;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String previous = CURRENT_METHOD.get();
+        CURRENT_METHOD.set(repositoryName + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT_METHOD.remove();
+            } else {
+                CURRENT_METHOD.set(previous);
+            }
+        }
+    }
+}
\ No newline at end of file
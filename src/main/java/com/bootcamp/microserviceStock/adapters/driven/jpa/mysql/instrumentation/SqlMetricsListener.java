@@ -0,0 +1,76 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class SqlMetricsListener implements QueryExecutionListener {
+    public static final String STATEMENT_TIMER = "stock.sql.statement";
+    public static final String SLOW_STATEMENT_COUNTER = "stock.sql.statement.slow";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final long slowThresholdMillis;
+    private final double logSampleRate;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+
+    public SqlMetricsListener(Supplier<MeterRegistry> meterRegistry, Duration slowThreshold, double logSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String method = RepositoryMethodInterceptor.currentMethod();
+        String type = queryInfoList.isEmpty()
+                ? "other"
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name().toLowerCase(Locale.ROOT);
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        timers.computeIfAbsent(method + '|' + type + '|' + execInfo.isSuccess(), key -> Timer.builder(STATEMENT_TIMER)
+                        .description("Time spent executing JDBC statements")
+                        .tag("method", method)
+                        .tag("type", type)
+                        .tag("success", String.valueOf(execInfo.isSuccess()))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.get()))
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= slowThresholdMillis) {
+            slowCounters.computeIfAbsent(method, key -> Counter.builder(SLOW_STATEMENT_COUNTER)
+                            .description("JDBC statements slower than the configured threshold")
+                            .tag("method", method)
+                            .register(meterRegistry.get()))
+                    .increment();
+            log.warn("slow sql method={} type={} elapsedMs={} batchSize={} query={}",
+                    method, type, elapsedMillis, execInfo.getBatchSize(), firstQuery(queryInfoList));
+        } else if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("sql method={} type={} elapsedMs={} batchSize={} success={} query={}",
+                    method, type, elapsedMillis, execInfo.getBatchSize(), execInfo.isSuccess(), firstQuery(queryInfoList));
+        }
+    }
+
+    private static String firstQuery(List<QueryInfo> queryInfoList) {
+        return queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockMovementEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockSnapshotEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IStockMovementEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArchivedStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class StockLedgerCompactor implements SmartLifecycle {
+    private final IStockMovementRepository stockMovementRepository;
+    private final IArchivedStockMovementRepository archivedStockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final IStockMovementEntityMapper stockMovementEntityMapper;
+    private final TransactionOperations transaction;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration interval;
+    private final LongAdder compacted = new LongAdder();
+    private ScheduledExecutorService executor;
+
+    public StockLedgerCompactor(IStockMovementRepository stockMovementRepository,
+                                IArchivedStockMovementRepository archivedStockMovementRepository,
+                                IStockSnapshotRepository stockSnapshotRepository,
+                                IStockMovementEntityMapper stockMovementEntityMapper,
+                                TransactionOperations transaction, Clock clock, int batchSize, Duration interval) {
+        this.stockMovementRepository = stockMovementRepository;
+        this.archivedStockMovementRepository = archivedStockMovementRepository;
+        this.stockSnapshotRepository = stockSnapshotRepository;
+        this.stockMovementEntityMapper = stockMovementEntityMapper;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    // Folds the oldest movements into their snapshots and moves them to the archive in the same transaction, so
+    // every movement is counted either in a snapshot or in the tail, never in both.
+    public int compactBatch() {
+        Integer folded = transaction.execute(status -> {
+            List<StockMovementEntity> movements = stockMovementRepository.lockNextBatch(PageRequest.of(0, batchSize));
+            if (movements.isEmpty()) {
+                return 0;
+            }
+            Map<Long, int[]> deltas = new TreeMap<>();
+            for (StockMovementEntity movement : movements) {
+                int[] delta = deltas.computeIfAbsent(movement.getArticleId(), articleId -> new int[2]);
+                delta[0] += movement.getQuantityDelta();
+                delta[1] += movement.getReservedDelta();
+            }
+
+            LocalDateTime updatedAt = LocalDateTime.now(clock);
+            Map<Long, StockSnapshotEntity> snapshots = stockSnapshotRepository.lockByArticleIds(deltas.keySet()).stream()
+                    .collect(Collectors.toMap(StockSnapshotEntity::getArticleId, Function.identity()));
+            stockSnapshotRepository.saveAll(deltas.entrySet().stream()
+                    .map(entry -> {
+                        StockSnapshotEntity snapshot = snapshots.computeIfAbsent(entry.getKey(),
+                                articleId -> new StockSnapshotEntity(articleId, 0, 0, updatedAt));
+                        snapshot.setQuantity(snapshot.getQuantity() + entry.getValue()[0]);
+                        snapshot.setReserved(snapshot.getReserved() + entry.getValue()[1]);
+                        snapshot.setUpdatedAt(updatedAt);
+                        return snapshot;
+                    })
+                    .toList());
+            archivedStockMovementRepository.saveAll(movements.stream().map(stockMovementEntityMapper::entityToArchive).toList());
+            stockMovementRepository.deleteAllInBatch(movements);
+            return movements.size();
+        });
+        int count = folded == null ? 0 : folded;
+        compacted.add(count);
+        return count;
+    }
+
+    public void drain() {
+        try {
+            int folded;
+            do {
+                folded = compactBatch();
+            } while (folded == batchSize);
+        } catch (RuntimeException exception) {
+            log.warn("Stock ledger compaction failed, the batch will be retried", exception);
+        }
+    }
+
+    public long getCompacted() {
+        return compacted.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-ledger-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(interval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
\ No newline at end of file
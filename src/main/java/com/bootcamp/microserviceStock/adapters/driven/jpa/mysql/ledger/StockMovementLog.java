@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockMovementEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StockMovementLog {
+    private final IStockMovementRepository stockMovementRepository;
+    private final Clock clock;
+
+    public void recordReceipts(List<ArticleEntity> articles) {
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        stockMovementRepository.saveAll(articles.stream()
+                .map(article -> new StockMovementEntity(null, article.getId(), StockMovementReason.RECEIPT,
+                        article.getQuantity() == null ? 0 : article.getQuantity(), 0, createdAt))
+                .toList());
+    }
+
+    public void recordAdjustment(Long articleId, int delta) {
+        record(articleId, StockMovementReason.ADJUSTMENT, delta, 0);
+    }
+
+    public void recordAdjustments(Long articleId, List<Integer> deltas) {
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        stockMovementRepository.saveAll(deltas.stream()
+                .map(delta -> new StockMovementEntity(null, articleId, StockMovementReason.ADJUSTMENT, delta, 0, createdAt))
+                .toList());
+    }
+
+    public void recordReservation(Long articleId, int quantity) {
+        record(articleId, StockMovementReason.RESERVATION, 0, quantity);
+    }
+
+    public void recordRelease(Long articleId, int quantity) {
+        record(articleId, StockMovementReason.RELEASE, 0, -quantity);
+    }
+
+    public void recordSale(Long articleId, int quantity) {
+        record(articleId, StockMovementReason.SALE, -quantity, -quantity);
+    }
+
+    private void record(Long articleId, StockMovementReason reason, int quantityDelta, int reservedDelta) {
+        stockMovementRepository.save(new StockMovementEntity(null, articleId, reason, quantityDelta, reservedDelta, LocalDateTime.now(clock)));
+    }
+}
\ No newline at end of file
@@ -1,25 +1,92 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
 
-import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow;
 import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
-@RequiredArgsConstructor
 public class ArticlePageMapper {
-    private final IArticleEntityMapper articleEntityMapper;
+    public Map<Long, Article> rowsToArticlesById(List<ArticleRow> rows) {
+        Map<Long, Article> articlesById = new HashMap<>();
+        Map<Long, Brand> brandsById = new HashMap<>();
+        Article article = null;
+        for (ArticleRow row : rows) {
+            if (article == null || !article.getId().equals(row.id())) {
+                Brand brand = brandsById.computeIfAbsent(row.brandId(), brandId -> new Brand(brandId, row.brandName(), null));
+                article = new Article(row.id(), row.name(), row.description(), row.quantity(), row.price(), brand, new ArrayList<>(2));
+                articlesById.put(row.id(), article);
+            }
+            if (row.categoryId() != null) {
+                article.getCategoryList().add(new Category(row.categoryId(), row.categoryName(), null));
+            }
+        }
+        return articlesById;
+    }
 
-    public Pagination<Article> pageToPagination(Page<ArticleEntity> page) {
+    public void rowsToArticles(Iterator<ArticleRow> rows, Consumer<Article> consumer) {
+        Article article = null;
+        while (rows.hasNext()) {
+            ArticleRow row = rows.next();
+            if (article == null || !article.getId().equals(row.id())) {
+                if (article != null) {
+                    consumer.accept(article);
+                }
+                article = new Article(row.id(), row.name(), row.description(), row.quantity(), row.price(),
+                        new Brand(row.brandId(), row.brandName(), null), new ArrayList<>(2));
+            }
+            if (row.categoryId() != null) {
+                article.getCategoryList().add(new Category(row.categoryId(), row.categoryName(), null));
+            }
+        }
+        if (article != null) {
+            consumer.accept(article);
+        }
+    }
+
+    public Pagination<Article> pageToPagination(Page<Article> page) {
         Pagination<Article> pagination = new Pagination<>();
-        pagination.setContent(page.getContent().stream()
-                .map(articleEntityMapper::entityToDomain)
-                .toList()
-        );
+        pagination.setContent(page.getContent());
         pagination.setPageNumber(page.getNumber());
         pagination.setPageSize(page.getSize());
         pagination.setTotalElements(page.getTotalElements());
         pagination.setTotalPages(page.getTotalPages());
+        pagination.setFirst(page.isFirst());
+        pagination.setLast(page.isLast());
         return pagination;
     }
+
+    public Pagination<Article> sliceToPagination(Slice<Article> slice, Long approximateTotal) {
+        Pagination<Article> pagination = new Pagination<>(slice.getContent(), slice.getNumber(), slice.getSize(), !slice.hasNext());
+        if (approximateTotal != null) {
+            pagination.setTotalElements(approximateTotal);
+            pagination.setTotalPages((int) Math.ceil((double) approximateTotal / slice.getSize()));
+            pagination.setApproximateTotal(true);
+        }
+        return pagination;
+    }
+
+    public CursorPagination<Article> rowsToCursorPagination(List<Article> rows, int pageSize, Function<Article, String> sortKey,
+                                                           String sortBy, String sortDirection) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Article> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Article lastRow = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PageCursor(lastRow.getId(), sortKey.apply(lastRow), sortBy, sortDirection).encode();
+        }
+        return new CursorPagination<>(pageRows, pageSize, nextCursor);
+    }
 }
\ No newline at end of file
@@ -2,9 +2,14 @@ package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
 
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 public class BrandPageMapper {
@@ -20,6 +25,33 @@ public class BrandPageMapper {
         pagination.setPageSize(page.getSize());
         pagination.setTotalElements(page.getTotalElements());
         pagination.setTotalPages(page.getTotalPages());
+        pagination.setFirst(page.isFirst());
+        pagination.setLast(page.isLast());
+        return pagination;
+    }
+
+    public Pagination<Brand> sliceToPagination(Slice<BrandEntity> slice, Long approximateTotal) {
+        Pagination<Brand> pagination = new Pagination<>(slice.getContent().stream()
+                .map(brandEntityMapper::entityToDomain)
+                .toList(), slice.getNumber(), slice.getSize(), !slice.hasNext());
+        if (approximateTotal != null) {
+            pagination.setTotalElements(approximateTotal);
+            pagination.setTotalPages((int) Math.ceil((double) approximateTotal / slice.getSize()));
+            pagination.setApproximateTotal(true);
+        }
         return pagination;
     }
+
+    public CursorPagination<Brand> rowsToCursorPagination(List<BrandEntity> rows, int pageSize, String sortBy, String sortDirection) {
+        boolean hasNext = rows.size() > pageSize;
+        List<BrandEntity> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BrandEntity lastRow = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PageCursor(lastRow.getId(), lastRow.getName(), sortBy, sortDirection).encode();
+        }
+        return new CursorPagination<>(pageRows.stream()
+                .map(brandEntityMapper::entityToDomain)
+                .toList(), pageSize, nextCursor);
+    }
 }
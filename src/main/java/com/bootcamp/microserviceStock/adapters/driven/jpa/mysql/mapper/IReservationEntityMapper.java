@@ -0,0 +1,12 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ReservationEntity;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IReservationEntityMapper {
+    ReservationEntity reservationToEntity(Reservation reservation);
+
+    Reservation entityToDomain(ReservationEntity reservationEntity);
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArchivedStockMovementEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockMovementEntity;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IStockMovementEntityMapper {
+    StockMovement entityToDomain(StockMovementEntity stockMovementEntity);
+
+    StockMovement archivedEntityToDomain(ArchivedStockMovementEntity archivedStockMovementEntity);
+
+    ArchivedStockMovementEntity entityToArchive(StockMovementEntity stockMovementEntity);
+}
\ No newline at end of file
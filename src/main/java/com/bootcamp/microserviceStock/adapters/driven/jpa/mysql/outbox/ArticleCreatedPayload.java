@@ -0,0 +1,15 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ArticleCreatedPayload(
+        long id,
+        String name,
+        String description,
+        Integer quantity,
+        BigDecimal price,
+        long brandId,
+        List<Long> categoryIds
+) {
+}
\ No newline at end of file
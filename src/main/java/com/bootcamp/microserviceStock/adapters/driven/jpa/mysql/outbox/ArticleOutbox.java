@@ -0,0 +1,46 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.OutboxEventEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ArticleOutbox {
+    public static final String AGGREGATE_TYPE = "article";
+    public static final String ARTICLE_CREATED = "article.created";
+
+    private final IOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public void recordCreated(List<ArticleEntity> articles) {
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        outboxEventRepository.saveAll(articles.stream()
+                .map(article -> new OutboxEventEntity(null, AGGREGATE_TYPE, article.getId(), ARTICLE_CREATED, payload(article), createdAt))
+                .toList());
+    }
+
+    private String payload(ArticleEntity article) {
+        ArticleCreatedPayload payload = new ArticleCreatedPayload(
+                article.getId(),
+                article.getName(),
+                article.getDescription(),
+                article.getQuantity(),
+                article.getPrice(),
+                article.getBrand().getId(),
+                article.getCategoryEntityList().stream().map(CategoryEntity::getId).toList());
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.OutboxEventEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.IOutboxPublisher;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+    private final IOutboxEventRepository outboxEventRepository;
+    private final IOutboxPublisher publisher;
+    private final TransactionOperations transaction;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final LongAdder published = new LongAdder();
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(IOutboxEventRepository outboxEventRepository, IOutboxPublisher publisher, TransactionOperations transaction,
+                       int batchSize, Duration pollInterval) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.transaction = transaction;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    public int relayBatch() {
+        Integer relayed = transaction.execute(status -> {
+            List<OutboxEventEntity> events = outboxEventRepository.lockNextBatch(PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(events.stream()
+                    .map(event -> new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                            event.getEventType(), event.getPayload(), event.getCreatedAt()))
+                    .toList());
+            outboxEventRepository.deleteAllInBatch(events);
+            return events.size();
+        });
+        int count = relayed == null ? 0 : relayed;
+        published.add(count);
+        return count;
+    }
+
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException exception) {
+            log.warn("Outbox relay failed, the batch will be retried", exception);
+        }
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(pollInterval.toMillis() + 5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
\ No newline at end of file
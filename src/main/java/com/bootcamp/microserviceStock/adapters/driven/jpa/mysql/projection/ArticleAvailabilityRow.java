@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+public interface ArticleAvailabilityRow {
+    Long getId();
+    Integer getQuantity();
+    Integer getReserved();
+}
\ No newline at end of file
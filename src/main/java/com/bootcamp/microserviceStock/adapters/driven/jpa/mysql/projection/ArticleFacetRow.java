@@ -0,0 +1,6 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+import java.math.BigDecimal;
+
+public record ArticleFacetRow(Long id, Long brandId, Long categoryId, BigDecimal price) {
+}
\ No newline at end of file
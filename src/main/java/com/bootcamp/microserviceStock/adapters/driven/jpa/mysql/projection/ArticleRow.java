@@ -0,0 +1,16 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+import java.math.BigDecimal;
+
+public record ArticleRow(
+        Long id,
+        String name,
+        String description,
+        Integer quantity,
+        BigDecimal price,
+        Long brandId,
+        String brandName,
+        Long categoryId,
+        String categoryName
+) {
+}
\ No newline at end of file
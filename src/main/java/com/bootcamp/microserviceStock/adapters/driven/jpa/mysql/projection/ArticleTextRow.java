@@ -0,0 +1,8 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+public record ArticleTextRow(
+        Long id,
+        String name,
+        String description
+) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+public interface FacetCountRow {
+    Long getId();
+    Long getArticles();
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection;
+
+public record NameRow(
+        Long id,
+        String name
+) {
+}
\ No newline at end of file
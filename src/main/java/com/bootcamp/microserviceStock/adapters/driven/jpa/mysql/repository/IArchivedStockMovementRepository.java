@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArchivedStockMovementEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface IArchivedStockMovementRepository extends JpaRepository<ArchivedStockMovementEntity, Long> {
+    @Query("SELECT m FROM ArchivedStockMovementEntity m WHERE m.articleId = :articleId AND m.id < :before ORDER BY m.id DESC")
+    List<ArchivedStockMovementEntity> findByArticleIdBefore(@Param("articleId") Long articleId, @Param("before") Long before, Pageable pageable);
+}
\ No newline at end of file
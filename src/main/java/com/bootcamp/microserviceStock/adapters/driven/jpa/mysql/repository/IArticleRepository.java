@@ -1,10 +1,287 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
 
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleAvailabilityRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleFacetRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleTextRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.FacetCountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IArticleRepository extends JpaRepository<ArticleEntity, Long> {
+    // Native because in-stock means 'quantity > reserved'. An empty id list can't be bound to IN,
+    // so each list comes with a flag telling whether it filters at all.
+    String FILTER = "(:brandFiltered = FALSE OR a.id_brand IN (:brandIds)) " +
+            "AND (:categoryFiltered = FALSE OR EXISTS (SELECT 1 FROM article_category fac " +
+            "WHERE fac.id_article = a.id AND fac.id_category IN (:categoryIds))) " +
+            "AND a.price BETWEEN :minPrice AND :maxPrice " +
+            "AND (:inStockOnly = FALSE OR a.quantity > a.reserved)";
+
     Optional<ArticleEntity> findByName(String name);
+
+    boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.name FROM ArticleEntity a")
+    Stream<String> streamAllNames();
+
+    @Query("SELECT a.name FROM ArticleEntity a WHERE a.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("SELECT a.id FROM ArticleEntity a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 'reserved' is only written by these statements, so it is not mapped on ArticleEntity.
+    @Modifying
+    @Query(value = "UPDATE article SET quantity = quantity + :delta, change_version = NULL " +
+            "WHERE id = :id AND quantity + :delta >= reserved", nativeQuery = true)
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta);
+
+    // Applies a sum of deltas only if the stock never drops below 'reserved' at any point along the way, where
+    // 'lowest' is the smallest running total of the deltas in their arrival order.
+    @Modifying
+    @Query(value = "UPDATE article SET quantity = quantity + :delta, change_version = NULL " +
+            "WHERE id = :id AND quantity + :lowest >= reserved", nativeQuery = true)
+    int adjustQuantityNeverBelow(@Param("id") Long id, @Param("delta") int delta, @Param("lowest") int lowest);
+
+    @Modifying
+    @Query(value = "UPDATE article SET reserved = reserved + :quantity WHERE id = :id AND quantity - reserved >= :quantity",
+            nativeQuery = true)
+    int reserveQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE article SET reserved = reserved - :quantity WHERE id = :id", nativeQuery = true)
+    int releaseReservedQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE article SET quantity = quantity - :quantity, reserved = reserved - :quantity, " +
+            "change_version = NULL WHERE id = :id", nativeQuery = true)
+    int confirmReservedQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // Runs once the quantity updates hold their row locks, so the time is not taken before a lock wait.
+    @Modifying
+    @Query(value = "UPDATE article SET updated_at = :updatedAt WHERE id IN :ids", nativeQuery = true)
+    int touchUpdatedAt(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Category names never change, so the name of the first category is written once, when the article is created.
+    @Modifying
+    @Query(value = "UPDATE article a SET primary_category_name = (SELECT c.name FROM category c " +
+            "WHERE c.id = (SELECT MIN(ac.id_category) FROM article_category ac WHERE ac.id_article = a.id)) " +
+            "WHERE a.id IN :ids", nativeQuery = true)
+    int fillPrimaryCategoryNames(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT id, quantity, reserved FROM article WHERE id = :id", nativeQuery = true)
+    Optional<ArticleAvailabilityRow> findAvailability(@Param("id") Long id);
+
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow(" +
+            "a.id, a.name, a.description, a.quantity, a.price, b.id, b.name, c.id, c.name) " +
+            "FROM ArticleEntity a JOIN a.brand b LEFT JOIN a.categoryEntityList c " +
+            "WHERE a.id IN :ids ORDER BY a.id, c.id")
+    List<ArticleRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow(" +
+            "a.id, a.name, a.description, a.quantity, a.price, b.id, b.name, c.id, c.name) " +
+            "FROM ArticleEntity a JOIN a.brand b LEFT JOIN a.categoryEntityList c " +
+            "ORDER BY a.id, c.id")
+    Stream<ArticleRow> streamAllRows();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleTextRow(a.id, a.name, a.description) " +
+            "FROM ArticleEntity a ORDER BY a.id")
+    Stream<ArticleTextRow> streamAllText();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleFacetRow(a.id, a.brand.id, c.id, a.price) " +
+            "FROM ArticleEntity a LEFT JOIN a.categoryEntityList c ORDER BY a.id")
+    Stream<ArticleFacetRow> streamAllFacetRows();
+
+    // Only used until the search index has loaded.
+    @Query("SELECT a.id FROM ArticleEntity a " +
+            "WHERE LOWER(a.name) LIKE :pattern ESCAPE '!' OR LOWER(a.description) LIKE :pattern ESCAPE '!' " +
+            "ORDER BY a.name ASC, a.id ASC")
+    List<Long> findIdsByTextLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT id FROM article WHERE quantity > reserved", nativeQuery = true)
+    Stream<Long> streamInStockIds();
+
+    @Query("SELECT a.id FROM ArticleEntity a WHERE a.changeVersion > :since AND a.changeVersion <= :through ORDER BY a.changeVersion")
+    List<Long> findIdsChangedSince(@Param("since") long since, @Param("through") long through, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a WHERE a.changeVersion IS NULL ORDER BY a.id")
+    List<Long> findUnstampedIds(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.changeVersion = a.id + :offset WHERE a.id IN :ids AND a.changeVersion IS NULL")
+    int stampVersions(@Param("ids") Collection<Long> ids, @Param("offset") long offset);
+
+    @EntityGraph(attributePaths = {"brand", "categoryEntityList"})
+    List<ArticleEntity> findWithBrandAndCategoriesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT a.id FROM ArticleEntity a")
+    Page<Long> findIdPage(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a")
+    Slice<Long> findIdSlice(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b ORDER BY b.name ASC, a.id ASC")
+    Slice<Long> findIdsOrderByBrandNameAsc(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b ORDER BY b.name DESC, a.id DESC")
+    Slice<Long> findIdsOrderByBrandNameDesc(Pageable pageable);
+
+    // Sorted on the copied name of the first category, so one indexed read serves the page and articles without a
+    // category are still listed, as they are counted in the total.
+    @Query(value = "SELECT a.id FROM article a ORDER BY a.primary_category_name ASC, a.id ASC", nativeQuery = true)
+    Slice<Long> findIdsOrderByCategoryNameAsc(Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a ORDER BY a.primary_category_name DESC, a.id DESC", nativeQuery = true)
+    Slice<Long> findIdsOrderByCategoryNameDesc(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a ORDER BY a.name ASC, a.id ASC")
+    List<Long> findFirstIdsOrderByNameAsc(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a ORDER BY a.name DESC, a.id DESC")
+    List<Long> findFirstIdsOrderByNameDesc(Pageable pageable);
+
+    // The sort key bound comes first, on its own, so it is a range on the index of the sort key.
+    @Query("SELECT a.id FROM ArticleEntity a " +
+            "WHERE a.name >= :lastSortKey AND (a.name > :lastSortKey OR a.id > :lastId) " +
+            "ORDER BY a.name ASC, a.id ASC")
+    List<Long> findIdsAfterOrderByNameAsc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a " +
+            "WHERE a.name <= :lastSortKey AND (a.name < :lastSortKey OR a.id < :lastId) " +
+            "ORDER BY a.name DESC, a.id DESC")
+    List<Long> findIdsAfterOrderByNameDesc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b ORDER BY b.name ASC, a.id ASC")
+    List<Long> findFirstIdsOrderByBrandNameAsc(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b ORDER BY b.name DESC, a.id DESC")
+    List<Long> findFirstIdsOrderByBrandNameDesc(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b " +
+            "WHERE b.name >= :lastSortKey AND (b.name > :lastSortKey OR a.id > :lastId) " +
+            "ORDER BY b.name ASC, a.id ASC")
+    List<Long> findIdsAfterOrderByBrandNameAsc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a JOIN a.brand b " +
+            "WHERE b.name <= :lastSortKey AND (b.name < :lastSortKey OR a.id < :lastId) " +
+            "ORDER BY b.name DESC, a.id DESC")
+    List<Long> findIdsAfterOrderByBrandNameDesc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    // The name of the first category is copied onto the article, so the scroll is a range on its own index
+    // instead of a join and a subquery per article.
+    @Query(value = "SELECT a.id FROM article a WHERE a.primary_category_name IS NOT NULL " +
+            "ORDER BY a.primary_category_name ASC, a.id ASC", nativeQuery = true)
+    List<Long> findFirstIdsOrderByCategoryNameAsc(Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a WHERE a.primary_category_name IS NOT NULL " +
+            "ORDER BY a.primary_category_name DESC, a.id DESC", nativeQuery = true)
+    List<Long> findFirstIdsOrderByCategoryNameDesc(Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a " +
+            "WHERE a.primary_category_name >= :lastSortKey AND (a.primary_category_name > :lastSortKey OR a.id > :lastId) " +
+            "ORDER BY a.primary_category_name ASC, a.id ASC", nativeQuery = true)
+    List<Long> findIdsAfterOrderByCategoryNameAsc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a " +
+            "WHERE a.primary_category_name <= :lastSortKey AND (a.primary_category_name < :lastSortKey OR a.id < :lastId) " +
+            "ORDER BY a.primary_category_name DESC, a.id DESC", nativeQuery = true)
+    List<Long> findIdsAfterOrderByCategoryNameDesc(@Param("lastSortKey") String lastSortKey, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a WHERE " + FILTER + " ORDER BY a.name ASC, a.id ASC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByNameAsc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                              @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                              @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                              @Param("inStockOnly") boolean inStockOnly,
+                                              Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a WHERE " + FILTER + " ORDER BY a.name DESC, a.id DESC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByNameDesc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                               @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                               @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                               @Param("inStockOnly") boolean inStockOnly,
+                                               Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a JOIN brand b ON b.id = a.id_brand WHERE " + FILTER +
+            " ORDER BY b.name ASC, a.id ASC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByBrandNameAsc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                                   @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                                   @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                   @Param("inStockOnly") boolean inStockOnly,
+                                                   Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a JOIN brand b ON b.id = a.id_brand WHERE " + FILTER +
+            " ORDER BY b.name DESC, a.id DESC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByBrandNameDesc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                                    @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                                    @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                    @Param("inStockOnly") boolean inStockOnly,
+                                                    Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a WHERE " + FILTER +
+            " ORDER BY a.primary_category_name ASC, a.id ASC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByCategoryNameAsc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                                      @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                                      @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                      @Param("inStockOnly") boolean inStockOnly,
+                                                      Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM article a WHERE " + FILTER +
+            " ORDER BY a.primary_category_name DESC, a.id DESC", nativeQuery = true)
+    Slice<Long> findFilteredIdsOrderByCategoryNameDesc(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                                       @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                                       @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                       @Param("inStockOnly") boolean inStockOnly,
+                                                       Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM article a WHERE " + FILTER, nativeQuery = true)
+    long countFiltered(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                       @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                       @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                       @Param("inStockOnly") boolean inStockOnly);
+
+    // The two facet counts below are only used until the facet index has loaded.
+    @Query(value = "SELECT a.id_brand AS id, COUNT(*) AS articles FROM article a WHERE " + FILTER +
+            " GROUP BY a.id_brand", nativeQuery = true)
+    List<FacetCountRow> countFilteredByBrand(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                             @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                             @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                             @Param("inStockOnly") boolean inStockOnly);
+
+    @Query(value = "SELECT ac.id_category AS id, COUNT(*) AS articles FROM article a " +
+            "JOIN article_category ac ON ac.id_article = a.id WHERE " + FILTER + " GROUP BY ac.id_category", nativeQuery = true)
+    List<FacetCountRow> countFilteredByCategory(@Param("brandFiltered") boolean brandFiltered, @Param("brandIds") Collection<Long> brandIds,
+                                                @Param("categoryFiltered") boolean categoryFiltered, @Param("categoryIds") Collection<Long> categoryIds,
+                                                @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                                @Param("inStockOnly") boolean inStockOnly);
 }
\ No newline at end of file
@@ -1,10 +1,69 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
 
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IBrandRepository extends JpaRepository<BrandEntity, Long> {
     Optional<BrandEntity> findByName(String name);
+
+    boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.name FROM BrandEntity b")
+    Stream<String> streamAllNames();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow(b.id, b.name) FROM BrandEntity b")
+    Stream<NameRow> streamAllNameRows();
+
+    // Only used until the suggestion index has loaded.
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow(b.id, b.name) " +
+            "FROM BrandEntity b WHERE LOWER(b.name) LIKE :pattern ESCAPE '!' ORDER BY b.name ASC, b.id ASC")
+    List<NameRow> findNameRowsLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT b.id FROM BrandEntity b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b FROM BrandEntity b WHERE b.changeVersion > :since AND b.changeVersion <= :through ORDER BY b.changeVersion")
+    List<BrandEntity> findChangedSince(@Param("since") long since, @Param("through") long through, Pageable pageable);
+
+    @Query("SELECT b.id FROM BrandEntity b WHERE b.changeVersion IS NULL ORDER BY b.id")
+    List<Long> findUnstampedIds(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE BrandEntity b SET b.changeVersion = b.id + :offset WHERE b.id IN :ids AND b.changeVersion IS NULL")
+    int stampVersions(@Param("ids") Collection<Long> ids, @Param("offset") long offset);
+
+    Slice<BrandEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT b FROM BrandEntity b ORDER BY b.name ASC, b.id ASC")
+    List<BrandEntity> findFirstPageOrderByNameAsc(Pageable pageable);
+
+    @Query("SELECT b FROM BrandEntity b ORDER BY b.name DESC, b.id DESC")
+    List<BrandEntity> findFirstPageOrderByNameDesc(Pageable pageable);
+
+    // The name bound comes first, on its own, so it is a range on the name index.
+    @Query("SELECT b FROM BrandEntity b " +
+            "WHERE b.name >= :lastName AND (b.name > :lastName OR b.id > :lastId) " +
+            "ORDER BY b.name ASC, b.id ASC")
+    List<BrandEntity> findPageAfterOrderByNameAsc(@Param("lastName") String lastName, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT b FROM BrandEntity b " +
+            "WHERE b.name <= :lastName AND (b.name < :lastName OR b.id < :lastId) " +
+            "ORDER BY b.name DESC, b.id DESC")
+    List<BrandEntity> findPageAfterOrderByNameDesc(@Param("lastName") String lastName, @Param("lastId") Long lastId, Pageable pageable);
 }
\ No newline at end of file
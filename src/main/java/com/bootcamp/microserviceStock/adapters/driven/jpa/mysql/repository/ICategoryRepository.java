@@ -1,10 +1,69 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
 
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ICategoryRepository extends JpaRepository<CategoryEntity, Long> {
     Optional<CategoryEntity> findByName(String name);
+
+    boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.name FROM CategoryEntity c")
+    Stream<String> streamAllNames();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow(c.id, c.name) FROM CategoryEntity c")
+    Stream<NameRow> streamAllNameRows();
+
+    // Only used until the suggestion index has loaded.
+    @Query("SELECT new com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow(c.id, c.name) " +
+            "FROM CategoryEntity c WHERE LOWER(c.name) LIKE :pattern ESCAPE '!' ORDER BY c.name ASC, c.id ASC")
+    List<NameRow> findNameRowsLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c FROM CategoryEntity c WHERE c.changeVersion > :since AND c.changeVersion <= :through ORDER BY c.changeVersion")
+    List<CategoryEntity> findChangedSince(@Param("since") long since, @Param("through") long through, Pageable pageable);
+
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.changeVersion IS NULL ORDER BY c.id")
+    List<Long> findUnstampedIds(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE CategoryEntity c SET c.changeVersion = c.id + :offset WHERE c.id IN :ids AND c.changeVersion IS NULL")
+    int stampVersions(@Param("ids") Collection<Long> ids, @Param("offset") long offset);
+
+    Slice<CategoryEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT c FROM CategoryEntity c ORDER BY c.name ASC, c.id ASC")
+    List<CategoryEntity> findFirstPageOrderByNameAsc(Pageable pageable);
+
+    @Query("SELECT c FROM CategoryEntity c ORDER BY c.name DESC, c.id DESC")
+    List<CategoryEntity> findFirstPageOrderByNameDesc(Pageable pageable);
+
+    // The name bound comes first, on its own, so it is a range on the name index.
+    @Query("SELECT c FROM CategoryEntity c " +
+            "WHERE c.name >= :lastName AND (c.name > :lastName OR c.id > :lastId) " +
+            "ORDER BY c.name ASC, c.id ASC")
+    List<CategoryEntity> findPageAfterOrderByNameAsc(@Param("lastName") String lastName, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT c FROM CategoryEntity c " +
+            "WHERE c.name <= :lastName AND (c.name < :lastName OR c.id < :lastId) " +
+            "ORDER BY c.name DESC, c.id DESC")
+    List<CategoryEntity> findPageAfterOrderByNameDesc(@Param("lastName") String lastName, @Param("lastId") Long lastId, Pageable pageable);
 }
\ No newline at end of file
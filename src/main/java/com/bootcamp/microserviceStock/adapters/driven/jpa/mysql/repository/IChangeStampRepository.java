@@ -0,0 +1,16 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ChangeStampEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface IChangeStampRepository extends JpaRepository<ChangeStampEntity, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChangeStampEntity s")
+    ChangeStampEntity lockStamp();
+
+    @Query("SELECT s.lastVersion FROM ChangeStampEntity s")
+    long findLastVersion();
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface IOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+    // A lock timeout of -2 is how Hibernate asks for SKIP LOCKED.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT e FROM OutboxEventEntity e ORDER BY e.id")
+    List<OutboxEventEntity> lockNextBatch(Pageable pageable);
+}
\ No newline at end of file
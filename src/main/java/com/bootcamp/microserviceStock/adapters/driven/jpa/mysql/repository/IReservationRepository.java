@@ -0,0 +1,25 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ReservationEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.stream.Stream;
+
+public interface IReservationRepository extends JpaRepository<ReservationEntity, Long> {
+    @Modifying
+    @Query("DELETE FROM ReservationEntity r WHERE r.id = :id")
+    int deleteReservation(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM ReservationEntity r")
+    Stream<ReservationEntity> streamAll();
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockMovementEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleAvailabilityRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IStockMovementRepository extends JpaRepository<StockMovementEntity, Long> {
+    // A lock timeout of -2 is how Hibernate asks for SKIP LOCKED.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT m FROM StockMovementEntity m ORDER BY m.id")
+    List<StockMovementEntity> lockNextBatch(Pageable pageable);
+
+    // A single statement reads the snapshot and the tail from the same view, so a compaction committing in between
+    // can't count movements twice or miss them.
+    @Query(value = "SELECT a.id AS id, " +
+            "COALESCE(s.quantity, 0) + COALESCE((SELECT SUM(m.quantity_delta) FROM stock_movement m WHERE m.id_article = a.id), 0) AS quantity, " +
+            "COALESCE(s.reserved, 0) + COALESCE((SELECT SUM(m.reserved_delta) FROM stock_movement m WHERE m.id_article = a.id), 0) AS reserved " +
+            "FROM article a LEFT JOIN stock_snapshot s ON s.id_article = a.id WHERE a.id = :id", nativeQuery = true)
+    Optional<ArticleAvailabilityRow> findStockLevel(@Param("id") Long articleId);
+
+    @Query("SELECT m FROM StockMovementEntity m WHERE m.articleId = :articleId AND m.id < :before ORDER BY m.id DESC")
+    List<StockMovementEntity> findByArticleIdBefore(@Param("articleId") Long articleId, @Param("before") Long before, Pageable pageable);
+}
\ No newline at end of file
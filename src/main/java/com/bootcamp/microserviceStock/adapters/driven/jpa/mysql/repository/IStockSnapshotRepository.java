@@ -0,0 +1,17 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockSnapshotEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface IStockSnapshotRepository extends JpaRepository<StockSnapshotEntity, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockSnapshotEntity s WHERE s.articleId IN :articleIds ORDER BY s.articleId")
+    List<StockSnapshotEntity> lockByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ExpiringReservationPersistencePort implements IReservationPersistencePort {
+    private final IReservationPersistencePort reservationPersistencePort;
+    private final ReservationSweeper reservationSweeper;
+
+    @Override
+    public Reservation reserve(Reservation reservation) {
+        Reservation reserved = reservationPersistencePort.reserve(reservation);
+        if (reserved != null) {
+            reservationSweeper.schedule(reserved);
+        }
+        return reserved;
+    }
+
+    @Override
+    public Reservation findReservation(Long id) {
+        return reservationPersistencePort.findReservation(id);
+    }
+
+    @Override
+    public boolean confirmReservation(Reservation reservation) {
+        boolean confirmed = reservationPersistencePort.confirmReservation(reservation);
+        reservationSweeper.cancel(reservation);
+        return confirmed;
+    }
+
+    @Override
+    public boolean releaseReservation(Reservation reservation) {
+        boolean released = reservationPersistencePort.releaseReservation(reservation);
+        reservationSweeper.cancel(reservation);
+        return released;
+    }
+
+    @Override
+    public StockAvailability findAvailability(Long articleId) {
+        return reservationPersistencePort.findAvailability(articleId);
+    }
+
+    @Override
+    public void forEachReservation(Consumer<Reservation> consumer) {
+        reservationPersistencePort.forEachReservation(consumer);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class ReservationSweeper implements SmartLifecycle {
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final IReservationPersistencePort reservationPersistencePort;
+    private final Clock clock;
+    private final DelayQueue<ExpiringReservation> reservations = new DelayQueue<>();
+    private final Map<Long, ExpiringReservation> scheduled = new ConcurrentHashMap<>();
+    private final LongAdder expired = new LongAdder();
+    private Thread sweeper;
+
+    public ReservationSweeper(IReservationPersistencePort reservationPersistencePort, Clock clock) {
+        this.reservationPersistencePort = reservationPersistencePort;
+        this.clock = clock;
+    }
+
+    public void schedule(Reservation reservation) {
+        Duration ttl = Duration.between(LocalDateTime.now(clock), reservation.getExpiresAt());
+        enqueue(reservation, System.nanoTime() + ttl.toNanos());
+    }
+
+    // Confirmed and released holds leave the queue right away instead of waiting out their TTL.
+    public void cancel(Reservation reservation) {
+        ExpiringReservation pending = scheduled.remove(reservation.getId());
+        if (pending != null) {
+            reservations.remove(pending);
+        }
+    }
+
+    public int getScheduled() {
+        return reservations.size();
+    }
+
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        // Holds taken before a restart are only known to the database, so they are queued once on startup.
+        reservations.clear();
+        scheduled.clear();
+        reservationPersistencePort.forEachReservation(this::schedule);
+        sweeper = new Thread(this::sweep, "reservation-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        sweeper.interrupt();
+        try {
+            sweeper.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        sweeper = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return sweeper != null;
+    }
+
+    private void sweep() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ExpiringReservation due = reservations.take();
+                if (scheduled.remove(due.reservation().getId(), due)) {
+                    expire(due.reservation());
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A hold settled while it was being taken off the queue is gone already, so its release finds nothing to delete.
+    private void expire(Reservation reservation) {
+        try {
+            if (reservationPersistencePort.releaseReservation(reservation)) {
+                expired.increment();
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Reservation {} could not be expired, retrying", reservation.getId(), exception);
+            enqueue(reservation, System.nanoTime() + RETRY_DELAY.toNanos());
+        }
+    }
+
+    private void enqueue(Reservation reservation, long dueAtNanos) {
+        ExpiringReservation pending = new ExpiringReservation(reservation, dueAtNanos);
+        ExpiringReservation replaced = scheduled.put(reservation.getId(), pending);
+        if (replaced != null) {
+            reservations.remove(replaced);
+        }
+        reservations.put(pending);
+    }
+
+    private record ExpiringReservation(Reservation reservation, long dueAtNanos) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtNanos, ((ExpiringReservation) other).dueAtNanos);
+        }
+    }
+}
\ No newline at end of file
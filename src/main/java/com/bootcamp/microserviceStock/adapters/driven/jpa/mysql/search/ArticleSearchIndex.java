@@ -0,0 +1,550 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleTextRow;
+import com.bootcamp.microserviceStock.domain.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class ArticleSearchIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_WEIGHT = Byte.MAX_VALUE;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final float PREFIX_FACTOR = 0.5f;
+    private static final int EXHAUSTED = Integer.MAX_VALUE;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> documentsByArticleId = new HashMap<>();
+    private long[] articleIds = new long[1024];
+    private int documents;
+    private volatile boolean loaded;
+
+    public void load(Stream<ArticleTextRow> rows) {
+        try (rows) {
+            rows.forEach(row -> add(row.id(), row.name(), row.description()));
+        }
+        loaded = true;
+    }
+
+    public void add(Long articleId, String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(name).forEach(term -> weights.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            if (documentsByArticleId.putIfAbsent(articleId, documents) != null) {
+                return;
+            }
+            int document = documents++;
+            if (document == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, document * 2);
+            }
+            articleIds[document] = articleId;
+            weights.forEach((term, weight) -> terms.computeIfAbsent(term, key -> new Postings())
+                    .add(document, Math.min(weight, MAX_WEIGHT)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every query term must match, either exactly or as the prefix of indexed terms, which score half as much;
+    // a term scores its best match in the article.
+    // Postings are walked together in document order, led by the rarest term. Once the best documents are known,
+    // whole blocks are skipped when the best scores their postings could add up to can't beat them, and postings
+    // that can't lift any article above them are dropped.
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            TermCursor[] cursors = new TermCursor[queryTerms.size()];
+            int next = 0;
+            for (String queryTerm : queryTerms) {
+                TermCursor cursor = match(queryTerm);
+                if (cursor == null) {
+                    return List.of();
+                }
+                cursors[next++] = cursor;
+            }
+            Arrays.sort(cursors, Comparator.comparingLong(TermCursor::cost));
+
+            TopDocuments top = new TopDocuments(limit);
+            TermCursor lead = cursors[0];
+            int boundedUpTo = -1;
+            int document = lead.document();
+            candidates:
+            while (document != EXHAUSTED) {
+                if (top.isFull() && document > boundedUpTo) {
+                    float bound = 0;
+                    int blockEnd = EXHAUSTED;
+                    for (TermCursor cursor : cursors) {
+                        cursor.advanceBlock(document);
+                        bound += cursor.blockMaxScore();
+                        blockEnd = Math.min(blockEnd, cursor.blockEnd());
+                    }
+                    if (!top.accepts(bound)) {
+                        document = blockEnd == EXHAUSTED ? EXHAUSTED : lead.advance(blockEnd + 1);
+                        continue;
+                    }
+                    boundedUpTo = blockEnd;
+                }
+                for (int i = 1; i < cursors.length; i++) {
+                    int found = cursors[i].advance(document);
+                    if (found != document) {
+                        document = lead.advance(found);
+                        continue candidates;
+                    }
+                }
+                float score = 0;
+                for (TermCursor cursor : cursors) {
+                    score += cursor.score();
+                }
+                if (top.offer(document, score) && top.isFull()) {
+                    prune(cursors, top.threshold());
+                }
+                document = lead.advance(document + 1);
+            }
+            return top.toArticleIds(articleIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void prune(TermCursor[] cursors, float threshold) {
+        float total = 0;
+        for (TermCursor cursor : cursors) {
+            total += cursor.maxScore();
+        }
+        for (TermCursor cursor : cursors) {
+            cursor.prune(threshold - (total - cursor.maxScore()));
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getDocuments() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTerms() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(TextNormalizer.normalize(text)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    private TermCursor match(String queryTerm) {
+        List<PostingsCursor> expansions = new ArrayList<>();
+        Postings exact = terms.get(queryTerm);
+        if (exact != null) {
+            expansions.add(new PostingsCursor(exact, idf(exact)));
+        }
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH) {
+            for (Postings prefixed : terms.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).values()) {
+                if (expansions.size() == MAX_PREFIX_TERMS) {
+                    break;
+                }
+                expansions.add(new PostingsCursor(prefixed, idf(prefixed) * PREFIX_FACTOR));
+            }
+        }
+        if (expansions.isEmpty()) {
+            return null;
+        }
+        return expansions.size() == 1 ? expansions.get(0) : new UnionCursor(expansions);
+    }
+
+    private float idf(Postings postings) {
+        return (float) Math.log(1 + (double) documents / postings.size);
+    }
+
+    // Documents are appended in increasing order, every block of postings remembers its last document and top weight.
+    private static class Postings {
+        private static final int BLOCK_SIZE = 128;
+
+        private int[] documents = new int[4];
+        private byte[] weights = new byte[4];
+        private int[] blockLastDocuments = new int[1];
+        private byte[] blockMaxWeights = new byte[1];
+        private int maxWeight;
+        private int size;
+
+        private void add(int document, int weight) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size + (size >> 1));
+                weights = Arrays.copyOf(weights, documents.length);
+            }
+            int block = size / BLOCK_SIZE;
+            if (block == blockLastDocuments.length) {
+                blockLastDocuments = Arrays.copyOf(blockLastDocuments, block * 2);
+                blockMaxWeights = Arrays.copyOf(blockMaxWeights, block * 2);
+            }
+            documents[size] = document;
+            weights[size] = (byte) weight;
+            blockLastDocuments[block] = document;
+            blockMaxWeights[block] = (byte) Math.max(blockMaxWeights[block], weight);
+            maxWeight = Math.max(maxWeight, weight);
+            size++;
+        }
+    }
+
+    private abstract static class TermCursor {
+        abstract long cost();
+
+        abstract int document();
+
+        // Moves forward to the first document at or after the target.
+        abstract int advance(int target);
+
+        abstract float score();
+
+        // Moves to the block holding the first document at or after the target, without touching its postings.
+        abstract void advanceBlock(int target);
+
+        abstract float blockMaxScore();
+
+        abstract int blockEnd();
+
+        abstract float maxScore();
+
+        // Drops the postings that can't score above the minimum.
+        abstract void prune(float minimum);
+    }
+
+    private static class PostingsCursor extends TermCursor {
+        private final int[] documents;
+        private final byte[] weights;
+        private final int[] blockLastDocuments;
+        private final byte[] blockMaxWeights;
+        private final float factor;
+        private final float maxScore;
+        private final int size;
+        private final int blocks;
+        private int position;
+        private int block;
+
+        private PostingsCursor(Postings postings, float factor) {
+            this.documents = postings.documents;
+            this.weights = postings.weights;
+            this.blockLastDocuments = postings.blockLastDocuments;
+            this.blockMaxWeights = postings.blockMaxWeights;
+            this.factor = factor;
+            this.maxScore = postings.maxWeight * factor;
+            this.size = postings.size;
+            this.blocks = (size + Postings.BLOCK_SIZE - 1) / Postings.BLOCK_SIZE;
+        }
+
+        @Override
+        long cost() {
+            return size;
+        }
+
+        @Override
+        int document() {
+            return position < size ? documents[position] : EXHAUSTED;
+        }
+
+        @Override
+        int advance(int target) {
+            if (position >= size || documents[position] >= target) {
+                return document();
+            }
+            int low = position;
+            int step = 1;
+            while (low + step < size && documents[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(documents, low + 1, Math.min(low + step + 1, size), target);
+            position = found >= 0 ? found : -found - 1;
+            return document();
+        }
+
+        @Override
+        float score() {
+            return weights[position] * factor;
+        }
+
+        @Override
+        void advanceBlock(int target) {
+            while (block < blocks && blockLastDocuments[block] < target) {
+                block++;
+            }
+        }
+
+        @Override
+        float blockMaxScore() {
+            return block < blocks ? blockMaxWeights[block] * factor : 0;
+        }
+
+        @Override
+        int blockEnd() {
+            return block < blocks ? blockLastDocuments[block] : EXHAUSTED;
+        }
+
+        @Override
+        float maxScore() {
+            return maxScore;
+        }
+
+        @Override
+        void prune(float minimum) {
+            if (maxScore <= minimum) {
+                position = size;
+            }
+        }
+    }
+
+    // Prefix expansions are merged lazily through a heap ordered by their current document.
+    private static class UnionCursor extends TermCursor {
+        private final PostingsCursor[] heap;
+        private final long cost;
+        private PostingsCursor[] expansions;
+        private float maxScore;
+        private int size;
+
+        private UnionCursor(List<PostingsCursor> expansions) {
+            this.expansions = expansions.toArray(PostingsCursor[]::new);
+            this.heap = expansions.toArray(PostingsCursor[]::new);
+            this.cost = expansions.stream().mapToLong(PostingsCursor::cost).sum();
+            this.size = heap.length;
+            this.maxScore = (float) expansions.stream().mapToDouble(PostingsCursor::maxScore).max().orElse(0);
+            heapify();
+        }
+
+        @Override
+        long cost() {
+            return cost;
+        }
+
+        @Override
+        int document() {
+            return size == 0 ? EXHAUSTED : heap[0].document();
+        }
+
+        @Override
+        int advance(int target) {
+            while (size > 0 && heap[0].document() < target) {
+                if (heap[0].advance(target) == EXHAUSTED) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(0);
+            }
+            return document();
+        }
+
+        @Override
+        float score() {
+            return bestScore(0, document());
+        }
+
+        @Override
+        void advanceBlock(int target) {
+            for (PostingsCursor expansion : expansions) {
+                expansion.advanceBlock(target);
+            }
+        }
+
+        @Override
+        float blockMaxScore() {
+            float bound = 0;
+            for (PostingsCursor expansion : expansions) {
+                bound = Math.max(bound, expansion.blockMaxScore());
+            }
+            return bound;
+        }
+
+        @Override
+        int blockEnd() {
+            int blockEnd = EXHAUSTED;
+            for (PostingsCursor expansion : expansions) {
+                blockEnd = Math.min(blockEnd, expansion.blockEnd());
+            }
+            return blockEnd;
+        }
+
+        @Override
+        float maxScore() {
+            return maxScore;
+        }
+
+        // A term scores its best expansion, so an expansion that can't reach the minimum can't lift any article.
+        @Override
+        void prune(float minimum) {
+            if (maxScore <= minimum) {
+                expansions = new PostingsCursor[0];
+                size = 0;
+                maxScore = 0;
+                return;
+            }
+            expansions = Arrays.stream(expansions)
+                    .filter(expansion -> expansion.maxScore() > minimum)
+                    .toArray(PostingsCursor[]::new);
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (heap[i].maxScore() > minimum) {
+                    heap[kept++] = heap[i];
+                }
+            }
+            if (kept < size) {
+                size = kept;
+                heapify();
+            }
+        }
+
+        private void heapify() {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        // The expansions positioned on the current document form a subtree under the root of the heap.
+        private float bestScore(int index, int document) {
+            if (index >= size || heap[index].document() != document) {
+                return 0;
+            }
+            return Math.max(heap[index].score(), Math.max(bestScore(2 * index + 1, document), bestScore(2 * index + 2, document)));
+        }
+
+        private void siftDown(int index) {
+            while (2 * index + 1 < size) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1].document() < heap[child].document()) {
+                    child++;
+                }
+                if (heap[index].document() <= heap[child].document()) {
+                    return;
+                }
+                PostingsCursor swapped = heap[index];
+                heap[index] = heap[child];
+                heap[child] = swapped;
+                index = child;
+            }
+        }
+    }
+
+    // A min-heap of the best documents, so most candidates are discarded after a single comparison.
+    private static class TopDocuments {
+        private final int[] documents;
+        private final float[] scores;
+        private int size;
+
+        private TopDocuments(int limit) {
+            documents = new int[limit];
+            scores = new float[limit];
+        }
+
+        private boolean isFull() {
+            return size == documents.length;
+        }
+
+        // Documents are offered in increasing order, so a later one needs a strictly higher score to get in.
+        private boolean accepts(float score) {
+            return !isFull() || score > scores[0];
+        }
+
+        private float threshold() {
+            return scores[0];
+        }
+
+        private boolean offer(int document, float score) {
+            if (size < documents.length) {
+                documents[size] = document;
+                scores[size] = score;
+                siftUp(size++);
+                return true;
+            }
+            if (outranks(score, document, scores[0], documents[0])) {
+                documents[0] = document;
+                scores[0] = score;
+                siftDown(0, size);
+                return true;
+            }
+            return false;
+        }
+
+        private List<Long> toArticleIds(long[] articleIds) {
+            Long[] ranked = new Long[size];
+            for (int last = size - 1; last >= 0; last--) {
+                ranked[last] = articleIds[documents[0]];
+                swap(0, last);
+                siftDown(0, last);
+            }
+            return Arrays.asList(ranked);
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!outranks(scores[parent], documents[parent], scores[position], documents[position])) {
+                    return;
+                }
+                swap(parent, position);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position, int size) {
+            while (2 * position + 1 < size) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && outranks(scores[child], documents[child], scores[child + 1], documents[child + 1])) {
+                    child++;
+                }
+                if (!outranks(scores[position], documents[position], scores[child], documents[child])) {
+                    return;
+                }
+                swap(position, child);
+                position = child;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int document = documents[first];
+            documents[first] = documents[second];
+            documents[second] = document;
+            float score = scores[first];
+            scores[first] = scores[second];
+            scores[second] = score;
+        }
+
+        private static boolean outranks(float score, int document, float otherScore, int otherDocument) {
+            return score > otherScore || (score == otherScore && document < otherDocument);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import com.bootcamp.microserviceStock.domain.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+public class NameSuggestionIndex {
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparingLong(Entry::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> ids = new HashSet<>();
+    private Entry[] entries = new Entry[0];
+    private volatile boolean loaded;
+
+    public void load(Stream<NameRow> rows) {
+        List<Entry> incoming = new ArrayList<>();
+        try (rows) {
+            rows.forEach(row -> incoming.add(new Entry(TextNormalizer.normalize(row.name()), row.id(), row.name())));
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Entry> merged = new ArrayList<>(Arrays.asList(entries));
+            for (Entry entry : incoming) {
+                if (ids.add(entry.id())) {
+                    merged.add(entry);
+                }
+            }
+            merged.sort(ORDER);
+            entries = merged.toArray(Entry[]::new);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loaded = true;
+    }
+
+    public void add(Long id, String name) {
+        Entry entry = new Entry(TextNormalizer.normalize(name), id, name);
+
+        lock.writeLock().lock();
+        try {
+            if (!ids.add(id)) {
+                return;
+            }
+            int position = -Arrays.binarySearch(entries, entry, ORDER) - 1;
+            Entry[] grown = new Entry[entries.length + 1];
+            System.arraycopy(entries, 0, grown, 0, position);
+            grown[position] = entry;
+            System.arraycopy(entries, position, grown, position + 1, entries.length - position);
+            entries = grown;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Names sort by their normalized form, so the names starting with a prefix are one contiguous run found by
+    // binary search, and the first ones in alphabetical order are returned.
+    public List<NameRow> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<NameRow> suggestions = new ArrayList<>(Math.min(limit, entries.length));
+            for (int i = lowerBound(key); i < entries.length && suggestions.size() < limit; i++) {
+                if (!entries[i].key().startsWith(key)) {
+                    break;
+                }
+                suggestions.add(new NameRow(entries[i].id(), entries[i].name()));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getNames() {
+        lock.readLock().lock();
+        try {
+            return entries.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle].key().compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private record Entry(String key, long id, String name) {
+    }
+}
\ No newline at end of file
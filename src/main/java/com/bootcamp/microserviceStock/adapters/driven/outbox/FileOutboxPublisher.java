@@ -0,0 +1,60 @@
+package com.bootcamp.microserviceStock.adapters.driven.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOutboxPublisher implements IOutboxPublisher {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 256);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(lines)) {
+                generator.setRootValueSeparator(null);
+                for (OutboxMessage message : messages) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", message.id());
+                    generator.writeStringField("aggregateType", message.aggregateType());
+                    generator.writeNumberField("aggregateId", message.aggregateId());
+                    generator.writeStringField("eventType", message.eventType());
+                    generator.writeStringField("createdAt", message.createdAt().toString());
+                    generator.writeFieldName("payload");
+                    generator.writeRawValue(message.payload());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
\ No newline at end of file
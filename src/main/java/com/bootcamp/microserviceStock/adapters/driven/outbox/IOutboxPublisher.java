@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.adapters.driven.outbox;
+
+import java.util.List;
+
+public interface IOutboxPublisher {
+    void publish(List<OutboxMessage> messages);
+}
\ No newline at end of file
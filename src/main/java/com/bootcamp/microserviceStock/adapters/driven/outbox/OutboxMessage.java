@@ -0,0 +1,13 @@
+package com.bootcamp.microserviceStock.adapters.driven.outbox;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        long aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
\ No newline at end of file
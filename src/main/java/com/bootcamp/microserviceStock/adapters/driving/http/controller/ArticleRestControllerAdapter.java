@@ -1,36 +1,71 @@
 package com.bootcamp.microserviceStock.adapters.driving.http.controller;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.ArticleRequest;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.ArticleStockAdjustmentRequest;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.StockAdjustmentRequest;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticlePaginationResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
-import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.BulkResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.StockAvailabilityResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.StockLedgerResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.export.ArticleExportWriter;
+import com.bootcamp.microserviceStock.adapters.driving.http.export.ExportFormat;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IArticleRequestMapper;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IArticleResponseMapper;
+import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IReservationResponseMapper;
+import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IStockLedgerResponseMapper;
 import com.bootcamp.microserviceStock.configuration.exceptionHandler.ExceptionResponse;
 import com.bootcamp.microserviceStock.domain.api.IArticleServicePort;
+import com.bootcamp.microserviceStock.domain.api.IReservationServicePort;
+import com.bootcamp.microserviceStock.domain.api.IStockLedgerServicePort;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.BulkResult;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/article")
 @RequiredArgsConstructor
 public class ArticleRestControllerAdapter {
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final IArticleServicePort articleServicePort;
     private final IArticleRequestMapper articleRequestMapper;
     private final IArticleResponseMapper articleResponseMapper;
+    private final IReservationServicePort reservationServicePort;
+    private final IReservationResponseMapper reservationResponseMapper;
+    private final IStockLedgerServicePort stockLedgerServicePort;
+    private final IStockLedgerResponseMapper stockLedgerResponseMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create article",
             tags = {"Article"},
@@ -51,21 +86,128 @@ public class ArticleRestControllerAdapter {
         return ResponseEntity.status(HttpStatus.CREATED).body(new ControllerResponse(DomainConstants.ARTICLE_CREATED_MESSAGE, HttpStatus.CREATED.toString(), LocalDateTime.now()));
     }
 
+    @Operation(summary = "Create articles in bulk",
+            tags = {"Article"},
+            description = "This endpoint creates up to 1000 articles in a single request. Every article is validated " +
+                    "with the same rules as the single creation endpoint; valid articles are stored together and " +
+                    "invalid ones are reported by their position in the request along with their validation issues."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All articles created successfully",
+                    content = @Content(schema = @Schema(implementation = BulkResponse.class))),
+            @ApiResponse(responseCode = "207", description = "Some articles were rejected",
+                    content = @Content(schema = @Schema(implementation = BulkResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch, or an article with invalid fields",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResponse> createArticles(@RequestBody List<@Valid ArticleRequest> requests) {
+        BulkResult bulkResult = articleServicePort.createArticles(articleRequestMapper.requestsToArticles(requests));
+        HttpStatus status = bulkResult.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(articleResponseMapper.bulkResultToResponse(bulkResult));
+    }
+
+    @Operation(summary = "Adjust article stock",
+            tags = {"Article"},
+            description = "This endpoint adds the given delta to the stock of an article, a negative delta takes units " +
+                    "out. The adjustment is applied atomically in the database, so concurrent requests never lose an " +
+                    "update, and it is rejected when it would leave the stock below zero."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock updated successfully",
+                    content = @Content(schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Stock not updated",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @PatchMapping("/{id}/stock")
+    public ResponseEntity<ControllerResponse> adjustStock(
+            @Parameter(description = "ID of the article whose stock is adjusted")
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentRequest request
+    ) {
+        articleServicePort.adjustStock(id, request.getDelta());
+        return ResponseEntity.ok(new ControllerResponse(DomainConstants.STOCK_UPDATED_MESSAGE, HttpStatus.OK.toString(), LocalDateTime.now()));
+    }
+
+    @Operation(summary = "Get article availability",
+            tags = {"Article"},
+            description = "This endpoint returns the stock of an article, the part of it held by active reservations " +
+                    "and the quantity still available to sell."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved availability",
+                    content = @Content(schema = @Schema(implementation = StockAvailabilityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Article not found",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<StockAvailabilityResponse> getAvailability(
+            @Parameter(description = "ID of the article")
+            @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(reservationResponseMapper.availabilityToResponse(reservationServicePort.getAvailability(id)));
+    }
+
+    @Operation(summary = "Get the stock ledger of an article",
+            tags = {"Article"},
+            description = "This endpoint returns the stock of an article as recorded by its ledger, the latest " +
+                    "snapshot plus the movements not yet folded into it, and a page of its stock movements " +
+                    "(receipts, adjustments, reservations, releases and sales), newest first. 'nextBefore' is the " +
+                    "value of 'before' that returns the following page, it is absent on the last one."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the stock ledger",
+                    content = @Content(schema = @Schema(implementation = StockLedgerResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided or article not found",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/{id}/ledger")
+    public ResponseEntity<StockLedgerResponse> getLedger(
+            @Parameter(description = "ID of the article")
+            @PathVariable Long id,
+            @Parameter(description = "Only return movements older than this movement ID")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "Maximum number of movements to return, up to 500")
+            @RequestParam(defaultValue = "100") Integer limit
+    ) {
+        return ResponseEntity.ok(stockLedgerResponseMapper.ledgerToResponse(stockLedgerServicePort.getLedger(id, before, limit)));
+    }
+
+    @Operation(summary = "Adjust the stock of several articles",
+            tags = {"Article"},
+            description = "This endpoint applies up to 1000 stock adjustments in a single transaction. Either every " +
+                    "adjustment is applied or none is: if an article doesn't exist or would be left with negative " +
+                    "stock, the whole batch is rejected and the offending articles are reported."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock updated successfully",
+                    content = @Content(schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Stock not updated",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @PatchMapping("/stock")
+    public ResponseEntity<ControllerResponse> adjustStocks(@RequestBody List<ArticleStockAdjustmentRequest> requests) {
+        articleServicePort.adjustStocks(articleRequestMapper.requestsToStockAdjustments(requests));
+        return ResponseEntity.ok(new ControllerResponse(DomainConstants.STOCK_UPDATED_MESSAGE, HttpStatus.OK.toString(), LocalDateTime.now()));
+    }
+
     @Operation(summary = "List articles (pagination)",
             tags = {"Article"},
-            description = "This endpoint retrieves a paginated list of articles with optional sorting. It validates " +
+            description = "This endpoint retrieves a paginated list of articles with optional sorting, filtered by " +
+                    "brands, categories, a price range and stock. Along with the page it returns how many articles " +
+                    "each brand and category has among the ones matching the rest of the filter. It validates " +
                     "the provided parameters to ensure proper pagination and sorting behavior. If any of the input " +
                     "parameters violate the business rules, the request will result in an error response explaining " +
                     "the issues."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved articles",
-                    content = @Content(schema = @Schema(implementation = PaginationResponse.class))),
+                    content = @Content(schema = @Schema(implementation = ArticlePaginationResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
                     content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
     })
     @GetMapping
-    public ResponseEntity<PaginationResponse<ArticleResponse>> listArticles(
+    public ResponseEntity<ArticlePaginationResponse> listArticles(
             @Parameter(description = "Page number to retrieve (starting from 0)")
             @RequestParam(required = false) Integer page,
             @Parameter(description = "Number of articles per page")
@@ -73,10 +215,123 @@ public class ArticleRestControllerAdapter {
             @Parameter(description = "Sorting criteria, field by which to sort articles 'name', 'brandName', 'categoryName'")
             @RequestParam(required = false) String sortBy,
             @Parameter(description = "Sorting order 'asc' or 'desc'")
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Whether to compute the total number of articles, 'false' skips the count query")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Whether a periodically refreshed total is acceptable instead of an exact count")
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @Parameter(description = "IDs of the brands to keep, any of them matches")
+            @RequestParam(required = false) Set<Long> brandIds,
+            @Parameter(description = "IDs of the categories to keep, any of them matches")
+            @RequestParam(required = false) Set<Long> categoryIds,
+            @Parameter(description = "Lowest price to keep, inclusive")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Highest price to keep, inclusive")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Whether to keep only articles with unreserved stock")
+            @RequestParam(defaultValue = "false") boolean inStockOnly,
+            @Parameter(description = "Whether to also count the matching articles per brand and category, off by default")
+            @RequestParam(defaultValue = "false") boolean includeFacets
+    ) {
+        ArticleFilter filter = new ArticleFilter(brandIds, categoryIds, minPrice, maxPrice, inStockOnly);
+        Pagination<Article> articlePagination = articleServicePort.listArticles(page, size, sortBy, sortDirection,
+                PaginationTotal.of(includeTotal, approximateTotal), filter);
+        ArticleFacets facets = includeFacets ? articleServicePort.countArticleFacets(filter) : null;
+        ArticlePaginationResponse response = articleResponseMapper.paginationToArticlePaginationResponse(articlePagination, facets);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "List articles (cursor pagination)",
+            tags = {"Article"},
+            description = "This endpoint retrieves articles page by page using an opaque cursor instead of a page " +
+                    "number. The first page is requested without a cursor, and each response carries the 'nextCursor' " +
+                    "to request the following page, so deep pages cost the same as the first one."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved articles",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPaginationResponse<ArticleResponse>> listArticlesAfter(
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page, omitted for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of articles per page")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Sorting criteria, field by which to sort articles 'name', 'brandName', 'categoryName'")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Sorting order 'asc' or 'desc'")
             @RequestParam(defaultValue = "asc") String sortDirection
     ) {
-        Pagination<Article> articlePagination = articleServicePort.listArticles(page, size, sortBy, sortDirection);
-        PaginationResponse<ArticleResponse> response = articleResponseMapper.paginationToPaginationResponse(articlePagination);
+        CursorPagination<Article> articlePagination = articleServicePort.listArticlesAfter(after, size, sortBy, sortDirection);
+        CursorPaginationResponse<ArticleResponse> response = articleResponseMapper.cursorPaginationToCursorPaginationResponse(articlePagination);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Search articles",
+            tags = {"Article"},
+            description = "This endpoint searches article names and descriptions. Every word of the query must " +
+                    "match, either whole or as the beginning of a word, accents and case are ignored. Articles are " +
+                    "ranked by relevance, matches in the name weigh more than matches in the description."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved articles",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ArticleResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<ArticleResponse>> searchArticles(
+            @Parameter(description = "Words to search for, up to 100 characters")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Maximum number of articles to return, up to 100")
+            @RequestParam(defaultValue = "20") Integer limit
+    ) {
+        return ResponseEntity.ok(articleResponseMapper.articlesToResponses(articleServicePort.searchArticles(q, limit)));
+    }
+
+    @Operation(summary = "Export all articles",
+            tags = {"Article"},
+            description = "This endpoint streams every article in the catalog as NDJSON (one JSON article per line) " +
+                    "or CSV. Articles are read through a forward-only cursor and written as they arrive, so the " +
+                    "whole catalog is never held in memory. Use it to mirror the catalog instead of paging through it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles streamed successfully",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Invalid export format",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            @Parameter(description = "Export format 'ndjson' or 'csv'")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        if (exportFormat == null) {
+            throw new ValidationException(new ArrayList<>(List.of(DomainConstants.INVALID_EXPORT_FORMAT_MESSAGE)));
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            ArticleExportWriter writer = exportFormat.writer(outputStream, objectMapper);
+            writer.writeHeader();
+            int[] written = {0};
+            articleServicePort.exportArticles(article -> {
+                try {
+                    writer.write(articleResponseMapper.articleToResponse(article));
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=articles." + exportFormat.getExtension())
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -2,16 +2,21 @@ package com.bootcamp.microserviceStock.adapters.driving.http.controller;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.BrandRequest;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.BrandResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.NameSuggestionResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IBrandRequestMapper;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IBrandResponseMapper;
 import com.bootcamp.microserviceStock.configuration.exceptionHandler.ExceptionResponse;
 import com.bootcamp.microserviceStock.domain.api.IBrandServicePort;
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,6 +28,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/brand")
@@ -73,10 +79,65 @@ public class BrandRestControllerAdapter {
             @Parameter(description = "Sorting criteria, field by which to sort brands 'name'")
             @RequestParam(required = false) String sortBy,
             @Parameter(description = "Sorting order 'asc' or 'desc'")
-            @RequestParam(defaultValue = "asc") String sortDirection
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Whether to compute the total number of brands, 'false' skips the count query")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Whether a periodically refreshed total is acceptable instead of an exact count")
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        Pagination<Brand> brandPagination = brandServicePort.listBrands(page, size, sortBy, sortDirection);
+        Pagination<Brand> brandPagination = brandServicePort.listBrands(page, size, sortBy, sortDirection,
+                PaginationTotal.of(includeTotal, approximateTotal));
         PaginationResponse<BrandResponse> response = brandResponseMapper.paginationToPaginationResponse(brandPagination);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "List brands (cursor pagination)",
+            tags = {"Brand"},
+            description = "This endpoint retrieves brands page by page using an opaque cursor instead of a page " +
+                    "number. The first page is requested without a cursor, and each response carries the 'nextCursor' " +
+                    "to request the following page, so deep pages cost the same as the first one."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved brands",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPaginationResponse<BrandResponse>> listBrandsAfter(
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page, omitted for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of brands per page")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Sorting criteria, field by which to sort brands 'name'")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Sorting order 'asc' or 'desc'")
+            @RequestParam(defaultValue = "asc") String sortDirection
+    ) {
+        CursorPagination<Brand> brandPagination = brandServicePort.listBrandsAfter(after, size, sortBy, sortDirection);
+        CursorPaginationResponse<BrandResponse> response = brandResponseMapper.cursorPaginationToCursorPaginationResponse(brandPagination);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest brand names",
+            tags = {"Brand"},
+            description = "This endpoint completes a brand name as it is typed, returning the brands whose name " +
+                    "starts with the given prefix in alphabetical order. Case and accents are ignored, and names are " +
+                    "served from memory, so it is cheap enough to call on every keystroke."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NameSuggestionResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<NameSuggestionResponse>> suggestBrands(
+            @Parameter(description = "Beginning of the brand name, up to 50 characters")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "Maximum number of suggestions to return, up to 20")
+            @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return ResponseEntity.ok(brandResponseMapper.brandsToSuggestionResponses(brandServicePort.suggestBrands(prefix, limit)));
+    }
 }
\ No newline at end of file
@@ -2,16 +2,21 @@ package com.bootcamp.microserviceStock.adapters.driving.http.controller;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.CategoryRequest;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CategoryResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.NameSuggestionResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.ICategoryRequestMapper;
 import com.bootcamp.microserviceStock.adapters.driving.http.mapper.ICategoryResponseMapper;
 import com.bootcamp.microserviceStock.configuration.exceptionHandler.ExceptionResponse;
 import com.bootcamp.microserviceStock.domain.api.ICategoryServicePort;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,6 +28,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/category")
@@ -73,10 +79,65 @@ public class CategoryRestControllerAdapter {
             @Parameter(description = "Sorting criteria, field by which to sort categories 'name'")
             @RequestParam(required = false) String sortBy,
             @Parameter(description = "Sorting order 'asc' or 'desc'")
-            @RequestParam(defaultValue = "asc") String sortDirection
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Whether to compute the total number of categories, 'false' skips the count query")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Whether a periodically refreshed total is acceptable instead of an exact count")
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        Pagination<Category> categoryPagination = categoryServicePort.listCategories(page, size, sortBy, sortDirection);
+        Pagination<Category> categoryPagination = categoryServicePort.listCategories(page, size, sortBy, sortDirection,
+                PaginationTotal.of(includeTotal, approximateTotal));
         PaginationResponse<CategoryResponse> response = categoryResponseMapper.paginationToPaginationResponse(categoryPagination);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "List categories (cursor pagination)",
+            tags = {"Category"},
+            description = "This endpoint retrieves categories page by page using an opaque cursor instead of a page " +
+                    "number. The first page is requested without a cursor, and each response carries the 'nextCursor' " +
+                    "to request the following page, so deep pages cost the same as the first one."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved categories",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPaginationResponse<CategoryResponse>> listCategoriesAfter(
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page, omitted for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of categories per page")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Sorting criteria, field by which to sort categories 'name'")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Sorting order 'asc' or 'desc'")
+            @RequestParam(defaultValue = "asc") String sortDirection
+    ) {
+        CursorPagination<Category> categoryPagination = categoryServicePort.listCategoriesAfter(after, size, sortBy, sortDirection);
+        CursorPaginationResponse<CategoryResponse> response = categoryResponseMapper.cursorPaginationToCursorPaginationResponse(categoryPagination);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest category names",
+            tags = {"Category"},
+            description = "This endpoint completes a category name as it is typed, returning the categories whose name " +
+                    "starts with the given prefix in alphabetical order. Case and accents are ignored, and names are " +
+                    "served from memory, so it is cheap enough to call on every keystroke."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NameSuggestionResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<NameSuggestionResponse>> suggestCategories(
+            @Parameter(description = "Beginning of the category name, up to 50 characters")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "Maximum number of suggestions to return, up to 20")
+            @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return ResponseEntity.ok(categoryResponseMapper.categoriesToSuggestionResponses(categoryServicePort.suggestCategories(prefix, limit)));
+    }
 }
\ No newline at end of file
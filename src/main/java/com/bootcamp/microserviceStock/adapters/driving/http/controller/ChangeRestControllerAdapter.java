@@ -0,0 +1,46 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.controller;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ChangeFeedResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IChangeResponseMapper;
+import com.bootcamp.microserviceStock.configuration.exceptionHandler.ExceptionResponse;
+import com.bootcamp.microserviceStock.domain.api.IChangeServicePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+public class ChangeRestControllerAdapter {
+    private final IChangeServicePort changeServicePort;
+    private final IChangeResponseMapper changeResponseMapper;
+
+    @Operation(summary = "List catalog changes",
+            tags = {"Change"},
+            description = "This endpoint returns the brands, categories and articles created or updated after the " +
+                    "given version, in version order and in batches of at most 'limit' changes. Each response " +
+                    "carries 'nextSince', the version to request the following batch with, and 'last' tells whether " +
+                    "the feed is caught up, so a mirror only transfers what changed since its last sync."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes",
+                    content = @Content(schema = @Schema(implementation = ChangeFeedResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters provided",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> listChanges(
+            @Parameter(description = "Version of the last change already applied, 0 to read the feed from the start")
+            @RequestParam(defaultValue = "0") Long since,
+            @Parameter(description = "Maximum number of changes to return, up to 1000")
+            @RequestParam(defaultValue = "500") Integer limit
+    ) {
+        return ResponseEntity.ok(changeResponseMapper.changeFeedToResponse(changeServicePort.listChanges(since, limit)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.controller;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.ReservationRequest;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ReservationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.mapper.IReservationResponseMapper;
+import com.bootcamp.microserviceStock.configuration.exceptionHandler.ExceptionResponse;
+import com.bootcamp.microserviceStock.domain.api.IReservationServicePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/reservation")
+@RequiredArgsConstructor
+public class ReservationRestControllerAdapter {
+    private final IReservationServicePort reservationServicePort;
+    private final IReservationResponseMapper reservationResponseMapper;
+
+    @Operation(summary = "Reserve stock",
+            tags = {"Reservation"},
+            description = "This endpoint holds the given quantity of an article for a checkout without taking it out " +
+                    "of stock. The hold counts against the available stock until it is confirmed, released or " +
+                    "expires after 'ttlSeconds' (the configured default when omitted)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Stock reserved successfully",
+                    content = @Content(schema = @Schema(implementation = ReservationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Stock not reserved",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@Valid @RequestBody ReservationRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationResponseMapper.reservationToResponse(
+                reservationServicePort.reserve(request.getArticleID(), request.getQuantity(), request.getTtlSeconds())));
+    }
+
+    @Operation(summary = "Confirm a reservation",
+            tags = {"Reservation"},
+            description = "This endpoint turns an active reservation into a sale: the reserved quantity is taken out " +
+                    "of the article stock and the hold disappears. Expired reservations can't be confirmed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation confirmed successfully",
+                    content = @Content(schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Reservation not confirmed",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<ControllerResponse> confirm(
+            @Parameter(description = "ID of the reservation to confirm")
+            @PathVariable Long id
+    ) {
+        reservationServicePort.confirm(id);
+        return ResponseEntity.ok(new ControllerResponse(DomainConstants.RESERVATION_CONFIRMED_MESSAGE, HttpStatus.OK.toString(), LocalDateTime.now()));
+    }
+
+    @Operation(summary = "Release a reservation",
+            tags = {"Reservation"},
+            description = "This endpoint cancels an active reservation and gives the held quantity back to the " +
+                    "available stock."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation released successfully",
+                    content = @Content(schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Reservation not released",
+                    content = @Content(schema = @Schema(implementation = ExceptionResponse.class))),
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ControllerResponse> release(
+            @Parameter(description = "ID of the reservation to release")
+            @PathVariable Long id
+    ) {
+        reservationServicePort.release(id);
+        return ResponseEntity.ok(new ControllerResponse(DomainConstants.RESERVATION_RELEASED_MESSAGE, HttpStatus.OK.toString(), LocalDateTime.now()));
+    }
+}
\ No newline at end of file
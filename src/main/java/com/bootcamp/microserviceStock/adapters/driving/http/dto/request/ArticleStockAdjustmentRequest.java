@@ -0,0 +1,11 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ArticleStockAdjustmentRequest {
+    private Long articleID;
+    private Integer delta;
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.request;
+
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ReservationRequest {
+    @NotNull(message = DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE)
+    @Positive(message = DomainConstants.INVALID_ARTICLE_ID_MESSAGE)
+    private Long articleID;
+
+    @NotNull(message = DomainConstants.FIELD_QUANTITY_NULL_MESSAGE)
+    @Positive(message = DomainConstants.INVALID_RESERVATION_QUANTITY_MESSAGE)
+    private Integer quantity;
+
+    private Long ttlSeconds;
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.request;
+
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StockAdjustmentRequest {
+    @NotNull(message = DomainConstants.FIELD_STOCK_DELTA_NULL_MESSAGE)
+    private Integer delta;
+}
\ No newline at end of file
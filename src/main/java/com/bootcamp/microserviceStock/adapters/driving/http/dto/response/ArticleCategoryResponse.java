@@ -0,0 +1,4 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+public record ArticleCategoryResponse(long id, String name) {
+}
\ No newline at end of file
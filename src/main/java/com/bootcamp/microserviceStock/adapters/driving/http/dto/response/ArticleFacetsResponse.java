@@ -0,0 +1,13 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class ArticleFacetsResponse {
+    private final Map<Long, Long> brands;
+    private final Map<Long, Long> categories;
+}
\ No newline at end of file
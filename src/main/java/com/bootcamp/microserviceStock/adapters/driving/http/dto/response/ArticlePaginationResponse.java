@@ -0,0 +1,20 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArticlePaginationResponse extends PaginationResponse<ArticleResponse> {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ArticleFacetsResponse facets;
+
+    public ArticlePaginationResponse(PaginationResponse<ArticleResponse> page, ArticleFacetsResponse facets) {
+        super(page.getContent(), page.getPage(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
+                page.isApproximateTotal(), page.isFirst(), page.isLast(), page.isEmpty());
+        this.facets = facets;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class BulkItemErrorResponse {
+    private int index;
+    private String name;
+    private List<String> errors;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogChangeResponse {
+    private final String type;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+    private final BrandResponse brand;
+    private final CategoryResponse category;
+    private final ArticleResponse article;
+}
\ No newline at end of file
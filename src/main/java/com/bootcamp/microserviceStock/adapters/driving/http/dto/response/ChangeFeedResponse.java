@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ChangeFeedResponse {
+    private final List<CatalogChangeResponse> changes;
+    private final Long nextSince;
+    private final boolean last;
+}
\ No newline at end of file
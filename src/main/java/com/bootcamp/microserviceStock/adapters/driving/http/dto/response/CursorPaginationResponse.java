@@ -0,0 +1,18 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPaginationResponse<T> {
+    private List<T> content;
+    private Integer size;
+    private String nextCursor;
+    private boolean last;
+    private boolean empty;
+}
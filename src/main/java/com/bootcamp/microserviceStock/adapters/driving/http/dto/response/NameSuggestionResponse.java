@@ -0,0 +1,11 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class NameSuggestionResponse {
+    private final Long id;
+    private final String name;
+}
\ No newline at end of file
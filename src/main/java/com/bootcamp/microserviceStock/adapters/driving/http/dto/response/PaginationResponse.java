@@ -14,7 +14,8 @@ public class PaginationResponse<T> {
     private Integer page;
     private Integer size;
     private Long totalElements;
-    private int totalPages;
+    private Integer totalPages;
+    private boolean approximateTotal;
     private boolean first;
     private boolean last;
     private boolean empty;
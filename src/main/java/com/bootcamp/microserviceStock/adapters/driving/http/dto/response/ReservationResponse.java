@@ -0,0 +1,15 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ReservationResponse {
+    private final Long id;
+    private final Long articleId;
+    private final Integer quantity;
+    private final LocalDateTime expiresAt;
+}
\ No newline at end of file
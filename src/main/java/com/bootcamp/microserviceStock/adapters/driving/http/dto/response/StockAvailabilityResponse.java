@@ -0,0 +1,13 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StockAvailabilityResponse {
+    private final Long articleId;
+    private final int quantity;
+    private final int reserved;
+    private final int available;
+}
\ No newline at end of file
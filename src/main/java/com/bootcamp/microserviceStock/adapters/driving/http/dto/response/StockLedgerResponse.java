@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class StockLedgerResponse {
+    private final StockAvailabilityResponse stock;
+    private final List<StockMovementResponse> movements;
+    private final Long nextBefore;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class StockMovementResponse {
+    private final Long id;
+    private final String reason;
+    private final Integer quantityDelta;
+    private final Integer reservedDelta;
+    private final LocalDateTime createdAt;
+}
\ No newline at end of file
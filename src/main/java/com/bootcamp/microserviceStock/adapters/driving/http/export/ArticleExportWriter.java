@@ -0,0 +1,11 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.export;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
+
+import java.io.IOException;
+
+public interface ArticleExportWriter {
+    void writeHeader() throws IOException;
+    void write(ArticleResponse article) throws IOException;
+    void flush() throws IOException;
+}
\ No newline at end of file
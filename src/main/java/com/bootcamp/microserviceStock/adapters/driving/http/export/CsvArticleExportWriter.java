@@ -0,0 +1,77 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.export;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleCategoryResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvArticleExportWriter implements ArticleExportWriter {
+    private static final String HEADER = "id,name,description,quantity,price,brand,categoryIds,categoryNames";
+    private static final char LIST_SEPARATOR = '|';
+
+    private final Writer writer;
+
+    public CsvArticleExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ArticleResponse article) throws IOException {
+        StringBuilder categoryIds = new StringBuilder();
+        StringBuilder categoryNames = new StringBuilder();
+        for (ArticleCategoryResponse category : article.categoryList()) {
+            if (!categoryIds.isEmpty()) {
+                categoryIds.append(LIST_SEPARATOR);
+                categoryNames.append(LIST_SEPARATOR);
+            }
+            categoryIds.append(category.id());
+            categoryNames.append(category.name());
+        }
+
+        writer.write(Long.toString(article.id()));
+        writer.write(',');
+        writeField(article.name());
+        writer.write(',');
+        writeField(article.description());
+        writer.write(',');
+        writer.write(String.valueOf(article.quantity()));
+        writer.write(',');
+        writer.write(article.price().toPlainString());
+        writer.write(',');
+        writeField(article.brand());
+        writer.write(',');
+        writer.write(categoryIds.toString());
+        writer.write(',');
+        writeField(categoryNames.toString());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
\ No newline at end of file
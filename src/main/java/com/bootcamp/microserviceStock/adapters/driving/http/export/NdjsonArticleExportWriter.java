@@ -0,0 +1,36 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.export;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonArticleExportWriter implements ArticleExportWriter {
+    private final JsonGenerator generator;
+    private final ObjectWriter articleWriter;
+
+    public NdjsonArticleExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        this.articleWriter = objectMapper.writerFor(ArticleResponse.class);
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(ArticleResponse article) throws IOException {
+        articleWriter.writeValue(generator, article);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
\ No newline at end of file
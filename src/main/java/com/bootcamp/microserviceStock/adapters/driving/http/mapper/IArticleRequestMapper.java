@@ -1,9 +1,11 @@
 package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.ArticleRequest;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.request.ArticleStockAdjustmentRequest;
 import com.bootcamp.microserviceStock.domain.model.Article;
 import com.bootcamp.microserviceStock.domain.model.Brand;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -13,10 +15,20 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface IArticleRequestMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     @Mapping(source = "brandID", target = "brand", qualifiedByName = "mapBrandIDToBrand")
     @Mapping(source = "categoryIDs", target = "categoryList", qualifiedByName = "mapCategoryIDsToCategory")
     Article requestToArticle(ArticleRequest articleRequest);
 
+    List<Article> requestsToArticles(List<ArticleRequest> articleRequests);
+
+    @Mapping(source = "articleID", target = "articleId")
+    StockAdjustment requestToStockAdjustment(ArticleStockAdjustmentRequest stockAdjustmentRequest);
+
+    List<StockAdjustment> requestsToStockAdjustments(List<ArticleStockAdjustmentRequest> stockAdjustmentRequests);
+
     @Named("mapBrandIDToBrand")
     default Brand mapBrandIDToBrand(Long brandID) {
         return new Brand(brandID, null, null);
@@ -24,6 +36,9 @@ public interface IArticleRequestMapper {
 
     @Named("mapCategoryIDsToCategory")
     default List<Category> mapCategoryIDsToCategory(List<Long> categoryIDs) {
+        if (categoryIDs == null) {
+            return List.of();
+        }
         return categoryIDs.stream().map(id -> new Category(id, null, null)).toList();
     }
 }
@@ -1,34 +1,37 @@
 package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
 
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleCategoryResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleFacetsResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticlePaginationResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ArticleResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.BulkItemErrorResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.BulkResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
 import com.bootcamp.microserviceStock.domain.model.Article;
 import com.bootcamp.microserviceStock.domain.model.Brand;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.BulkItemError;
+import com.bootcamp.microserviceStock.domain.util.BulkResult;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @Mapper(componentModel = "spring")
 public interface IArticleResponseMapper {
-    @Mapping(source = "categoryList", target = "categoryList", qualifiedByName = "mapCategoryListToStringList")
+    @Mapping(source = "categoryList", target = "categoryList", qualifiedByName = "mapCategoryListToSummaryList")
     @Mapping(source = "brand", target = "brand", qualifiedByName = "mapBrandToString")
     ArticleResponse articleToResponse(Article article);
 
-    @Named("mapCategoryListToStringList")
-    default List<Map<String, Object>> mapCategoryListToStringList(List<Category> categoryList) {
+    @Named("mapCategoryListToSummaryList")
+    default List<ArticleCategoryResponse> mapCategoryListToSummaryList(List<Category> categoryList) {
         return categoryList.stream()
-                .map(category -> {
-                    Map<String, Object> categoryMap = new LinkedHashMap<>();
-                    categoryMap.put("id", category.getId());
-                    categoryMap.put("name", category.getName());
-                    return categoryMap;
-                })
+                .map(category -> new ArticleCategoryResponse(category.getId(), category.getName()))
                 .toList();
     }
 
@@ -37,25 +40,47 @@ public interface IArticleResponseMapper {
         return brand.getName();
     }
 
-    default PaginationResponse<ArticleResponse> paginationToPaginationResponse(Pagination<Article> pagination) {
-        List<ArticleResponse> articleResponses = pagination.getContent().stream()
+    default List<ArticleResponse> articlesToResponses(List<Article> articles) {
+        return articles.stream()
                 .map(this::articleToResponse)
                 .toList();
-        Pagination<ArticleResponse> responsePagination = new Pagination<>(
-                articleResponses,
+    }
+
+    default PaginationResponse<ArticleResponse> paginationToPaginationResponse(Pagination<Article> pagination) {
+        return new PaginationResponse<>(
+                articlesToResponses(pagination.getContent()),
                 pagination.getPageNumber(),
                 pagination.getPageSize(),
-                pagination.getTotalElements());
-        return toPaginationResponse(responsePagination);
+                pagination.getTotalElements(),
+                pagination.getTotalPages(),
+                pagination.isApproximateTotal(),
+                pagination.isFirst(),
+                pagination.isLast(),
+                pagination.isEmpty());
+    }
+
+    default ArticlePaginationResponse paginationToArticlePaginationResponse(Pagination<Article> pagination, ArticleFacets facets) {
+        ArticleFacetsResponse facetsResponse = facets == null
+                ? null
+                : new ArticleFacetsResponse(facets.getBrandCounts(), facets.getCategoryCounts());
+        return new ArticlePaginationResponse(paginationToPaginationResponse(pagination), facetsResponse);
+    }
+
+    default CursorPaginationResponse<ArticleResponse> cursorPaginationToCursorPaginationResponse(CursorPagination<Article> pagination) {
+        return new CursorPaginationResponse<>(
+                articlesToResponses(pagination.getContent()),
+                pagination.getPageSize(),
+                pagination.getNextCursor(),
+                pagination.isLast(),
+                pagination.isEmpty());
+    }
+
+    default BulkResponse bulkResultToResponse(BulkResult bulkResult) {
+        List<BulkItemErrorResponse> errors = bulkResult.getErrors().stream()
+                .map(this::bulkItemErrorToResponse)
+                .toList();
+        return new BulkResponse(bulkResult.getCreated(), bulkResult.getRejected(), errors);
     }
 
-    @Mapping(target = "page", source = "pagination.pageNumber")
-    @Mapping(target = "size", source = "pagination.pageSize")
-    @Mapping(target = "totalElements", source = "pagination.totalElements")
-    @Mapping(target = "totalPages", source = "pagination.totalPages")
-    @Mapping(target = "first", source = "pagination.first")
-    @Mapping(target = "last", source = "pagination.last")
-    @Mapping(target = "empty", source = "pagination.empty")
-    @Mapping(target = "content", source = "pagination.content")
-    PaginationResponse<ArticleResponse> toPaginationResponse(Pagination<ArticleResponse> pagination);
+    BulkItemErrorResponse bulkItemErrorToResponse(BulkItemError bulkItemError);
 }
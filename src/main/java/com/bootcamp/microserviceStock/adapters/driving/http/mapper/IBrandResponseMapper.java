@@ -1,8 +1,11 @@
 package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.BrandResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.NameSuggestionResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,22 +16,38 @@ import java.util.List;
 public interface IBrandResponseMapper {
     BrandResponse brandToResponse(Brand brand);
 
+    NameSuggestionResponse brandToSuggestionResponse(Brand brand);
+
+    default List<NameSuggestionResponse> brandsToSuggestionResponses(List<Brand> brands) {
+        return brands.stream()
+                .map(this::brandToSuggestionResponse)
+                .toList();
+    }
+
     default PaginationResponse<BrandResponse> paginationToPaginationResponse(Pagination<Brand> pagination) {
         List<BrandResponse> brandResponses = pagination.getContent().stream()
                 .map(this::brandToResponse)
                 .toList();
-        Pagination<BrandResponse> responsePagination = new Pagination<>(
+        return toPaginationResponse(pagination.withContent(brandResponses));
+    }
+
+    default CursorPaginationResponse<BrandResponse> cursorPaginationToCursorPaginationResponse(CursorPagination<Brand> pagination) {
+        List<BrandResponse> brandResponses = pagination.getContent().stream()
+                .map(this::brandToResponse)
+                .toList();
+        return new CursorPaginationResponse<>(
                 brandResponses,
-                pagination.getPageNumber(),
                 pagination.getPageSize(),
-                pagination.getTotalElements());
-        return toPaginationResponse(responsePagination);
+                pagination.getNextCursor(),
+                pagination.isLast(),
+                pagination.isEmpty());
     }
 
     @Mapping(target = "page", source = "pagination.pageNumber")
     @Mapping(target = "size", source = "pagination.pageSize")
     @Mapping(target = "totalElements", source = "pagination.totalElements")
     @Mapping(target = "totalPages", source = "pagination.totalPages")
+    @Mapping(target = "approximateTotal", source = "pagination.approximateTotal")
     @Mapping(target = "first", source = "pagination.first")
     @Mapping(target = "last", source = "pagination.last")
     @Mapping(target = "empty", source = "pagination.empty")
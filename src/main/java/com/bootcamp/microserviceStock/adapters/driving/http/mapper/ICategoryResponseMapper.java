@@ -1,8 +1,11 @@
 package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
 
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CategoryResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CursorPaginationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.NameSuggestionResponse;
 import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.PaginationResponse;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,22 +16,38 @@ import java.util.List;
 public interface ICategoryResponseMapper {
     CategoryResponse categoryToResponse(Category category);
 
+    NameSuggestionResponse categoryToSuggestionResponse(Category category);
+
+    default List<NameSuggestionResponse> categoriesToSuggestionResponses(List<Category> categories) {
+        return categories.stream()
+                .map(this::categoryToSuggestionResponse)
+                .toList();
+    }
+
     default PaginationResponse<CategoryResponse> paginationToPaginationResponse(Pagination<Category> pagination) {
         List<CategoryResponse> categoryResponses = pagination.getContent().stream()
                 .map(this::categoryToResponse)
                 .toList();
-        Pagination<CategoryResponse> responsePagination = new Pagination<>(
+        return toPaginationResponse(pagination.withContent(categoryResponses));
+    }
+
+    default CursorPaginationResponse<CategoryResponse> cursorPaginationToCursorPaginationResponse(CursorPagination<Category> pagination) {
+        List<CategoryResponse> categoryResponses = pagination.getContent().stream()
+                .map(this::categoryToResponse)
+                .toList();
+        return new CursorPaginationResponse<>(
                 categoryResponses,
-                pagination.getPageNumber(),
                 pagination.getPageSize(),
-                pagination.getTotalElements());
-        return toPaginationResponse(responsePagination);
+                pagination.getNextCursor(),
+                pagination.isLast(),
+                pagination.isEmpty());
     }
 
     @Mapping(target = "page", source = "pagination.pageNumber")
     @Mapping(target = "size", source = "pagination.pageSize")
     @Mapping(target = "totalElements", source = "pagination.totalElements")
     @Mapping(target = "totalPages", source = "pagination.totalPages")
+    @Mapping(target = "approximateTotal", source = "pagination.approximateTotal")
     @Mapping(target = "first", source = "pagination.first")
     @Mapping(target = "last", source = "pagination.last")
     @Mapping(target = "empty", source = "pagination.empty")
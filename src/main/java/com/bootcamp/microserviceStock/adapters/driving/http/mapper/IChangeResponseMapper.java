@@ -0,0 +1,23 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.CatalogChangeResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ChangeFeedResponse;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import com.bootcamp.microserviceStock.domain.util.ChangeFeed;
+import com.bootcamp.microserviceStock.domain.util.ChangeType;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper(componentModel = "spring", uses = {IBrandResponseMapper.class, ICategoryResponseMapper.class, IArticleResponseMapper.class})
+public interface IChangeResponseMapper {
+    @Mapping(source = "type", target = "type", qualifiedByName = "mapChangeTypeToString")
+    CatalogChangeResponse changeToResponse(CatalogChange change);
+
+    ChangeFeedResponse changeFeedToResponse(ChangeFeed changeFeed);
+
+    @Named("mapChangeTypeToString")
+    default String mapChangeTypeToString(ChangeType type) {
+        return type.name().toLowerCase();
+    }
+}
\ No newline at end of file
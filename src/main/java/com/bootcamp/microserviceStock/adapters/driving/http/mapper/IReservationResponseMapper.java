@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.ReservationResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.StockAvailabilityResponse;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IReservationResponseMapper {
+    ReservationResponse reservationToResponse(Reservation reservation);
+
+    StockAvailabilityResponse availabilityToResponse(StockAvailability availability);
+}
\ No newline at end of file
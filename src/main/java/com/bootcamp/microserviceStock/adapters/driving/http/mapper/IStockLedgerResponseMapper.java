@@ -0,0 +1,23 @@
+package com.bootcamp.microserviceStock.adapters.driving.http.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.StockLedgerResponse;
+import com.bootcamp.microserviceStock.adapters.driving.http.dto.response.StockMovementResponse;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.util.StockLedger;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper(componentModel = "spring", uses = IReservationResponseMapper.class)
+public interface IStockLedgerResponseMapper {
+    @Mapping(source = "reason", target = "reason", qualifiedByName = "mapReasonToString")
+    StockMovementResponse movementToResponse(StockMovement movement);
+
+    StockLedgerResponse ledgerToResponse(StockLedger ledger);
+
+    @Named("mapReasonToString")
+    default String mapReasonToString(StockMovementReason reason) {
+        return reason.name().toLowerCase();
+    }
+}
\ No newline at end of file
@@ -3,24 +3,83 @@ package com.bootcamp.microserviceStock.configuration;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ArticleAdapter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.BrandAdapter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.CategoryAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ChangeAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ReservationAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.StockLedgerAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer.BufferedArticlePersistencePort;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer.StockAdjustmentBuffer;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachingBrandPersistencePort;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachingCategoryPersistencePort;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.ExistingIdCache;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.ListingCache;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change.CatalogIndexSync;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change.ChangeVersionStamper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.InStockRefresher;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockLedgerCompactor;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IReservationEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IStockMovementEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.OutboxRelay;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArchivedStockMovementRepository;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IReservationRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockSnapshotRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation.ExpiringReservationPersistencePort;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation.ReservationSweeper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.FileOutboxPublisher;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.IOutboxPublisher;
+import com.bootcamp.microserviceStock.configuration.metrics.PortMetricsInterceptor;
 import com.bootcamp.microserviceStock.domain.api.IArticleServicePort;
 import com.bootcamp.microserviceStock.domain.api.IBrandServicePort;
 import com.bootcamp.microserviceStock.domain.api.ICategoryServicePort;
+import com.bootcamp.microserviceStock.domain.api.IChangeServicePort;
+import com.bootcamp.microserviceStock.domain.api.IReservationServicePort;
+import com.bootcamp.microserviceStock.domain.api.IStockLedgerServicePort;
 import com.bootcamp.microserviceStock.domain.api.useCase.ArticleUseCase;
 import com.bootcamp.microserviceStock.domain.api.useCase.BrandUseCase;
 import com.bootcamp.microserviceStock.domain.api.useCase.CategoryUseCase;
+import com.bootcamp.microserviceStock.domain.api.useCase.ChangeUseCase;
+import com.bootcamp.microserviceStock.domain.api.useCase.ReservationUseCase;
+import com.bootcamp.microserviceStock.domain.api.useCase.StockLedgerUseCase;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.IStockLedgerPersistencePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
@@ -31,34 +90,490 @@ public class BeanConfiguration {
     private final IBrandEntityMapper brandEntityMapper;
     private final IArticleRepository articleRepository;
     private final IArticleEntityMapper articleEntityMapper;
+    private final IOutboxEventRepository outboxEventRepository;
+    private final IReservationRepository reservationRepository;
+    private final IReservationEntityMapper reservationEntityMapper;
+    private final IStockMovementRepository stockMovementRepository;
+    private final IArchivedStockMovementRepository archivedStockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final IStockMovementEntityMapper stockMovementEntityMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+    private final IChangeStampRepository changeStampRepository;
+
+    @Value("${stock.pagination.approximate-total-refresh}")
+    private Duration approximateTotalRefresh;
+
+    @Value("${stock.cache.existing-ids.max-size}")
+    private int existingIdsMaxSize;
+
+    @Value("${stock.cache.existing-ids.ttl}")
+    private Duration existingIdsTtl;
+
+    @Value("${stock.cache.listings.max-size}")
+    private long listingsMaxSize;
+
+    @Value("${stock.cache.listings.ttl}")
+    private Duration listingsTtl;
+
+    @Value("${stock.name-filter.expected-names}")
+    private long nameFilterExpectedNames;
+
+    @Value("${stock.name-filter.false-positive-rate}")
+    private double nameFilterFalsePositiveRate;
+
+    @Value("${stock.changes.stamp-batch-size}")
+    private int changesStampBatchSize;
+
+    @Value("${stock.changes.stamp-interval}")
+    private Duration changesStampInterval;
+
+    @Value("${stock.index.sync-batch-size}")
+    private int indexSyncBatchSize;
+
+    @Value("${stock.index.sync-interval}")
+    private Duration indexSyncInterval;
+
+    @Value("${stock.outbox.batch-size}")
+    private int outboxBatchSize;
+
+    @Value("${stock.outbox.poll-interval}")
+    private Duration outboxPollInterval;
+
+    @Value("${stock.outbox.file}")
+    private Path outboxFile;
+
+    @Value("${stock.buffer.stripes}")
+    private int stockBufferStripes;
+
+    @Value("${stock.buffer.flush-interval}")
+    private Duration stockBufferFlushInterval;
+
+    @Value("${stock.buffer.max-pending-units}")
+    private int stockBufferMaxPendingUnits;
+
+    @Value("${stock.reservations.default-ttl}")
+    private Duration reservationDefaultTtl;
+
+    @Value("${stock.reservations.max-ttl}")
+    private Duration reservationMaxTtl;
+
+    @Value("${stock.ledger.compaction-batch-size}")
+    private int ledgerCompactionBatchSize;
+
+    @Value("${stock.ledger.compaction-interval}")
+    private Duration ledgerCompactionInterval;
+
+    @Value("${stock.facets.in-stock-refresh}")
+    private Duration facetsInStockRefresh;
+
+    @Bean
+    public ExistingIdCache categoryIdCache() {
+        return new ExistingIdCache(existingIdsMaxSize, existingIdsTtl);
+    }
+
+    @Bean
+    public ExistingIdCache brandIdCache() {
+        return new ExistingIdCache(existingIdsMaxSize, existingIdsTtl);
+    }
+
+    @Bean
+    public ListingCache<Category> categoryListingCache() {
+        return new ListingCache<>(listingsMaxSize, listingsTtl);
+    }
+
+    @Bean
+    public ListingCache<Brand> brandListingCache() {
+        return new ListingCache<>(listingsMaxSize, listingsTtl);
+    }
+
+    @Bean
+    public NameBloomFilter categoryNameFilter() {
+        return new NameBloomFilter(nameFilterExpectedNames, nameFilterFalsePositiveRate);
+    }
+
+    @Bean
+    public NameBloomFilter brandNameFilter() {
+        return new NameBloomFilter(nameFilterExpectedNames, nameFilterFalsePositiveRate);
+    }
+
+    @Bean
+    public NameBloomFilter articleNameFilter() {
+        return new NameBloomFilter(nameFilterExpectedNames, nameFilterFalsePositiveRate);
+    }
+
+    @Bean
+    public NameSuggestionIndex categoryNameIndex() {
+        return new NameSuggestionIndex();
+    }
+
+    @Bean
+    public NameSuggestionIndex brandNameIndex() {
+        return new NameSuggestionIndex();
+    }
+
+    @Bean
+    public TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    @Bean
+    public TransactionTemplate transaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public ApplicationRunner nameFilterLoader() {
+        return args -> readOnlyTransaction().executeWithoutResult(status -> {
+            categoryNameFilter().load(categoryRepository.streamAllNames());
+            brandNameFilter().load(brandRepository.streamAllNames());
+            articleNameFilter().load(articleRepository.streamAllNames());
+        });
+    }
+
+    @Bean
+    public MeterBinder nameFilterMetrics() {
+        return registry -> {
+            bindNameFilter(registry, "category", categoryNameFilter());
+            bindNameFilter(registry, "brand", brandNameFilter());
+            bindNameFilter(registry, "article", articleNameFilter());
+        };
+    }
+
+    @Bean
+    public MeterBinder nameSuggestionIndexMetrics() {
+        return registry -> {
+            bindNameSuggestionIndex(registry, "category", categoryNameIndex());
+            bindNameSuggestionIndex(registry, "brand", brandNameIndex());
+        };
+    }
+
+    @Bean
+    public MeterBinder existingIdCacheMetrics() {
+        return registry -> {
+            bindExistingIdCache(registry, "category", categoryIdCache());
+            bindExistingIdCache(registry, "brand", brandIdCache());
+        };
+    }
+
+    @Bean
+    public MeterBinder listingCacheMetrics() {
+        return registry -> {
+            bindListingCache(registry, "category", categoryListingCache());
+            bindListingCache(registry, "brand", brandListingCache());
+        };
+    }
 
     @Bean
     public ICategoryPersistencePort categoryPersistencePort() {
-        return new CategoryAdapter(categoryRepository, categoryEntityMapper);
+        return PortMetricsInterceptor.instrument(ICategoryPersistencePort.class,
+                new CachingCategoryPersistencePort(new CategoryAdapter(categoryRepository, categoryEntityMapper,
+                        new CachedCount(categoryRepository::count, approximateTotalRefresh), categoryNameFilter(), categoryNameIndex()), categoryIdCache(), categoryListingCache()),
+                meterRegistry);
     }
 
     @Bean
     public ICategoryServicePort categoryServicePort() {
-        return new CategoryUseCase(categoryPersistencePort());
+        return PortMetricsInterceptor.instrument(ICategoryServicePort.class,
+                new CategoryUseCase(categoryPersistencePort()),
+                meterRegistry);
     }
 
     @Bean
     public IBrandPersistencePort brandPersistencePort() {
-        return new BrandAdapter(brandRepository, brandEntityMapper);
+        return PortMetricsInterceptor.instrument(IBrandPersistencePort.class,
+                new CachingBrandPersistencePort(new BrandAdapter(brandRepository, brandEntityMapper,
+                        new CachedCount(brandRepository::count, approximateTotalRefresh), brandNameFilter(), brandNameIndex()), brandIdCache(), brandListingCache()),
+                meterRegistry);
     }
 
     @Bean
     public IBrandServicePort brandServicePort() {
-        return new BrandUseCase(brandPersistencePort());
+        return PortMetricsInterceptor.instrument(IBrandServicePort.class,
+                new BrandUseCase(brandPersistencePort()),
+                meterRegistry);
+    }
+
+    @Bean
+    public ArticleOutbox articleOutbox() {
+        return new ArticleOutbox(outboxEventRepository, objectMapper, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public IOutboxPublisher outboxPublisher() {
+        return new FileOutboxPublisher(outboxFile, objectMapper);
     }
 
     @Bean
+    public OutboxRelay outboxRelay() {
+        return new OutboxRelay(outboxEventRepository, outboxPublisher(), transaction(), outboxBatchSize, outboxPollInterval);
+    }
+
+    @Bean
+    public MeterBinder outboxMetrics() {
+        return registry -> FunctionCounter.builder("stock.outbox.published", outboxRelay(), OutboxRelay::getPublished)
+                .description("Outbox events handed to the publisher")
+                .register(registry);
+    }
+
+    @Bean
+    public StockMovementLog stockMovementLog() {
+        return new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public StockLedgerCompactor stockLedgerCompactor() {
+        return new StockLedgerCompactor(stockMovementRepository, archivedStockMovementRepository, stockSnapshotRepository,
+                stockMovementEntityMapper, transaction(), Clock.systemDefaultZone(), ledgerCompactionBatchSize, ledgerCompactionInterval);
+    }
+
+    @Bean
+    public MeterBinder stockLedgerMetrics() {
+        return registry -> FunctionCounter.builder("stock.ledger.compacted", stockLedgerCompactor(), StockLedgerCompactor::getCompacted)
+                .description("Stock movements folded into snapshots and archived")
+                .register(registry);
+    }
+
+    @Bean
+    public ArticleSearchIndex articleSearchIndex() {
+        return new ArticleSearchIndex();
+    }
+
+    @Bean
+    public MeterBinder articleSearchIndexMetrics() {
+        return registry -> {
+            Gauge.builder("stock.search.index.documents", articleSearchIndex(), ArticleSearchIndex::getDocuments)
+                    .description("Articles in the search index")
+                    .register(registry);
+            Gauge.builder("stock.search.index.terms", articleSearchIndex(), ArticleSearchIndex::getTerms)
+                    .description("Distinct terms in the search index")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public ArticleFacetIndex articleFacetIndex() {
+        return new ArticleFacetIndex();
+    }
+
+    @Bean
+    public InStockRefresher inStockRefresher() {
+        return new InStockRefresher(articleFacetIndex(), articleRepository, readOnlyTransaction(), facetsInStockRefresh);
+    }
+
+    @Bean
+    public MeterBinder articleFacetIndexMetrics() {
+        return registry -> {
+            Gauge.builder("stock.facets.index.documents", articleFacetIndex(), ArticleFacetIndex::getDocuments)
+                    .description("Articles in the facet index")
+                    .register(registry);
+            FunctionCounter.builder("stock.facets.refreshes", inStockRefresher(), InStockRefresher::getRefreshes)
+                    .description("Reloads of the in-stock articles")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public ArticleAdapter articleAdapter() {
+        return new ArticleAdapter(articleRepository, articleEntityMapper,
+                new CachedCount(articleRepository::count, approximateTotalRefresh), articleNameFilter(),
+                readOnlyTransaction(), transaction(), articleOutbox(),
+                stockMovementLog(), articleSearchIndex(), articleFacetIndex());
+    }
+
+    @Bean
+    public StockAdjustmentBuffer stockAdjustmentBuffer() {
+        return new StockAdjustmentBuffer(articleAdapter(), stockBufferStripes, stockBufferFlushInterval, stockBufferMaxPendingUnits);
+    }
+
+    @Bean
+    public MeterBinder stockAdjustmentBufferMetrics() {
+        return registry -> {
+            FunctionCounter.builder("stock.buffer.adjustments", stockAdjustmentBuffer(), StockAdjustmentBuffer::getAdjustments)
+                    .description("Stock adjustments coalesced by the buffer")
+                    .register(registry);
+            FunctionCounter.builder("stock.buffer.updates", stockAdjustmentBuffer(), StockAdjustmentBuffer::getUpdates)
+                    .description("Stock updates the buffer sent to the database")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @Primary
     public IArticlePersistencePort articlePersistencePort() {
-        return new ArticleAdapter(articleRepository, articleEntityMapper);
+        return PortMetricsInterceptor.instrument(IArticlePersistencePort.class,
+                new BufferedArticlePersistencePort(articleAdapter(), stockAdjustmentBuffer()),
+                meterRegistry);
     }
 
     @Bean
     public IArticleServicePort articleServicePort() {
-        return new ArticleUseCase(articlePersistencePort(), categoryPersistencePort(), brandPersistencePort());
+        return PortMetricsInterceptor.instrument(IArticleServicePort.class,
+                new ArticleUseCase(articlePersistencePort(), categoryPersistencePort(), brandPersistencePort()),
+                meterRegistry);
+    }
+
+    @Bean
+    public ReservationAdapter reservationAdapter() {
+        return new ReservationAdapter(reservationRepository, articleRepository, reservationEntityMapper,
+                readOnlyTransaction(), transaction(), stockMovementLog());
+    }
+
+    @Bean
+    public ReservationSweeper reservationSweeper() {
+        return new ReservationSweeper(reservationAdapter(), Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public MeterBinder reservationSweeperMetrics() {
+        return registry -> {
+            Gauge.builder("stock.reservations.scheduled", reservationSweeper(), ReservationSweeper::getScheduled)
+                    .description("Reservations waiting for their expiry")
+                    .register(registry);
+            FunctionCounter.builder("stock.reservations.expired", reservationSweeper(), ReservationSweeper::getExpired)
+                    .description("Reservations released because they expired")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @Primary
+    public IReservationPersistencePort reservationPersistencePort() {
+        return PortMetricsInterceptor.instrument(IReservationPersistencePort.class,
+                new ExpiringReservationPersistencePort(reservationAdapter(), reservationSweeper()),
+                meterRegistry);
+    }
+
+    @Bean
+    public IReservationServicePort reservationServicePort() {
+        return PortMetricsInterceptor.instrument(IReservationServicePort.class,
+                new ReservationUseCase(reservationPersistencePort(), Clock.systemDefaultZone(), reservationDefaultTtl, reservationMaxTtl),
+                meterRegistry);
+    }
+
+    @Bean
+    public IStockLedgerPersistencePort stockLedgerPersistencePort() {
+        return PortMetricsInterceptor.instrument(IStockLedgerPersistencePort.class,
+                new StockLedgerAdapter(stockMovementRepository, archivedStockMovementRepository, stockMovementEntityMapper,
+                        readOnlyTransaction()),
+                meterRegistry);
+    }
+
+    @Bean
+    public IStockLedgerServicePort stockLedgerServicePort() {
+        return PortMetricsInterceptor.instrument(IStockLedgerServicePort.class,
+                new StockLedgerUseCase(stockLedgerPersistencePort()),
+                meterRegistry);
+    }
+
+    @Bean
+    public IChangePersistencePort changePersistencePort() {
+        return PortMetricsInterceptor.instrument(IChangePersistencePort.class,
+                new ChangeAdapter(brandRepository, categoryRepository, articleRepository,
+                        brandEntityMapper, categoryEntityMapper, articleEntityMapper,
+                        changeStampRepository),
+                meterRegistry);
+    }
+
+    @Bean
+    public ChangeVersionStamper changeVersionStamper() {
+        return new ChangeVersionStamper(brandRepository, categoryRepository, articleRepository, changeStampRepository,
+                transaction(), changesStampBatchSize, changesStampInterval);
+    }
+
+    @Bean
+    public MeterBinder changeVersionStamperMetrics() {
+        return registry -> FunctionCounter.builder("stock.changes.stamped", changeVersionStamper(), ChangeVersionStamper::getStamped)
+                .description("Changed rows given a change version")
+                .register(registry);
+    }
+
+    @Bean
+    public CatalogIndexSync catalogIndexSync() {
+        return new CatalogIndexSync(changePersistencePort(), changeStampRepository, brandRepository, categoryRepository,
+                articleRepository, brandNameIndex(), categoryNameIndex(), articleSearchIndex(), articleFacetIndex(),
+                readOnlyTransaction(), indexSyncBatchSize, indexSyncInterval);
+    }
+
+    @Bean
+    public MeterBinder catalogIndexSyncMetrics() {
+        return registry -> FunctionCounter.builder("stock.index.sync.applied", catalogIndexSync(), CatalogIndexSync::getApplied)
+                .description("Catalog changes applied to the in-memory indexes")
+                .register(registry);
+    }
+
+    @Bean
+    public IChangeServicePort changeServicePort() {
+        return PortMetricsInterceptor.instrument(IChangeServicePort.class,
+                new ChangeUseCase(changePersistencePort()),
+                meterRegistry);
+    }
+
+    private static void bindNameFilter(MeterRegistry registry, String entity, NameBloomFilter nameFilter) {
+        Gauge.builder("stock.name.filter.false.positive.rate", nameFilter, NameBloomFilter::getFalsePositiveRate)
+                .description("Share of absent names that the filter reported as maybe present")
+                .tag("entity", entity)
+                .register(registry);
+        Gauge.builder("stock.name.filter.memory", nameFilter, NameBloomFilter::getMemoryBytes)
+                .description("Memory used by the filter bit array")
+                .baseUnit("bytes")
+                .tag("entity", entity)
+                .register(registry);
+    }
+
+    private static void bindListingCache(MeterRegistry registry, String entity, ListingCache<?> listingCache) {
+        FunctionCounter.builder("stock.listing.cache.requests", listingCache, ListingCache::getHits)
+                .description("Listing pages answered from memory")
+                .tag("entity", entity)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("stock.listing.cache.requests", listingCache, ListingCache::getMisses)
+                .description("Listing pages loaded from the database")
+                .tag("entity", entity)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("stock.listing.cache.hit.ratio", listingCache, ListingCache::getHitRatio)
+                .description("Share of listing pages answered from memory")
+                .tag("entity", entity)
+                .register(registry);
+        FunctionCounter.builder("stock.listing.cache.evictions", listingCache, ListingCache::getEvictions)
+                .description("Listing pages evicted to stay within the size bound or expired")
+                .tag("entity", entity)
+                .register(registry);
+        Gauge.builder("stock.listing.cache.size", listingCache, ListingCache::size)
+                .description("Listing pages held in memory")
+                .tag("entity", entity)
+                .register(registry);
+    }
+
+    private static void bindNameSuggestionIndex(MeterRegistry registry, String entity, NameSuggestionIndex nameIndex) {
+        Gauge.builder("stock.suggest.index.names", nameIndex, NameSuggestionIndex::getNames)
+                .description("Names in the typeahead index")
+                .tag("entity", entity)
+                .register(registry);
+    }
+
+    private static void bindExistingIdCache(MeterRegistry registry, String entity, ExistingIdCache existingIdCache) {
+        FunctionCounter.builder("stock.existing.ids.cache.requests", existingIdCache, ExistingIdCache::getHits)
+                .description("Existence checks answered from memory")
+                .tag("entity", entity)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("stock.existing.ids.cache.requests", existingIdCache, ExistingIdCache::getMisses)
+                .description("Existence checks that went to the database")
+                .tag("entity", entity)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("stock.existing.ids.cache.evictions", existingIdCache, ExistingIdCache::getEvictions)
+                .description("Known ids evicted to stay within the size bound or expired")
+                .tag("entity", entity)
+                .register(registry);
+        Gauge.builder("stock.existing.ids.cache.size", existingIdCache, ExistingIdCache::size)
+                .description("Known ids held in memory")
+                .tag("entity", entity)
+                .register(registry);
     }
 }
\ No newline at end of file
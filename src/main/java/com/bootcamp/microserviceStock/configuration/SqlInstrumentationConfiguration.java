@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.configuration;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.instrumentation.RepositoryMethodInterceptor;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.instrumentation.SqlMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class SqlInstrumentationConfiguration {
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${stock.sql.slow-threshold}") Duration slowThreshold,
+            @Value("${stock.sql.log-sample-rate}") double logSampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SqlMetricsListener(meterRegistry::getObject, slowThreshold, logSampleRate))
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMethodPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0,
+                                    new RepositoryMethodInterceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
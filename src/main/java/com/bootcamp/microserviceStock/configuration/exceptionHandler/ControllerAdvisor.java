@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.validation.BindException;
 
@@ -30,6 +31,17 @@ public class ControllerAdvisor {
         return ResponseEntity.badRequest().body(response);
     }
 
+    // Raised for constraints on the elements of a list body, which are validated as method parameters.
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ExceptionResponse> handleValidationExceptionsDTOList(HandlerMethodValidationException ex) {
+        ArrayList<String> errors = new ArrayList<>();
+        ex.getAllValidationResults().forEach(
+                result -> result.getResolvableErrors().forEach(error -> errors.add(error.getDefaultMessage()))
+        );
+        ExceptionResponse response = new ExceptionResponse(errors, HttpStatus.BAD_REQUEST.toString(), LocalDateTime.now());
+        return ResponseEntity.badRequest().body(response);
+    }
+
 //    @ExceptionHandler({MethodArgumentTypeMismatchException.class, BindException.class})
 //    public ResponseEntity<ExceptionResponse> handleMethodArgumentTypeMismatchException(BindException ex) {
 //        ArrayList<String> errors = new ArrayList<>();
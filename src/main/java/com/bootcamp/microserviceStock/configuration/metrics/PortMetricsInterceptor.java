@@ -0,0 +1,148 @@
+package com.bootcamp.microserviceStock.configuration.metrics;
+
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class PortMetricsInterceptor implements MethodInterceptor {
+    public static final String CALL_TIMER = "stock.port.calls";
+    public static final String VALIDATION_FAILURE_COUNTER = "stock.port.validation.failures";
+
+    private static final String PAGE_SIZE_PARAMETER = "pageSize";
+    private static final String SORT_BY_PARAMETER = "sortBy";
+    private static final String NONE = "none";
+    private static final String[] OUTCOMES = {"success", "validation_error", "error"};
+    private static final String[] PAGE_SIZE_BUCKETS = {NONE, "1-10", "11-50", "51-100", "101+", "invalid"};
+    private static final List<String> SORT_BY_VALUES = List.of(NONE, "invalid", DomainConstants.VALID_SORT_BY_FIELD,
+            DomainConstants.SORT_BY_BRAND_NAME, DomainConstants.SORT_BY_CATEGORY_NAME);
+
+    private final MeterRegistry meterRegistry;
+    private final String portName;
+    private final Map<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+    public PortMetricsInterceptor(MeterRegistry meterRegistry, Class<?> port) {
+        this.meterRegistry = meterRegistry;
+        this.portName = port.getSimpleName();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T instrument(Class<T> port, T target, MeterRegistry meterRegistry) {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(target);
+        proxyFactory.addInterface(port);
+        proxyFactory.addAdvice(new PortMetricsInterceptor(meterRegistry, port));
+        return (T) proxyFactory.getProxy();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters meters = methodMeters.computeIfAbsent(invocation.getMethod(), MethodMeters::new);
+        int outcome = 0;
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (ValidationException exception) {
+            outcome = 1;
+            meters.countValidationFailures(exception.getErrors());
+            throw exception;
+        } catch (Throwable throwable) {
+            outcome = 2;
+            throw throwable;
+        } finally {
+            meters.timer(outcome, invocation.getArguments()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final class MethodMeters {
+        private final String methodName;
+        private final int pageSizeIndex;
+        private final int sortByIndex;
+        private final AtomicReferenceArray<Timer> timers;
+        private final Map<String, Counter> validationFailures = new ConcurrentHashMap<>();
+
+        private MethodMeters(Method method) {
+            this.methodName = method.getName();
+            this.pageSizeIndex = parameterIndex(method, PAGE_SIZE_PARAMETER);
+            this.sortByIndex = parameterIndex(method, SORT_BY_PARAMETER);
+            this.timers = new AtomicReferenceArray<>(OUTCOMES.length * PAGE_SIZE_BUCKETS.length * SORT_BY_VALUES.size());
+        }
+
+        private Timer timer(int outcome, Object[] arguments) {
+            int pageSizeBucket = pageSizeIndex < 0 ? 0 : pageSizeBucket(arguments[pageSizeIndex]);
+            int sortBy = sortByIndex < 0 ? 0 : sortByValue(arguments[sortByIndex]);
+            int slot = (outcome * PAGE_SIZE_BUCKETS.length + pageSizeBucket) * SORT_BY_VALUES.size() + sortBy;
+            Timer timer = timers.get(slot);
+            if (timer == null) {
+                timer = Timer.builder(CALL_TIMER)
+                        .description("Time spent in service and persistence port methods")
+                        .tag("port", portName)
+                        .tag("method", methodName)
+                        .tag("outcome", OUTCOMES[outcome])
+                        .tag("page.size", PAGE_SIZE_BUCKETS[pageSizeBucket])
+                        .tag("sort.by", SORT_BY_VALUES.get(sortBy))
+                        .register(meterRegistry);
+                timers.set(slot, timer);
+            }
+            return timer;
+        }
+
+        private void countValidationFailures(List<String> errors) {
+            for (String error : errors) {
+                validationFailures.computeIfAbsent(ValidationMessages.constantNameOf(error), reason -> Counter.builder(VALIDATION_FAILURE_COUNTER)
+                                .description("Validation errors raised by port methods, by DomainConstants message")
+                                .tag("port", portName)
+                                .tag("method", methodName)
+                                .tag("reason", reason)
+                                .register(meterRegistry))
+                        .increment();
+            }
+        }
+    }
+
+    private static int parameterIndex(Method method, String name) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int pageSizeBucket(Object pageSize) {
+        if (!(pageSize instanceof Integer size)) {
+            return 0;
+        }
+        if (size <= 0) {
+            return 5;
+        }
+        if (size <= 10) {
+            return 1;
+        }
+        if (size <= 50) {
+            return 2;
+        }
+        return size <= 100 ? 3 : 4;
+    }
+
+    private static int sortByValue(Object sortBy) {
+        if (sortBy == null) {
+            return 0;
+        }
+        int index = SORT_BY_VALUES.indexOf(sortBy);
+        return index < 2 ? 1 : index;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.bootcamp.microserviceStock.configuration.metrics;
+
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class ValidationMessages {
+    static final String UNKNOWN = "UNKNOWN";
+
+    private static final Map<String, String> CONSTANT_BY_MESSAGE = new HashMap<>();
+    private static final Map<Pattern, String> CONSTANT_BY_TEMPLATE = new LinkedHashMap<>();
+
+    static {
+        for (Field field : DomainConstants.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class || !field.getName().endsWith("_MESSAGE")) {
+                continue;
+            }
+            String message = readConstant(field);
+            if (message.contains("%")) {
+                String[] literals = message.split("%[ds]", -1);
+                StringBuilder regex = new StringBuilder();
+                for (int i = 0; i < literals.length; i++) {
+                    if (i > 0) {
+                        regex.append(".*?");
+                    }
+                    regex.append(Pattern.quote(literals[i]));
+                }
+                CONSTANT_BY_TEMPLATE.put(Pattern.compile(regex.toString()), field.getName());
+            } else {
+                CONSTANT_BY_MESSAGE.put(message, field.getName());
+            }
+        }
+    }
+
+    private ValidationMessages() {
+    }
+
+    static String constantNameOf(String message) {
+        String constant = CONSTANT_BY_MESSAGE.get(message);
+        if (constant != null) {
+            return constant;
+        }
+        for (Map.Entry<Pattern, String> template : CONSTANT_BY_TEMPLATE.entrySet()) {
+            if (template.getKey().matcher(message).matches()) {
+                return template.getValue();
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private static String readConstant(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,25 @@
 package com.bootcamp.microserviceStock.domain.api;
 
 import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.BulkResult;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IArticleServicePort {
     void createArticle(Article article);
-    Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    BulkResult createArticles(List<Article> articles);
+    Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total, ArticleFilter filter);
+    ArticleFacets countArticleFacets(ArticleFilter filter);
+    CursorPagination<Article> listArticlesAfter(String after, Integer pageSize, String sortBy, String sortDirection);
+    void exportArticles(Consumer<Article> consumer);
+    List<Article> searchArticles(String query, Integer limit);
+    void adjustStock(Long articleId, Integer delta);
+    void adjustStocks(List<StockAdjustment> adjustments);
 }
@@ -1,9 +1,15 @@
 package com.bootcamp.microserviceStock.domain.api;
 
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+
+import java.util.List;
 
 public interface IBrandServicePort {
     void createBrand(Brand brand);
-    Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total);
+    CursorPagination<Brand> listBrandsAfter(String after, Integer pageSize, String sortBy, String sortDirection);
+    List<Brand> suggestBrands(String prefix, Integer limit);
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.bootcamp.microserviceStock.domain.api;
 
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+
+import java.util.List;
 
 public interface ICategoryServicePort {
     void createCategory(Category category);
-    Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total);
+    CursorPagination<Category> listCategoriesAfter(String after, Integer pageSize, String sortBy, String sortDirection);
+    List<Category> suggestCategories(String prefix, Integer limit);
 }
\ No newline at end of file
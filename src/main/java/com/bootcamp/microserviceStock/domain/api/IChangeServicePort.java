@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.domain.api;
+
+import com.bootcamp.microserviceStock.domain.util.ChangeFeed;
+
+public interface IChangeServicePort {
+    ChangeFeed listChanges(Long since, Integer limit);
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.bootcamp.microserviceStock.domain.api;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+
+public interface IReservationServicePort {
+    Reservation reserve(Long articleId, Integer quantity, Long ttlSeconds);
+    void confirm(Long reservationId);
+    void release(Long reservationId);
+    StockAvailability getAvailability(Long articleId);
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.domain.api;
+
+import com.bootcamp.microserviceStock.domain.util.StockLedger;
+
+public interface IStockLedgerServicePort {
+    StockLedger getLedger(Long articleId, Long before, Integer limit);
+}
\ No newline at end of file
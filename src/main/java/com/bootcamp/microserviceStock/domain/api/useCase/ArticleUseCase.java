@@ -6,13 +6,28 @@ import com.bootcamp.microserviceStock.domain.model.Article;
 import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.BulkItemError;
+import com.bootcamp.microserviceStock.domain.util.BulkResult;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
+import com.bootcamp.microserviceStock.domain.util.TextNormalizer;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class ArticleUseCase implements IArticleServicePort {
     private final IArticlePersistencePort articlePersistencePort;
@@ -28,41 +43,7 @@ public class ArticleUseCase implements IArticleServicePort {
     @Override
     public void createArticle(Article article) {
         ArrayList<String> errors = new ArrayList<>();
-
-        if (article.getName().trim().isEmpty()) {
-            errors.add(DomainConstants.FIELD_NAME_EMPTY_MESSAGE);
-        }
-        if (article.getDescription().trim().isEmpty()) {
-            errors.add(DomainConstants.FIELD_DESCRIPTION_EMPTY_MESSAGE);
-        }
-        if (article.getQuantity() == null) {
-            errors.add(DomainConstants.FIELD_QUANTITY_NULL_MESSAGE);
-        } else if (article.getQuantity() < 0) {
-            errors.add(DomainConstants.INVALID_QUANTITY_MESSAGE);
-        }
-        if (article.getPrice() == null) {
-            errors.add(DomainConstants.FIELD_PRICE_NULL_MESSAGE);
-        } else if (article.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
-            errors.add(DomainConstants.INVALID_PRICE_MESSAGE);
-        }
-        if (article.getBrand().getId() == null) {
-            errors.add(DomainConstants.FIELD_BRAND_ID_NULL_MESSAGE);
-        } else if (article.getBrand().getId() <= 0) {
-            errors.add(DomainConstants.INVALID_BRAND_ID_MESSAGE);
-        }
-        if (article.getCategoryList().isEmpty()){
-            errors.add(DomainConstants.MIN_FIELD_SIZE_CATEGORY_LIST_MESSAGE);
-        } else if (article.getCategoryList().size() > DomainConstants.MAX_FIELD_SIZE_CATEGORY_LIST) {
-            errors.add(DomainConstants.MAX_FIELD_SIZE_CATEGORY_LIST_MESSAGE);
-        }
-
-        Set<Long> categoryIDs = new HashSet<>();
-
-        article.getCategoryList().forEach(category -> {
-            if (!categoryIDs.add(category.getId())) {
-                errors.add(DomainConstants.DUPLICATED_CATEGORY_MESSAGE);
-            }
-        });
+        Set<Long> categoryIDs = validateArticleFields(article, errors);
 
         for (Long categoryID: categoryIDs) {
             if (!categoryPersistencePort.alreadyExistsByID(categoryID)) {
@@ -86,7 +67,81 @@ public class ArticleUseCase implements IArticleServicePort {
     }
 
     @Override
-    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+    public BulkResult createArticles(List<Article> articles) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (articles == null || articles.isEmpty()) {
+            errors.add(DomainConstants.EMPTY_ARTICLE_BATCH_MESSAGE);
+        } else if (articles.size() > DomainConstants.MAX_ARTICLE_BATCH_SIZE) {
+            errors.add(DomainConstants.MAX_ARTICLE_BATCH_SIZE_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        Set<Long> brandIDs = new HashSet<>();
+        Set<Long> categoryIDs = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Article article : articles) {
+            if (article.getBrand().getId() != null) {
+                brandIDs.add(article.getBrand().getId());
+            }
+            article.getCategoryList().forEach(category -> {
+                if (category.getId() != null) {
+                    categoryIDs.add(category.getId());
+                }
+            });
+            if (article.getName() != null) {
+                names.add(article.getName());
+            }
+        }
+
+        Set<Long> existingBrandIDs = brandIDs.isEmpty() ? Set.of() : brandPersistencePort.findExistingIDs(brandIDs);
+        Set<Long> existingCategoryIDs = categoryIDs.isEmpty() ? Set.of() : categoryPersistencePort.findExistingIDs(categoryIDs);
+        // The unique key on the name ignores case and accents, so names are compared in their normalized form.
+        Set<String> existingNames = names.isEmpty() ? Set.of() : articlePersistencePort.findExistingNames(names).stream()
+                .map(TextNormalizer::normalize)
+                .collect(Collectors.toSet());
+
+        List<Article> validArticles = new ArrayList<>();
+        List<BulkItemError> itemErrors = new ArrayList<>();
+        Set<String> acceptedNames = new HashSet<>();
+        for (int index = 0; index < articles.size(); index++) {
+            Article article = articles.get(index);
+            ArrayList<String> articleErrors = new ArrayList<>();
+
+            for (Long categoryID : validateArticleFields(article, articleErrors)) {
+                if (!existingCategoryIDs.contains(categoryID)) {
+                    articleErrors.add(String.format(DomainConstants.CATEGORY_DOES_NOT_EXIST_MESSAGE, categoryID));
+                }
+            }
+            Long brandID = article.getBrand().getId();
+            if (brandID != null && !existingBrandIDs.contains(brandID)) {
+                articleErrors.add(String.format(DomainConstants.BRAND_DOES_NOT_EXIST_MESSAGE, brandID));
+            }
+            String normalizedName = TextNormalizer.normalize(article.getName());
+            if (existingNames.contains(normalizedName)) {
+                articleErrors.add(DomainConstants.ARTICLE_ALREADY_EXISTS_MESSAGE);
+            } else if (acceptedNames.contains(normalizedName)) {
+                articleErrors.add(DomainConstants.DUPLICATED_ARTICLE_IN_BATCH_MESSAGE);
+            }
+
+            if (articleErrors.isEmpty()) {
+                acceptedNames.add(normalizedName);
+                validArticles.add(article);
+            } else {
+                itemErrors.add(new BulkItemError(index, article.getName(), articleErrors));
+            }
+        }
+
+        if (!validArticles.isEmpty()) {
+            articlePersistencePort.createArticles(validArticles);
+        }
+        return new BulkResult(validArticles.size(), itemErrors);
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total, ArticleFilter filter) {
         ArrayList<String> errors = new ArrayList<>();
 
         if (pageNumber == null) {
@@ -105,10 +160,204 @@ public class ArticleUseCase implements IArticleServicePort {
         if (!sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_ASC) && !sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_DESC)) {
             errors.add(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
         }
+        ArticleFilter articleFilter = filter == null ? ArticleFilter.none() : filter;
+        validateArticleFilter(articleFilter, errors);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        return articlePersistencePort.listArticles(pageNumber, pageSize, sortBy, sortDirection, total, articleFilter);
+    }
+
+    @Override
+    public ArticleFacets countArticleFacets(ArticleFilter filter) {
+        ArrayList<String> errors = new ArrayList<>();
+        ArticleFilter articleFilter = filter == null ? ArticleFilter.none() : filter;
+        validateArticleFilter(articleFilter, errors);
         if (!errors.isEmpty()) {
             throw new ValidationException(errors);
         }
 
-        return articlePersistencePort.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        return articlePersistencePort.countArticleFacets(articleFilter);
+    }
+
+    @Override
+    public CursorPagination<Article> listArticlesAfter(String after, Integer pageSize, String sortBy, String sortDirection) {
+        ArrayList<String> errors = new ArrayList<>();
+        PageCursor cursor = null;
+
+        if (after != null) {
+            cursor = PageCursor.decode(after);
+            if (cursor == null) {
+                errors.add(DomainConstants.INVALID_CURSOR_MESSAGE);
+            }
+        }
+        if (pageSize == null) {
+            errors.add(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
+        } else if (pageSize <= 0) {
+            errors.add(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
+        }
+        if (sortBy == null || !DomainConstants.VALID_SORT_BY_FIELD_ARTICLE.contains(sortBy)) {
+            errors.add(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
+        }
+        if (!sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_ASC) && !sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_DESC)) {
+            errors.add(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
+        }
+        if (cursor != null && errors.isEmpty() && !cursor.isSortedBy(sortBy, sortDirection)) {
+            errors.add(DomainConstants.CURSOR_SORT_MISMATCH_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        return articlePersistencePort.listArticlesAfter(cursor, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public void exportArticles(Consumer<Article> consumer) {
+        articlePersistencePort.exportArticles(consumer);
+    }
+
+    @Override
+    public List<Article> searchArticles(String query, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (query == null || query.trim().isEmpty()) {
+            errors.add(DomainConstants.FIELD_SEARCH_QUERY_EMPTY_MESSAGE);
+        } else if (query.length() > DomainConstants.MAX_SEARCH_QUERY_LENGTH) {
+            errors.add(DomainConstants.MAX_SEARCH_QUERY_LENGTH_MESSAGE);
+        }
+        if (limit == null || limit <= 0 || limit > DomainConstants.MAX_SEARCH_RESULTS) {
+            errors.add(DomainConstants.INVALID_SEARCH_LIMIT_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        return articlePersistencePort.searchArticles(query, limit);
+    }
+
+    @Override
+    public void adjustStock(Long articleId, Integer delta) {
+        ArrayList<String> errors = new ArrayList<>();
+        validateStockAdjustment(articleId, delta, errors);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        if (!articlePersistencePort.adjustStock(articleId, delta)) {
+            throw stockNotAdjusted(Set.of(articleId));
+        }
+    }
+
+    @Override
+    public void adjustStocks(List<StockAdjustment> adjustments) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (adjustments == null || adjustments.isEmpty()) {
+            errors.add(DomainConstants.EMPTY_STOCK_BATCH_MESSAGE);
+        } else if (adjustments.size() > DomainConstants.MAX_STOCK_BATCH_SIZE) {
+            errors.add(DomainConstants.MAX_STOCK_BATCH_SIZE_MESSAGE);
+        } else {
+            adjustments.forEach(adjustment -> validateStockAdjustment(adjustment.getArticleId(), adjustment.getDelta(), errors));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        // One update per article, in ID order, so concurrent batches lock rows in the same order.
+        Map<Long, Integer> deltas = new TreeMap<>();
+        adjustments.forEach(adjustment -> deltas.merge(adjustment.getArticleId(), adjustment.getDelta(), Integer::sum));
+        Set<Long> rejected = articlePersistencePort.adjustStocks(deltas.entrySet().stream()
+                .map(entry -> new StockAdjustment(entry.getKey(), entry.getValue()))
+                .toList());
+        if (!rejected.isEmpty()) {
+            throw stockNotAdjusted(rejected);
+        }
+    }
+
+    private void validateStockAdjustment(Long articleId, Integer delta, ArrayList<String> errors) {
+        if (articleId == null) {
+            addError(errors, DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE);
+        } else if (articleId <= 0) {
+            addError(errors, DomainConstants.INVALID_ARTICLE_ID_MESSAGE);
+        }
+        if (delta == null) {
+            addError(errors, DomainConstants.FIELD_STOCK_DELTA_NULL_MESSAGE);
+        } else if (delta == 0 || Math.abs(delta) > DomainConstants.MAX_STOCK_DELTA) {
+            addError(errors, DomainConstants.INVALID_STOCK_DELTA_MESSAGE);
+        }
+    }
+
+    private void validateArticleFilter(ArticleFilter filter, ArrayList<String> errors) {
+        if (filter.getBrandIds().size() > DomainConstants.MAX_FILTER_IDS || filter.getCategoryIds().size() > DomainConstants.MAX_FILTER_IDS) {
+            errors.add(DomainConstants.MAX_FILTER_IDS_MESSAGE);
+        }
+        if (filter.getBrandIds().stream().anyMatch(id -> id == null || id <= 0)) {
+            errors.add(DomainConstants.INVALID_FILTER_BRAND_ID_MESSAGE);
+        }
+        if (filter.getCategoryIds().stream().anyMatch(id -> id == null || id <= 0)) {
+            errors.add(DomainConstants.INVALID_FILTER_CATEGORY_ID_MESSAGE);
+        }
+        BigDecimal minPrice = filter.getMinPrice();
+        BigDecimal maxPrice = filter.getMaxPrice();
+        if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)) {
+            errors.add(DomainConstants.INVALID_FILTER_PRICE_MESSAGE);
+        } else if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            errors.add(DomainConstants.INVALID_FILTER_PRICE_RANGE_MESSAGE);
+        }
+    }
+
+    private static void addError(ArrayList<String> errors, String error) {
+        if (!errors.contains(error)) {
+            errors.add(error);
+        }
+    }
+
+    private ValidationException stockNotAdjusted(Set<Long> articleIDs) {
+        Set<Long> existingIDs = articlePersistencePort.findExistingIDs(articleIDs);
+        ArrayList<String> errors = new ArrayList<>();
+        new TreeSet<>(articleIDs).forEach(articleID -> errors.add(String.format(existingIDs.contains(articleID)
+                ? DomainConstants.INSUFFICIENT_STOCK_MESSAGE
+                : DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, articleID)));
+        return new ValidationException(errors);
+    }
+
+    private Set<Long> validateArticleFields(Article article, ArrayList<String> errors) {
+        if (article.getName() == null || article.getName().trim().isEmpty()) {
+            errors.add(DomainConstants.FIELD_NAME_EMPTY_MESSAGE);
+        }
+        if (article.getDescription() == null || article.getDescription().trim().isEmpty()) {
+            errors.add(DomainConstants.FIELD_DESCRIPTION_EMPTY_MESSAGE);
+        }
+        if (article.getQuantity() == null) {
+            errors.add(DomainConstants.FIELD_QUANTITY_NULL_MESSAGE);
+        } else if (article.getQuantity() < 0) {
+            errors.add(DomainConstants.INVALID_QUANTITY_MESSAGE);
+        }
+        if (article.getPrice() == null) {
+            errors.add(DomainConstants.FIELD_PRICE_NULL_MESSAGE);
+        } else if (article.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            errors.add(DomainConstants.INVALID_PRICE_MESSAGE);
+        }
+        if (article.getBrand().getId() == null) {
+            errors.add(DomainConstants.FIELD_BRAND_ID_NULL_MESSAGE);
+        } else if (article.getBrand().getId() <= 0) {
+            errors.add(DomainConstants.INVALID_BRAND_ID_MESSAGE);
+        }
+        if (article.getCategoryList().isEmpty()){
+            errors.add(DomainConstants.MIN_FIELD_SIZE_CATEGORY_LIST_MESSAGE);
+        } else if (article.getCategoryList().size() > DomainConstants.MAX_FIELD_SIZE_CATEGORY_LIST) {
+            errors.add(DomainConstants.MAX_FIELD_SIZE_CATEGORY_LIST_MESSAGE);
+        }
+
+        Set<Long> categoryIDs = new HashSet<>();
+
+        article.getCategoryList().forEach(category -> {
+            if (!categoryIDs.add(category.getId())) {
+                errors.add(DomainConstants.DUPLICATED_CATEGORY_MESSAGE);
+            }
+        });
+        return categoryIDs;
     }
 }
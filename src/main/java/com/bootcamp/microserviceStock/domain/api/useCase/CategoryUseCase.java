@@ -5,9 +5,13 @@ import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class CategoryUseCase implements ICategoryServicePort {
     private final ICategoryPersistencePort categoryPersistencePort;
@@ -43,7 +47,7 @@ public class CategoryUseCase implements ICategoryServicePort {
     }
 
     @Override
-    public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+    public Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total) {
         ArrayList<String> errors = new ArrayList<>();
 
         if (pageNumber == null) {
@@ -66,6 +70,57 @@ public class CategoryUseCase implements ICategoryServicePort {
             throw new ValidationException(errors);
         }
 
-        return categoryPersistencePort.listCategories(pageNumber, pageSize, sortBy, sortDirection);
+        return categoryPersistencePort.listCategories(pageNumber, pageSize, sortBy, sortDirection, total);
+    }
+
+    @Override
+    public CursorPagination<Category> listCategoriesAfter(String after, Integer pageSize, String sortBy, String sortDirection) {
+        ArrayList<String> errors = new ArrayList<>();
+        PageCursor cursor = null;
+
+        if (after != null) {
+            cursor = PageCursor.decode(after);
+            if (cursor == null) {
+                errors.add(DomainConstants.INVALID_CURSOR_MESSAGE);
+            }
+        }
+        if (pageSize == null) {
+            errors.add(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
+        } else if (pageSize <= 0) {
+            errors.add(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
+        }
+        if (sortBy == null || !sortBy.equalsIgnoreCase(DomainConstants.VALID_SORT_BY_FIELD)) {
+            errors.add(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
+        }
+        if (!sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_ASC) && !sortDirection.equalsIgnoreCase(DomainConstants.SORT_DIRECTION_DESC)) {
+            errors.add(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
+        }
+        if (cursor != null && errors.isEmpty() && !cursor.isSortedBy(sortBy, sortDirection)) {
+            errors.add(DomainConstants.CURSOR_SORT_MISMATCH_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        return categoryPersistencePort.listCategoriesAfter(cursor, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public List<Category> suggestCategories(String prefix, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (prefix == null || prefix.trim().isEmpty()) {
+            errors.add(DomainConstants.FIELD_SUGGESTION_PREFIX_EMPTY_MESSAGE);
+        } else if (prefix.length() > DomainConstants.MAX_SUGGESTION_PREFIX_LENGTH) {
+            errors.add(DomainConstants.MAX_SUGGESTION_PREFIX_LENGTH_MESSAGE);
+        }
+        if (limit == null || limit <= 0 || limit > DomainConstants.MAX_SUGGESTIONS) {
+            errors.add(DomainConstants.INVALID_SUGGESTION_LIMIT_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        return categoryPersistencePort.suggestCategories(prefix, limit);
     }
 }
\ No newline at end of file
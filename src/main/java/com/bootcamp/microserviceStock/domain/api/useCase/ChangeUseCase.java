@@ -0,0 +1,44 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.api.IChangeServicePort;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import com.bootcamp.microserviceStock.domain.util.ChangeFeed;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChangeUseCase implements IChangeServicePort {
+    private final IChangePersistencePort changePersistencePort;
+
+    public ChangeUseCase(IChangePersistencePort changePersistencePort) {
+        this.changePersistencePort = changePersistencePort;
+    }
+
+    @Override
+    public ChangeFeed listChanges(Long since, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (since == null) {
+            errors.add(DomainConstants.FIELD_CHANGE_VERSION_NULL_MESSAGE);
+        } else if (since < 0) {
+            errors.add(DomainConstants.INVALID_CHANGE_VERSION_MESSAGE);
+        }
+        if (limit == null || limit <= 0 || limit > DomainConstants.MAX_CHANGE_BATCH_SIZE) {
+            errors.add(DomainConstants.INVALID_CHANGE_LIMIT_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        List<CatalogChange> changes = changePersistencePort.listChangesSince(since, limit + 1);
+        boolean last = changes.size() <= limit;
+        if (!last) {
+            changes = changes.subList(0, limit);
+        }
+        Long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeed(changes, nextSince, last);
+    }
+}
\ No newline at end of file
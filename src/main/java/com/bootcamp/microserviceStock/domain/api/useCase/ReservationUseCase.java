@@ -0,0 +1,111 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.api.IReservationServicePort;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReservationUseCase implements IReservationServicePort {
+    private final IReservationPersistencePort reservationPersistencePort;
+    private final Clock clock;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+
+    public ReservationUseCase(IReservationPersistencePort reservationPersistencePort, Clock clock, Duration defaultTtl, Duration maxTtl) {
+        this.reservationPersistencePort = reservationPersistencePort;
+        this.clock = clock;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+    }
+
+    @Override
+    public Reservation reserve(Long articleId, Integer quantity, Long ttlSeconds) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        validateArticleId(articleId, errors);
+        if (quantity == null) {
+            errors.add(DomainConstants.FIELD_QUANTITY_NULL_MESSAGE);
+        } else if (quantity <= 0) {
+            errors.add(DomainConstants.INVALID_RESERVATION_QUANTITY_MESSAGE);
+        }
+        if (ttlSeconds != null && (ttlSeconds <= 0 || ttlSeconds > maxTtl.getSeconds())) {
+            errors.add(String.format(DomainConstants.INVALID_RESERVATION_TTL_MESSAGE, maxTtl.getSeconds()));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Duration ttl = ttlSeconds == null ? defaultTtl : Duration.ofSeconds(ttlSeconds);
+        Reservation reservation = reservationPersistencePort.reserve(new Reservation(null, articleId, quantity, now.plus(ttl), now));
+        if (reservation == null) {
+            String message = reservationPersistencePort.findAvailability(articleId) == null
+                    ? DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE
+                    : DomainConstants.INSUFFICIENT_STOCK_MESSAGE;
+            throw new ValidationException(new ArrayList<>(List.of(String.format(message, articleId))));
+        }
+        return reservation;
+    }
+
+    @Override
+    public void confirm(Long reservationId) {
+        Reservation reservation = findReservation(reservationId);
+        if (!reservation.getExpiresAt().isAfter(LocalDateTime.now(clock))) {
+            reservationPersistencePort.releaseReservation(reservation);
+            throw new ValidationException(new ArrayList<>(List.of(String.format(DomainConstants.RESERVATION_EXPIRED_MESSAGE, reservationId))));
+        }
+        if (!reservationPersistencePort.confirmReservation(reservation)) {
+            throw reservationDoesNotExist(reservationId);
+        }
+    }
+
+    @Override
+    public void release(Long reservationId) {
+        if (!reservationPersistencePort.releaseReservation(findReservation(reservationId))) {
+            throw reservationDoesNotExist(reservationId);
+        }
+    }
+
+    @Override
+    public StockAvailability getAvailability(Long articleId) {
+        ArrayList<String> errors = new ArrayList<>();
+        validateArticleId(articleId, errors);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        StockAvailability availability = reservationPersistencePort.findAvailability(articleId);
+        if (availability == null) {
+            throw new ValidationException(new ArrayList<>(List.of(String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, articleId))));
+        }
+        return availability;
+    }
+
+    private Reservation findReservation(Long reservationId) {
+        Reservation reservation = reservationId == null ? null : reservationPersistencePort.findReservation(reservationId);
+        if (reservation == null) {
+            throw reservationDoesNotExist(reservationId);
+        }
+        return reservation;
+    }
+
+    private static void validateArticleId(Long articleId, ArrayList<String> errors) {
+        if (articleId == null) {
+            errors.add(DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE);
+        } else if (articleId <= 0) {
+            errors.add(DomainConstants.INVALID_ARTICLE_ID_MESSAGE);
+        }
+    }
+
+    private static ValidationException reservationDoesNotExist(Long reservationId) {
+        return new ValidationException(new ArrayList<>(List.of(String.format(DomainConstants.RESERVATION_DOES_NOT_EXIST_MESSAGE, reservationId))));
+    }
+}
\ No newline at end of file
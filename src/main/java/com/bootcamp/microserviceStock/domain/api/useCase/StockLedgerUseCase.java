@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.api.IStockLedgerServicePort;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.spi.IStockLedgerPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import com.bootcamp.microserviceStock.domain.util.StockLedger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StockLedgerUseCase implements IStockLedgerServicePort {
+    private final IStockLedgerPersistencePort stockLedgerPersistencePort;
+
+    public StockLedgerUseCase(IStockLedgerPersistencePort stockLedgerPersistencePort) {
+        this.stockLedgerPersistencePort = stockLedgerPersistencePort;
+    }
+
+    @Override
+    public StockLedger getLedger(Long articleId, Long before, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (articleId == null) {
+            errors.add(DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE);
+        } else if (articleId <= 0) {
+            errors.add(DomainConstants.INVALID_ARTICLE_ID_MESSAGE);
+        }
+        if (before != null && before <= 0) {
+            errors.add(DomainConstants.INVALID_MOVEMENT_CURSOR_MESSAGE);
+        }
+        if (limit == null || limit <= 0 || limit > DomainConstants.MAX_MOVEMENT_PAGE_SIZE) {
+            errors.add(DomainConstants.INVALID_MOVEMENT_LIMIT_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        StockAvailability stock = stockLedgerPersistencePort.findStockLevel(articleId);
+        if (stock == null) {
+            throw new ValidationException(new ArrayList<>(List.of(String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, articleId))));
+        }
+        List<StockMovement> movements = stockLedgerPersistencePort.listMovements(articleId, before, limit + 1);
+        Long nextBefore = null;
+        if (movements.size() > limit) {
+            movements = movements.subList(0, limit);
+            nextBefore = movements.get(limit - 1).getId();
+        }
+        return new StockLedger(stock, movements, nextBefore);
+    }
+}
\ No newline at end of file
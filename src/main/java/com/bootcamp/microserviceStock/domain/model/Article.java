@@ -1,6 +1,7 @@
 package com.bootcamp.microserviceStock.domain.model;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class Article {
@@ -11,6 +12,9 @@ public class Article {
     private BigDecimal price;
     private Brand brand;
     private List<Category> categoryList;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long changeVersion;
 
     public Article(Long id, String name, String description, Integer quantity, BigDecimal price, Brand brand, List<Category> categoryList) {
         this.id = id;
@@ -77,4 +81,28 @@ public class Article {
     public void setCategoryList(List<Category> categoryList) {
         this.categoryList = categoryList;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
@@ -1,9 +1,14 @@
 package com.bootcamp.microserviceStock.domain.model;
 
+import java.time.LocalDateTime;
+
 public class Brand {
     private Long id;
     private String name;
     private String description;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long changeVersion;
 
     public Brand(Long id, String name, String description) {
         this.id = id;
@@ -34,4 +39,28 @@ public class Brand {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
@@ -0,0 +1,59 @@
+package com.bootcamp.microserviceStock.domain.model;
+
+import java.time.LocalDateTime;
+
+public class Reservation {
+    private Long id;
+    private Long articleId;
+    private Integer quantity;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+
+    public Reservation(Long id, Long articleId, Integer quantity, LocalDateTime expiresAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
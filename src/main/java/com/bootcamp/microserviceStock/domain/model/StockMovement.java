@@ -0,0 +1,71 @@
+package com.bootcamp.microserviceStock.domain.model;
+
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+
+import java.time.LocalDateTime;
+
+public class StockMovement {
+    private Long id;
+    private Long articleId;
+    private StockMovementReason reason;
+    private Integer quantityDelta;
+    private Integer reservedDelta;
+    private LocalDateTime createdAt;
+
+    public StockMovement(Long id, Long articleId, StockMovementReason reason, Integer quantityDelta, Integer reservedDelta, LocalDateTime createdAt) {
+        this.id = id;
+        this.articleId = articleId;
+        this.reason = reason;
+        this.quantityDelta = quantityDelta;
+        this.reservedDelta = reservedDelta;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public StockMovementReason getReason() {
+        return reason;
+    }
+
+    public void setReason(StockMovementReason reason) {
+        this.reason = reason;
+    }
+
+    public Integer getQuantityDelta() {
+        return quantityDelta;
+    }
+
+    public void setQuantityDelta(Integer quantityDelta) {
+        this.quantityDelta = quantityDelta;
+    }
+
+    public Integer getReservedDelta() {
+        return reservedDelta;
+    }
+
+    public void setReservedDelta(Integer reservedDelta) {
+        this.reservedDelta = reservedDelta;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,10 +1,30 @@
 package com.bootcamp.microserviceStock.domain.spi;
 
 import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface IArticlePersistencePort {
     void createArticle(Article article);
+    void createArticles(List<Article> articles);
     boolean alreadyExistsByName(String name);
-    Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    boolean alreadyExistsByID(Long id);
+    Set<Long> findExistingIDs(Set<Long> ids);
+    Set<String> findExistingNames(Set<String> names);
+    Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total, ArticleFilter filter);
+    ArticleFacets countArticleFacets(ArticleFilter filter);
+    CursorPagination<Article> listArticlesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection);
+    void exportArticles(Consumer<Article> consumer);
+    List<Article> searchArticles(String query, int limit);
+    boolean adjustStock(Long articleId, int delta);
+    Set<Long> adjustStocks(List<StockAdjustment> adjustments);
 }
@@ -1,11 +1,20 @@
 package com.bootcamp.microserviceStock.domain.spi;
 
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+
+import java.util.List;
+import java.util.Set;
 
 public interface IBrandPersistencePort {
     void createBrand(Brand brand);
     boolean alreadyExistsByName(String name);
     boolean alreadyExistsByID(Long id);
-    Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Set<Long> findExistingIDs(Set<Long> ids);
+    Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total);
+    CursorPagination<Brand> listBrandsAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection);
+    List<Brand> suggestBrands(String prefix, int limit);
 }
\ No newline at end of file
@@ -1,11 +1,20 @@
 package com.bootcamp.microserviceStock.domain.spi;
 
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+
+import java.util.List;
+import java.util.Set;
 
 public interface ICategoryPersistencePort {
     void createCategory(Category category);
     boolean alreadyExistsByName(String name);
     boolean alreadyExistsByID(Long id);
-    Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Set<Long> findExistingIDs(Set<Long> ids);
+    Pagination<Category> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection, PaginationTotal total);
+    CursorPagination<Category> listCategoriesAfter(PageCursor after, Integer pageSize, String sortBy, String sortDirection);
+    List<Category> suggestCategories(String prefix, int limit);
 }
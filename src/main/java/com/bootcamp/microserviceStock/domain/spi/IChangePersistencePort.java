@@ -0,0 +1,9 @@
+package com.bootcamp.microserviceStock.domain.spi;
+
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+
+import java.util.List;
+
+public interface IChangePersistencePort {
+    List<CatalogChange> listChangesSince(long since, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bootcamp.microserviceStock.domain.spi;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+
+import java.util.function.Consumer;
+
+public interface IReservationPersistencePort {
+    Reservation reserve(Reservation reservation);
+    Reservation findReservation(Long id);
+    boolean confirmReservation(Reservation reservation);
+    boolean releaseReservation(Reservation reservation);
+    StockAvailability findAvailability(Long articleId);
+    void forEachReservation(Consumer<Reservation> consumer);
+}
\ No newline at end of file
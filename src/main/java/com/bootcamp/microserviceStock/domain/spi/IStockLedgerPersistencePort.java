@@ -0,0 +1,12 @@
+package com.bootcamp.microserviceStock.domain.spi;
+
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+
+import java.util.List;
+
+public interface IStockLedgerPersistencePort {
+    StockAvailability findStockLevel(Long articleId);
+
+    List<StockMovement> listMovements(Long articleId, Long before, int limit);
+}
\ No newline at end of file
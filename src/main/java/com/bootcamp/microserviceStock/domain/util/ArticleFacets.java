@@ -0,0 +1,27 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.util.Map;
+
+public class ArticleFacets {
+    private final Map<Long, Long> brandCounts;
+    private final Map<Long, Long> categoryCounts;
+    private final long total;
+
+    public ArticleFacets(Map<Long, Long> brandCounts, Map<Long, Long> categoryCounts, long total) {
+        this.brandCounts = brandCounts;
+        this.categoryCounts = categoryCounts;
+        this.total = total;
+    }
+
+    public Map<Long, Long> getBrandCounts() {
+        return brandCounts;
+    }
+
+    public Map<Long, Long> getCategoryCounts() {
+        return categoryCounts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
\ No newline at end of file
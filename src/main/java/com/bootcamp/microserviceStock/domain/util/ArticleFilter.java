@@ -0,0 +1,52 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+public class ArticleFilter {
+    private final Set<Long> brandIds;
+    private final Set<Long> categoryIds;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final boolean inStockOnly;
+
+    public ArticleFilter(Set<Long> brandIds, Set<Long> categoryIds, BigDecimal minPrice, BigDecimal maxPrice, boolean inStockOnly) {
+        this.brandIds = brandIds == null ? Set.of() : brandIds;
+        this.categoryIds = categoryIds == null ? Set.of() : categoryIds;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStockOnly = inStockOnly;
+    }
+
+    public static ArticleFilter none() {
+        return new ArticleFilter(Set.of(), Set.of(), null, null, false);
+    }
+
+    public Set<Long> getBrandIds() {
+        return brandIds;
+    }
+
+    public Set<Long> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public boolean isInStockOnly() {
+        return inStockOnly;
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean isEmpty() {
+        return brandIds.isEmpty() && categoryIds.isEmpty() && !hasPriceRange() && !inStockOnly;
+    }
+}
\ No newline at end of file
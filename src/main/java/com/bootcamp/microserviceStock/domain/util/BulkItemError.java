@@ -0,0 +1,27 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.util.List;
+
+public class BulkItemError {
+    private final int index;
+    private final String name;
+    private final List<String> errors;
+
+    public BulkItemError(int index, String name, List<String> errors) {
+        this.index = index;
+        this.name = name;
+        this.errors = errors;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
\ No newline at end of file
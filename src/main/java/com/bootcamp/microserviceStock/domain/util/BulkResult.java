@@ -0,0 +1,25 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.util.List;
+
+public class BulkResult {
+    private final int created;
+    private final List<BulkItemError> errors;
+
+    public BulkResult(int created, List<BulkItemError> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return errors.size();
+    }
+
+    public List<BulkItemError> getErrors() {
+        return errors;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+
+import java.time.LocalDateTime;
+
+public class CatalogChange {
+    private final ChangeType type;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+    private final Brand brand;
+    private final Category category;
+    private final Article article;
+
+    private CatalogChange(ChangeType type, Long version, LocalDateTime updatedAt, Brand brand, Category category, Article article) {
+        this.type = type;
+        this.version = version;
+        this.updatedAt = updatedAt;
+        this.brand = brand;
+        this.category = category;
+        this.article = article;
+    }
+
+    public static CatalogChange of(Brand brand) {
+        return new CatalogChange(ChangeType.BRAND, brand.getChangeVersion(), brand.getUpdatedAt(), brand, null, null);
+    }
+
+    public static CatalogChange of(Category category) {
+        return new CatalogChange(ChangeType.CATEGORY, category.getChangeVersion(), category.getUpdatedAt(), null, category, null);
+    }
+
+    public static CatalogChange of(Article article) {
+        return new CatalogChange(ChangeType.ARTICLE, article.getChangeVersion(), article.getUpdatedAt(), null, null, article);
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Brand getBrand() {
+        return brand;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public Article getArticle() {
+        return article;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.util.List;
+
+public class ChangeFeed {
+    private final List<CatalogChange> changes;
+    private final Long nextSince;
+    private final boolean last;
+
+    public ChangeFeed(List<CatalogChange> changes, Long nextSince, boolean last) {
+        this.changes = changes;
+        this.nextSince = nextSince;
+        this.last = last;
+    }
+
+    public List<CatalogChange> getChanges() {
+        return changes;
+    }
+
+    public Long getNextSince() {
+        return nextSince;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+}
\ No newline at end of file
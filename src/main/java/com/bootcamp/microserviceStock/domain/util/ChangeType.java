@@ -0,0 +1,7 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+public enum ChangeType {
+    BRAND,
+    CATEGORY,
+    ARTICLE
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.util.List;
+
+public class CursorPagination<T> {
+    private List<T> content;
+    private Integer pageSize;
+    private String nextCursor;
+    private boolean last;
+
+    public CursorPagination() {}
+
+    public CursorPagination(List<T> content, Integer pageSize, String nextCursor) {
+        this.content = content;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.last = nextCursor == null;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    public void setLast(boolean last) {
+        this.last = last;
+    }
+
+    public boolean isEmpty() {
+        return content == null || content.isEmpty();
+    }
+}
@@ -45,5 +45,55 @@ public final class DomainConstants {
     public static final String INVALID_CATEGORY_LIST_MESSAGE = "The number of categories associated with must be between 1 and 3.";
     public static final String ARTICLE_CREATED_MESSAGE = "Article created successfully.";
     public static final String ARTICLE_ALREADY_EXISTS_MESSAGE = "Article already exists.";
-    public static final List<String> VALID_SORT_BY_FIELD_ARTICLE = Arrays.asList("name", "brandName", "categoryName");
+    public static final String INVALID_CURSOR_MESSAGE = "The cursor is invalid.";
+    public static final String CURSOR_SORT_MISMATCH_MESSAGE = "The cursor was read with another sort field or direction.";
+    public static final String SORT_BY_BRAND_NAME = "brandName";
+    public static final String SORT_BY_CATEGORY_NAME = "categoryName";
+    public static final String SORT_BY_ID = "id";
+    public static final int MAX_ARTICLE_BATCH_SIZE = 1000;
+    public static final String EMPTY_ARTICLE_BATCH_MESSAGE = "The batch must contain at least one article.";
+    public static final String MAX_ARTICLE_BATCH_SIZE_MESSAGE = "The batch can't contain more than 1000 articles.";
+    public static final String DUPLICATED_ARTICLE_IN_BATCH_MESSAGE = "Article is duplicated in the batch.";
+    public static final String INVALID_EXPORT_FORMAT_MESSAGE = "The export format must be 'ndjson' or 'csv'.";
+    public static final int MAX_CHANGE_BATCH_SIZE = 1000;
+    public static final String FIELD_CHANGE_VERSION_NULL_MESSAGE = "The version to read changes since must be provided.";
+    public static final String INVALID_CHANGE_VERSION_MESSAGE = "The version to read changes since must be non-negative.";
+    public static final String INVALID_CHANGE_LIMIT_MESSAGE = "The number of changes must be between 1 and 1000.";
+    public static final String STOCK_UPDATED_MESSAGE = "Stock updated successfully.";
+    public static final String FIELD_ARTICLE_ID_NULL_MESSAGE = "Article ID must be provided.";
+    public static final String INVALID_ARTICLE_ID_MESSAGE = "The article ID must be greater than zero.";
+    public static final String ARTICLE_DOES_NOT_EXIST_MESSAGE = "Article with ID %d doesn't exist.";
+    public static final int MAX_STOCK_DELTA = 1000000;
+    public static final String FIELD_STOCK_DELTA_NULL_MESSAGE = "The stock delta must be provided.";
+    public static final String INVALID_STOCK_DELTA_MESSAGE = "The stock delta must be different from zero and can't exceed 1000000 units.";
+    public static final String INSUFFICIENT_STOCK_MESSAGE = "Article with ID %d doesn't have enough stock.";
+    public static final int MAX_STOCK_BATCH_SIZE = 1000;
+    public static final String EMPTY_STOCK_BATCH_MESSAGE = "The batch must contain at least one stock adjustment.";
+    public static final String MAX_STOCK_BATCH_SIZE_MESSAGE = "The batch can't contain more than 1000 stock adjustments.";
+    public static final String RESERVATION_CONFIRMED_MESSAGE = "Reservation confirmed successfully.";
+    public static final String RESERVATION_RELEASED_MESSAGE = "Reservation released successfully.";
+    public static final String INVALID_RESERVATION_QUANTITY_MESSAGE = "The reserved quantity must be greater than zero.";
+    public static final String INVALID_RESERVATION_TTL_MESSAGE = "The reservation time to live must be between 1 and %d seconds.";
+    public static final String RESERVATION_DOES_NOT_EXIST_MESSAGE = "Reservation with ID %d doesn't exist.";
+    public static final String RESERVATION_EXPIRED_MESSAGE = "Reservation with ID %d has expired.";
+    public static final int MAX_MOVEMENT_PAGE_SIZE = 500;
+    public static final String INVALID_MOVEMENT_CURSOR_MESSAGE = "The movement to read before must be greater than zero.";
+    public static final String INVALID_MOVEMENT_LIMIT_MESSAGE = "The number of movements must be between 1 and 500.";
+    public static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final String FIELD_SEARCH_QUERY_EMPTY_MESSAGE = "The search query can't be empty.";
+    public static final String MAX_SEARCH_QUERY_LENGTH_MESSAGE = "The search query can't exceed 100 characters.";
+    public static final String INVALID_SEARCH_LIMIT_MESSAGE = "The number of results must be between 1 and 100.";
+    public static final int MAX_FILTER_IDS = 100;
+    public static final String INVALID_FILTER_BRAND_ID_MESSAGE = "The brand IDs to filter by must be greater than zero.";
+    public static final String INVALID_FILTER_CATEGORY_ID_MESSAGE = "The category IDs to filter by must be greater than zero.";
+    public static final String MAX_FILTER_IDS_MESSAGE = "A filter can't select more than 100 brands or 100 categories.";
+    public static final String INVALID_FILTER_PRICE_MESSAGE = "The price range bounds must be non-negative.";
+    public static final String INVALID_FILTER_PRICE_RANGE_MESSAGE = "The minimum price can't be greater than the maximum price.";
+    public static final int MAX_SUGGESTION_PREFIX_LENGTH = 50;
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final String FIELD_SUGGESTION_PREFIX_EMPTY_MESSAGE = "The prefix to suggest names for can't be empty.";
+    public static final String MAX_SUGGESTION_PREFIX_LENGTH_MESSAGE = "The prefix to suggest names for can't exceed 50 characters.";
+    public static final String INVALID_SUGGESTION_LIMIT_MESSAGE = "The number of suggestions must be between 1 and 20.";
+    public static final List<String> VALID_SORT_BY_FIELD_ARTICLE = Arrays.asList(VALID_SORT_BY_FIELD, SORT_BY_BRAND_NAME, SORT_BY_CATEGORY_NAME);
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+public class PageCursor {
+    private static final String SEPARATOR = ":";
+    private static final int PARTS = 4;
+
+    private final Long lastId;
+    private final String lastSortKey;
+    private final String sortBy;
+    private final String sortDirection;
+
+    public PageCursor(Long lastId, String lastSortKey, String sortBy, String sortDirection) {
+        this.lastId = lastId;
+        this.lastSortKey = lastSortKey;
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public String getLastSortKey() {
+        return lastSortKey;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getSortDirection() {
+        return sortDirection;
+    }
+
+    // The last sort key only means something in the order it was read in.
+    public boolean isSortedBy(String sortBy, String sortDirection) {
+        return this.sortBy.equalsIgnoreCase(sortBy) && this.sortDirection.equalsIgnoreCase(sortDirection);
+    }
+
+    // The sort key goes last because it is the only part that may contain the separator.
+    public String encode() {
+        String raw = lastId + SEPARATOR + sortBy + SEPARATOR + sortDirection.toLowerCase(Locale.ROOT) + SEPARATOR + lastSortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, PARTS);
+            if (parts.length < PARTS || parts[1].isEmpty() || parts[2].isEmpty()) {
+                return null;
+            }
+            return new PageCursor(Long.parseLong(parts[0]), parts[3], parts[1], parts[2]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
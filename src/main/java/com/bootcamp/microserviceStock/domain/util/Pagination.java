@@ -7,7 +7,8 @@ public class Pagination<T> {
     private Integer pageNumber;
     private Integer pageSize;
     private Long totalElements;
-    private int totalPages;
+    private Integer totalPages;
+    private boolean approximateTotal;
     private boolean first;
     private boolean last;
 
@@ -23,6 +24,27 @@ public class Pagination<T> {
         this.last = pageNumber == totalPages - 1;
     }
 
+    public Pagination(List<T> content, Integer pageNumber, Integer pageSize, boolean last) {
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.first = pageNumber == 0;
+        this.last = last;
+    }
+
+    public <R> Pagination<R> withContent(List<R> content) {
+        Pagination<R> pagination = new Pagination<>();
+        pagination.setContent(content);
+        pagination.setPageNumber(pageNumber);
+        pagination.setPageSize(pageSize);
+        pagination.setTotalElements(totalElements);
+        pagination.setTotalPages(totalPages);
+        pagination.setApproximateTotal(approximateTotal);
+        pagination.setFirst(first);
+        pagination.setLast(last);
+        return pagination;
+    }
+
     public List<T> getContent() {
         return content;
     }
@@ -55,14 +77,22 @@ public class Pagination<T> {
         this.pageSize = pageSize;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
 
+    public boolean isApproximateTotal() {
+        return approximateTotal;
+    }
+
+    public void setApproximateTotal(boolean approximateTotal) {
+        this.approximateTotal = approximateTotal;
+    }
+
     public boolean isFirst() {
         return first;
     }
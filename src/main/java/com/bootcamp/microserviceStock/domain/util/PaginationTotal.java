@@ -0,0 +1,14 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+public enum PaginationTotal {
+    EXACT,
+    APPROXIMATE,
+    NONE;
+
+    public static PaginationTotal of(boolean includeTotal, boolean approximateTotal) {
+        if (!includeTotal) {
+            return NONE;
+        }
+        return approximateTotal ? APPROXIMATE : EXACT;
+    }
+}
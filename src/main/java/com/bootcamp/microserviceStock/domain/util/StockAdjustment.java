@@ -0,0 +1,19 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+public class StockAdjustment {
+    private final Long articleId;
+    private final Integer delta;
+
+    public StockAdjustment(Long articleId, Integer delta) {
+        this.articleId = articleId;
+        this.delta = delta;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+public class StockAvailability {
+    private final Long articleId;
+    private final int quantity;
+    private final int reserved;
+
+    public StockAvailability(Long articleId, int quantity, int reserved) {
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.reserved = reserved;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getReserved() {
+        return reserved;
+    }
+
+    public int getAvailable() {
+        return quantity - reserved;
+    }
+}
\ No newline at end of file
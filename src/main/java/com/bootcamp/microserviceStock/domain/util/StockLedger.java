@@ -0,0 +1,29 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+
+import java.util.List;
+
+public class StockLedger {
+    private final StockAvailability stock;
+    private final List<StockMovement> movements;
+    private final Long nextBefore;
+
+    public StockLedger(StockAvailability stock, List<StockMovement> movements, Long nextBefore) {
+        this.stock = stock;
+        this.movements = movements;
+        this.nextBefore = nextBefore;
+    }
+
+    public StockAvailability getStock() {
+        return stock;
+    }
+
+    public List<StockMovement> getMovements() {
+        return movements;
+    }
+
+    public Long getNextBefore() {
+        return nextBefore;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+public enum StockMovementReason {
+    RECEIPT,
+    ADJUSTMENT,
+    RESERVATION,
+    RELEASE,
+    SALE
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+CREATE TABLE brand (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE category (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE article (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    quantity INTEGER,
+    price NUMERIC(38, 2),
+    id_brand BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_article_brand FOREIGN KEY (id_brand) REFERENCES brand (id)
+);
+
+CREATE TABLE article_category (
+    id_article BIGINT NOT NULL,
+    id_category BIGINT NOT NULL,
+    CONSTRAINT fk_article_category_article FOREIGN KEY (id_article) REFERENCES article (id),
+    CONSTRAINT fk_article_category_category FOREIGN KEY (id_category) REFERENCES category (id)
+);
+
+CREATE SEQUENCE brand_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE article_seq START WITH 1 INCREMENT BY 50;
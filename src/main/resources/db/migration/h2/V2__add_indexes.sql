@@ -0,0 +1,11 @@
+ALTER TABLE brand ADD CONSTRAINT uk_brand_name UNIQUE (name);
+ALTER TABLE category ADD CONSTRAINT uk_category_name UNIQUE (name);
+ALTER TABLE article ADD CONSTRAINT uk_article_name UNIQUE (name);
+
+CREATE INDEX idx_brand_name ON brand (name, id);
+CREATE INDEX idx_category_name ON category (name, id);
+CREATE INDEX idx_article_name ON article (name, id);
+CREATE INDEX idx_article_brand ON article (id_brand, id);
+
+ALTER TABLE article_category ADD PRIMARY KEY (id_article, id_category);
+CREATE INDEX idx_article_category_category ON article_category (id_category, id_article);
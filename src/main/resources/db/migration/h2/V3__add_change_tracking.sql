@@ -0,0 +1,16 @@
+ALTER TABLE brand ADD COLUMN created_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE brand ADD COLUMN updated_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE brand ADD COLUMN change_version BIGINT NOT NULL;
+ALTER TABLE brand ADD CONSTRAINT uk_brand_change_version UNIQUE (change_version);
+
+ALTER TABLE category ADD COLUMN created_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE category ADD COLUMN updated_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE category ADD COLUMN change_version BIGINT NOT NULL;
+ALTER TABLE category ADD CONSTRAINT uk_category_change_version UNIQUE (change_version);
+
+ALTER TABLE article ADD COLUMN created_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE article ADD COLUMN updated_at TIMESTAMP(6) NOT NULL;
+ALTER TABLE article ADD COLUMN change_version BIGINT NOT NULL;
+ALTER TABLE article ADD CONSTRAINT uk_article_change_version UNIQUE (change_version);
+
+CREATE SEQUENCE change_seq START WITH 1 INCREMENT BY 1;
@@ -0,0 +1,11 @@
+CREATE TABLE outbox_event (
+    id BIGINT NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE SEQUENCE outbox_event_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,15 @@
+ALTER TABLE article ADD COLUMN reserved INT DEFAULT 0 NOT NULL;
+
+CREATE TABLE reservation (
+    id BIGINT NOT NULL,
+    id_article BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_article FOREIGN KEY (id_article) REFERENCES article (id)
+);
+
+CREATE INDEX idx_reservation_expires_at ON reservation (expires_at);
+
+CREATE SEQUENCE reservation_seq START WITH 1 INCREMENT BY 50;
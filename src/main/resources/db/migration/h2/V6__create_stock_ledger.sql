@@ -0,0 +1,37 @@
+CREATE TABLE stock_movement (
+    id BIGINT NOT NULL,
+    id_article BIGINT NOT NULL,
+    reason VARCHAR(32) NOT NULL,
+    quantity_delta INT NOT NULL,
+    reserved_delta INT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_stock_movement_article ON stock_movement (id_article, id);
+
+CREATE SEQUENCE stock_movement_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE stock_movement_archive (
+    id BIGINT NOT NULL,
+    id_article BIGINT NOT NULL,
+    reason VARCHAR(32) NOT NULL,
+    quantity_delta INT NOT NULL,
+    reserved_delta INT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_stock_movement_archive_article ON stock_movement_archive (id_article, id);
+
+CREATE TABLE stock_snapshot (
+    id_article BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    reserved INT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id_article),
+    CONSTRAINT fk_stock_snapshot_article FOREIGN KEY (id_article) REFERENCES article (id)
+);
+
+INSERT INTO stock_snapshot (id_article, quantity, reserved, updated_at)
+SELECT id, COALESCE(quantity, 0), reserved, updated_at FROM article;
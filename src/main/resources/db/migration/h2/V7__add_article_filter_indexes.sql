@@ -0,0 +1,2 @@
+CREATE INDEX idx_article_price ON article (price, id);
+CREATE INDEX idx_article_brand_price ON article (id_brand, price, id);
@@ -0,0 +1,16 @@
+ALTER TABLE brand ALTER COLUMN change_version SET NULL;
+ALTER TABLE category ALTER COLUMN change_version SET NULL;
+ALTER TABLE article ALTER COLUMN change_version SET NULL;
+
+CREATE TABLE change_stamp (
+    id BIGINT NOT NULL,
+    last_version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_stamp (id, last_version)
+SELECT 1, GREATEST((SELECT COALESCE(MAX(change_version), 0) FROM brand),
+                   (SELECT COALESCE(MAX(change_version), 0) FROM category),
+                   (SELECT COALESCE(MAX(change_version), 0) FROM article));
+
+DROP SEQUENCE change_seq;
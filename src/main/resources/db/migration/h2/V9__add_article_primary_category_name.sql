@@ -0,0 +1,7 @@
+ALTER TABLE article ADD COLUMN primary_category_name VARCHAR(255) NULL;
+
+UPDATE article a SET primary_category_name = (
+    SELECT c.name FROM category c
+    WHERE c.id = (SELECT MIN(ac.id_category) FROM article_category ac WHERE ac.id_article = a.id));
+
+CREATE INDEX idx_article_primary_category_name ON article (primary_category_name, id);
@@ -0,0 +1,45 @@
+CREATE TABLE IF NOT EXISTS brand (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS article (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    quantity INT,
+    price DECIMAL(38, 2),
+    id_brand BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_article_brand FOREIGN KEY (id_brand) REFERENCES brand (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS article_category (
+    id_article BIGINT NOT NULL,
+    id_category BIGINT NOT NULL,
+    CONSTRAINT fk_article_category_article FOREIGN KEY (id_article) REFERENCES article (id),
+    CONSTRAINT fk_article_category_category FOREIGN KEY (id_category) REFERENCES category (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS brand_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS category_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS article_seq (next_val BIGINT) ENGINE = InnoDB;
+
+INSERT INTO brand_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM brand_seq);
+INSERT INTO category_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM category_seq);
+INSERT INTO article_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM article_seq);
+
+-- Databases created by ddl-auto with IDENTITY ids already have rows: move every sequence past them
+-- (a pooled block of 50 ends at next_val, so it has to start above MAX(id)).
+UPDATE brand_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM brand));
+UPDATE category_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM category));
+UPDATE article_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM article));
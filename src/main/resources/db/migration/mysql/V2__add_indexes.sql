@@ -0,0 +1,9 @@
+ALTER TABLE brand ADD CONSTRAINT uk_brand_name UNIQUE (name);
+ALTER TABLE category ADD CONSTRAINT uk_category_name UNIQUE (name);
+ALTER TABLE article ADD CONSTRAINT uk_article_name UNIQUE (name);
+
+-- InnoDB secondary indexes carry the primary key, so (name) already serves the (name, id) keyset order.
+CREATE INDEX idx_article_brand ON article (id_brand, id);
+
+ALTER TABLE article_category ADD PRIMARY KEY (id_article, id_category);
+CREATE INDEX idx_article_category_category ON article_category (id_category, id_article);
@@ -0,0 +1,46 @@
+ALTER TABLE brand
+    ADD COLUMN created_at DATETIME(6) NULL,
+    ADD COLUMN updated_at DATETIME(6) NULL,
+    ADD COLUMN change_version BIGINT NULL;
+
+ALTER TABLE category
+    ADD COLUMN created_at DATETIME(6) NULL,
+    ADD COLUMN updated_at DATETIME(6) NULL,
+    ADD COLUMN change_version BIGINT NULL;
+
+ALTER TABLE article
+    ADD COLUMN created_at DATETIME(6) NULL,
+    ADD COLUMN updated_at DATETIME(6) NULL,
+    ADD COLUMN change_version BIGINT NULL;
+
+-- Existing rows get distinct versions, brands first, then categories, then articles.
+SET @now = CURRENT_TIMESTAMP(6);
+SET @brand_offset = 0;
+SET @category_offset = (SELECT COALESCE(MAX(id), 0) FROM brand);
+SET @article_offset = @category_offset + (SELECT COALESCE(MAX(id), 0) FROM category);
+SET @next_version = @article_offset + (SELECT COALESCE(MAX(id), 0) FROM article) + 1;
+
+UPDATE brand SET created_at = @now, updated_at = @now, change_version = id + @brand_offset;
+UPDATE category SET created_at = @now, updated_at = @now, change_version = id + @category_offset;
+UPDATE article SET created_at = @now, updated_at = @now, change_version = id + @article_offset;
+
+ALTER TABLE brand
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY updated_at DATETIME(6) NOT NULL,
+    MODIFY change_version BIGINT NOT NULL,
+    ADD CONSTRAINT uk_brand_change_version UNIQUE (change_version);
+
+ALTER TABLE category
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY updated_at DATETIME(6) NOT NULL,
+    MODIFY change_version BIGINT NOT NULL,
+    ADD CONSTRAINT uk_category_change_version UNIQUE (change_version);
+
+ALTER TABLE article
+    MODIFY created_at DATETIME(6) NOT NULL,
+    MODIFY updated_at DATETIME(6) NOT NULL,
+    MODIFY change_version BIGINT NOT NULL,
+    ADD CONSTRAINT uk_article_change_version UNIQUE (change_version);
+
+CREATE TABLE change_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO change_seq (next_val) VALUES (@next_version);
@@ -0,0 +1,12 @@
+CREATE TABLE outbox_event (
+    id BIGINT NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_event_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO outbox_event_seq (next_val) VALUES (1);
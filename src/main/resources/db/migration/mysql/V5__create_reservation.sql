@@ -0,0 +1,16 @@
+ALTER TABLE article ADD COLUMN reserved INT NOT NULL DEFAULT 0;
+
+CREATE TABLE reservation (
+    id BIGINT NOT NULL,
+    id_article BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_article FOREIGN KEY (id_article) REFERENCES article (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_reservation_expires_at ON reservation (expires_at);
+
+CREATE TABLE reservation_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO reservation_seq (next_val) VALUES (1);
@@ -0,0 +1,5 @@
+-- Price ranges are filtered on their own or within the selected brands; InnoDB appends the primary key.
+-- Category filters probe the article_category primary key, and in-stock compares two columns of the row,
+-- which no index can narrow down.
+CREATE INDEX idx_article_price ON article (price);
+CREATE INDEX idx_article_brand_price ON article (id_brand, price);
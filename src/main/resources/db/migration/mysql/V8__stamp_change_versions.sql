@@ -0,0 +1,17 @@
+-- Versions are stamped after commit by a single writer, so a changed row carries no version until it is stamped.
+ALTER TABLE brand MODIFY change_version BIGINT NULL;
+ALTER TABLE category MODIFY change_version BIGINT NULL;
+ALTER TABLE article MODIFY change_version BIGINT NULL;
+
+CREATE TABLE change_stamp (
+    id BIGINT NOT NULL,
+    last_version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO change_stamp (id, last_version)
+SELECT 1, GREATEST((SELECT COALESCE(MAX(change_version), 0) FROM brand),
+                   (SELECT COALESCE(MAX(change_version), 0) FROM category),
+                   (SELECT COALESCE(MAX(change_version), 0) FROM article));
+
+DROP TABLE change_seq;
@@ -0,0 +1,153 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ArticleAdapterStatementCountTest {
+    private static final int BRAND_COUNT = 5;
+    private static final int CATEGORY_COUNT = 4;
+    private static final int ARTICLE_COUNT = 60;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ArticleAdapter articleAdapter;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<BrandEntity> brands = new ArrayList<>();
+        for (int i = 0; i < BRAND_COUNT; i++) {
+            brands.add(brandRepository.save(new BrandEntity(null, "Brand " + i, "Brand description")));
+        }
+        List<CategoryEntity> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(categoryRepository.save(new CategoryEntity(null, "Category " + i, "Category description")));
+        }
+        List<ArticleEntity> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles.add(new ArticleEntity(null, "Article " + i, "Article description", i,
+                    new BigDecimal("10.00"),
+                    brands.get(i % BRAND_COUNT),
+                    new ArrayList<>(List.of(categories.get(i % CATEGORY_COUNT), categories.get((i + 1) % CATEGORY_COUNT)))));
+        }
+        List<Long> ids = articleRepository.saveAll(articles).stream()
+                .map(ArticleEntity::getId)
+                .toList();
+        entityManager.flush();
+        articleRepository.fillPrimaryCategoryNames(ids);
+        entityManager.clear();
+
+        IArticleEntityMapper articleEntityMapper = Mappers.getMapper(IArticleEntityMapper.class);
+        articleAdapter = new ArticleAdapter(articleRepository, articleEntityMapper,
+                new CachedCount(articleRepository::count, Duration.ofSeconds(30)), new NameBloomFilter(1000, 0.01),
+                TransactionOperations.withoutTransaction(), TransactionOperations.withoutTransaction(),
+                new ArticleOutbox(outboxEventRepository, new ObjectMapper(), Clock.systemDefaultZone()),
+                new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone()), new ArticleSearchIndex(),
+                new ArticleFacetIndex());
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("A page of articles sorted by 'name' takes the same statements whatever its size")
+    void listArticlesSortedByNameUsesFixedStatements() {
+        assertThat(countStatements(() -> articleAdapter.listArticles(0, 10, "name", "asc", PaginationTotal.NONE, ArticleFilter.none()).getContent()))
+                .isEqualTo(2);
+        assertThat(countStatements(() -> articleAdapter.listArticles(0, 40, "name", "asc", PaginationTotal.NONE, ArticleFilter.none()).getContent()))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A page of articles sorted by 'brandName' with its exact total takes three statements")
+    void listArticlesSortedByBrandNameUsesFixedStatements() {
+        assertThat(countStatements(() -> articleAdapter.listArticles(1, 20, "brandName", "desc", PaginationTotal.EXACT, ArticleFilter.none()).getContent()))
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A filtered page of articles sorted by 'brandName' with its exact total takes three statements")
+    void listFilteredArticlesUsesFixedStatements() {
+        ArticleFilter filter = new ArticleFilter(Set.of(), Set.of(), new BigDecimal("5.00"), new BigDecimal("20.00"), true);
+
+        assertThat(countStatements(() -> articleAdapter.listArticles(0, 20, "brandName", "desc", PaginationTotal.EXACT, filter).getContent()))
+                .isEqualTo(3);
+        assertThat(articleAdapter.listArticles(0, 20, "brandName", "desc", PaginationTotal.EXACT, filter).getTotalElements())
+                .isEqualTo(ARTICLE_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("A cursor page of articles sorted by 'categoryName' takes two statements")
+    void listArticlesAfterSortedByCategoryNameUsesFixedStatements() {
+        assertThat(countStatements(() -> articleAdapter.listArticlesAfter(null, 25, "categoryName", "asc").getContent()))
+                .isEqualTo(2);
+    }
+
+    private long countStatements(Supplier<List<Article>> listing) {
+        entityManager.clear();
+        statistics.clear();
+        List<Article> articles = listing.get();
+        assertThat(articles).isNotEmpty().allSatisfy(article -> {
+            assertThat(article.getBrand().getName()).isNotNull();
+            assertThat(article.getCategoryList()).hasSize(2);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
\ No newline at end of file
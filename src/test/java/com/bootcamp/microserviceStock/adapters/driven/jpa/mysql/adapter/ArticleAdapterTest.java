@@ -1,14 +1,28 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.FacetCountRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
 import com.bootcamp.microserviceStock.domain.model.Article;
 import com.bootcamp.microserviceStock.domain.model.Brand;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,15 +31,26 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -37,6 +62,30 @@ class ArticleAdapterTest {
     @Mock
     private IArticleEntityMapper articleEntityMapper;
 
+    @Mock
+    private CachedCount articleCount;
+
+    @Mock
+    private NameBloomFilter articleNameFilter;
+
+    @Mock
+    private TransactionOperations transaction;
+
+    @Mock
+    private ArticleOutbox articleOutbox;
+
+    @Mock
+    private StockMovementLog stockMovements;
+
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+
+    @Mock
+    private ArticleFacetIndex articleFacetIndex;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
     @InjectMocks
     private ArticleAdapter articleAdapter;
 
@@ -49,30 +98,81 @@ class ArticleAdapterTest {
                 List.of(new Category(1L, null, null),
                         new Category(2L, null, null))
         );
-        ArticleEntity articleEntity = articleEntityMapper.articleToEntity(article);
-        given(articleRepository.save(articleEntity)).willReturn(articleEntity);
+        ArticleEntity articleEntity = new ArticleEntity(1L, article.getName(), article.getDescription(), 10, new BigDecimal("3050.99"),
+                new BrandEntity(1L, null, null), List.of(new CategoryEntity(1L, null, null), new CategoryEntity(2L, null, null)));
+        given(articleEntityMapper.articleToEntity(article)).willReturn(articleEntity);
+        given(articleRepository.saveAndFlush(articleEntity)).willReturn(articleEntity);
+        runTransactionCallbacks();
         articleAdapter.createArticle(article);
-        verify(articleRepository, times(1)).save(articleEntity);
+        verify(articleRepository, times(1)).saveAndFlush(articleEntity);
+        verify(articleRepository, times(1)).fillPrimaryCategoryNames(List.of(1L));
+        verify(articleOutbox, times(1)).recordCreated(List.of(articleEntity));
+        verify(stockMovements, times(1)).recordReceipts(List.of(articleEntity));
+        verify(articleSearchIndex, times(1)).add(articleEntity.getId(), articleEntity.getName(), articleEntity.getDescription());
+        verify(articleFacetIndex, times(1)).add(1L, 1L, List.of(1L, 2L), new BigDecimal("3050.99"), true);
+    }
+
+    @Test
+    @DisplayName("Validation that a batch of articles is saved in a single call")
+    void createArticles() {
+        Article first = new Article(null, "SmartHome AI Assistant Hub", "Smart home hub.", 10,
+                new BigDecimal("3050.99"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article second = new Article(null, "Quantum Sound Wireless Earbuds", "Wireless earbuds.", 4,
+                new BigDecimal("120.00"), new Brand(2L, null, null), List.of(new Category(2L, null, null)));
+        ArticleEntity firstEntity = new ArticleEntity(1L, first.getName(), first.getDescription(), 10, new BigDecimal("3050.99"),
+                new BrandEntity(1L, null, null), List.of(new CategoryEntity(1L, null, null)));
+        ArticleEntity secondEntity = new ArticleEntity(2L, second.getName(), second.getDescription(), 0, new BigDecimal("120.00"),
+                new BrandEntity(2L, null, null), List.of(new CategoryEntity(2L, null, null)));
+        given(articleEntityMapper.articleToEntity(first)).willReturn(firstEntity);
+        given(articleEntityMapper.articleToEntity(second)).willReturn(secondEntity);
+        given(articleRepository.saveAllAndFlush(List.of(firstEntity, secondEntity))).willReturn(List.of(firstEntity, secondEntity));
+        runTransactionCallbacks();
+
+        articleAdapter.createArticles(List.of(first, second));
+
+        verify(articleRepository, times(1)).saveAllAndFlush(List.of(firstEntity, secondEntity));
+        verify(articleRepository, never()).saveAndFlush(any());
+        verify(articleRepository, times(1)).fillPrimaryCategoryNames(List.of(1L, 2L));
+        verify(articleOutbox, times(1)).recordCreated(List.of(firstEntity, secondEntity));
+        verify(stockMovements, times(1)).recordReceipts(List.of(firstEntity, secondEntity));
+        verify(articleSearchIndex, times(2)).add(any(), any(), any());
+        verify(articleFacetIndex, times(1)).add(2L, 2L, List.of(2L), new BigDecimal("120.00"), false);
+    }
+
+    @Test
+    @DisplayName("Only the names already stored are returned")
+    void findExistingNames() {
+        Set<String> names = Set.of("SmartHome AI Assistant Hub", "Quantum Sound Wireless Earbuds", "FlexiDesk Standing Desk");
+        given(articleNameFilter.mightContain("SmartHome AI Assistant Hub")).willReturn(true);
+        given(articleNameFilter.mightContain("Quantum Sound Wireless Earbuds")).willReturn(true);
+        given(articleNameFilter.mightContain("FlexiDesk Standing Desk")).willReturn(false);
+        given(articleRepository.findExistingNames(Set.of("SmartHome AI Assistant Hub", "Quantum Sound Wireless Earbuds")))
+                .willReturn(List.of("Quantum Sound Wireless Earbuds"));
+
+        assertEquals(Set.of("Quantum Sound Wireless Earbuds"), articleAdapter.findExistingNames(names));
+        verify(articleNameFilter, times(1)).recordFalsePositive();
     }
 
     @Test
     @DisplayName("Validation when article already exists in the DB")
     void alreadyExistsByNameTrue() {
         String name = "SmartHome AI Assistant Hub";
-        Mockito.when(articleRepository.findByName(name)).thenReturn(Optional.of(new ArticleEntity()));
+        Mockito.when(articleNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(articleRepository.existsByName(name)).thenReturn(true);
         boolean exists = articleAdapter.alreadyExistsByName(name);
         assertTrue(exists);
-        verify(articleRepository, times(1)).findByName(name);
+        verify(articleRepository, times(1)).existsByName(name);
     }
 
     @Test
     @DisplayName("Validation when article doesn't exists in the DB")
     void alreadyExistsByNameFalse() {
         String name = "Quantum Sound Wireless Earbuds";
-        Mockito.when(articleRepository.findByName(name)).thenReturn(Optional.empty());
+        Mockito.when(articleNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(articleRepository.existsByName(name)).thenReturn(false);
         boolean exists = articleAdapter.alreadyExistsByName(name);
         assertFalse(exists);
-        verify(articleRepository, times(1)).findByName(name);
+        verify(articleRepository, times(1)).existsByName(name);
     }
 
     @Test
@@ -83,44 +183,31 @@ class ArticleAdapterTest {
         String sortBy = "name";
         String sortDirection = "asc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, null, null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, null, null),
-                        new CategoryEntity(3L, null, null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity2, articleEntity1);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize),2);
+        List<Long> articleIds = List.of(2L, 1L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, null, null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, null, null),
-                        new Category(3L, null, null))));
+        Mockito.when(articleRepository.findIdPage(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(3);
         assertEquals(2L, result.getContent().get(0).getId(), "The Article ID should be 2L");
         assertEquals(1L, result.getContent().get(1).getId(), "The Article ID should be 1L");
+        assertThat(result.getContent().get(0).getCategoryList()).extracting(Category::getId).containsExactly(2L, 3L);
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdPage(any(Pageable.class));
     }
 
     @Test
@@ -131,36 +218,22 @@ class ArticleAdapterTest {
         String sortBy = "name";
         String sortDirection = "desc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, null, null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, null, null),
-                        new CategoryEntity(3L, null, null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity1, articleEntity2);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize),2);
+        List<Long> articleIds = List.of(1L, 2L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, null, null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, null, null),
-                        new Category(3L, null, null))));
+        Mockito.when(articleRepository.findIdPage(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
@@ -168,7 +241,7 @@ class ArticleAdapterTest {
         assertEquals(1L, result.getContent().get(0).getId(), "The Article ID should be 1L");
         assertEquals(2L, result.getContent().get(1).getId(), "The Article ID should be 2L");
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdPage(any(Pageable.class));
     }
 
     @Test
@@ -179,36 +252,22 @@ class ArticleAdapterTest {
         String sortBy = "brandName";
         String sortDirection = "asc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, null, null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, null, null),
-                        new CategoryEntity(3L, null, null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity1, articleEntity2);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)))),2);
+        List<Long> articleIds = List.of(1L, 2L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, null, null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, null, null),
-                        new Category(3L, null, null))));
+        Mockito.when(articleRepository.findIdsOrderByBrandNameAsc(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
@@ -216,7 +275,8 @@ class ArticleAdapterTest {
         assertEquals(1L, result.getContent().get(0).getId(), "The Article ID should be 1L");
         assertEquals(2L, result.getContent().get(1).getId(), "The Article ID should be 2L");
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdsOrderByBrandNameAsc(any(Pageable.class));
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
     }
 
     @Test
@@ -227,36 +287,22 @@ class ArticleAdapterTest {
         String sortBy = "brandName";
         String sortDirection = "desc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, null, null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, null, null),
-                        new CategoryEntity(3L, null, null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity2, articleEntity1);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)))),2);
+        List<Long> articleIds = List.of(2L, 1L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, null, null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, null, null),
-                        new Category(3L, null, null))));
+        Mockito.when(articleRepository.findIdsOrderByBrandNameDesc(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
@@ -264,7 +310,8 @@ class ArticleAdapterTest {
         assertEquals(2L, result.getContent().get(0).getId(), "The Article ID should be 2L");
         assertEquals(1L, result.getContent().get(1).getId(), "The Article ID should be 1L");
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdsOrderByBrandNameDesc(any(Pageable.class));
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
     }
 
     @Test
@@ -275,36 +322,22 @@ class ArticleAdapterTest {
         String sortBy = "categoryName";
         String sortDirection = "asc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, "Electronics", null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, "Home & Kitchen", null),
-                        new CategoryEntity(3L, "Fashion", null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity1, articleEntity2);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)))),2);
+        List<Long> articleIds = List.of(1L, 2L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, "Electronics", null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, "Home & Kitchen", null),
-                        new Category(3L, "Fashion", null))));
+        Mockito.when(articleRepository.findIdsOrderByCategoryNameAsc(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
@@ -312,7 +345,8 @@ class ArticleAdapterTest {
         assertEquals(1L, result.getContent().get(0).getId(), "The Article ID should be 1L");
         assertEquals(2L, result.getContent().get(1).getId(), "The Article ID should be 2L");
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdsOrderByCategoryNameAsc(any(Pageable.class));
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
     }
 
     @Test
@@ -323,36 +357,22 @@ class ArticleAdapterTest {
         String sortBy = "categoryName";
         String sortDirection = "desc";
 
-        ArticleEntity articleEntity1 = new ArticleEntity(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new BrandEntity(1L, null, null),
-                List.of(new CategoryEntity(1L, "Electronics", null))
-        );
-        ArticleEntity articleEntity2 = new ArticleEntity(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new BrandEntity(2L, null, null),
-                List.of(
-                        new CategoryEntity(2L, "Home & Kitchen", null),
-                        new CategoryEntity(3L, "Fashion", null)
-                )
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 1L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, null),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, null)
         );
 
-        List<ArticleEntity> articleEntities = List.of(articleEntity2, articleEntity1);
-        Page<ArticleEntity> page = new PageImpl<>(articleEntities, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)))),2);
+        List<Long> articleIds = List.of(2L, 1L);
+        Page<Long> page = new PageImpl<>(articleIds, PageRequest.of(pageNumber, pageSize), 2);
 
-        Mockito.when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity1)).thenReturn(new Article(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
-                new BigDecimal("1000.50"),
-                new Brand(1L, null, null),
-                List.of(new Category(1L, "Electronics", null))));
-        Mockito.when(articleEntityMapper.entityToDomain(articleEntity2)).thenReturn(new Article(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
-                new BigDecimal("299.99"),
-                new Brand(1L, null, null),
-                List.of(
-                        new Category(2L, "Home & Kitchen", null),
-                        new Category(3L, "Fashion", null))));
+        Mockito.when(articleRepository.findIdsOrderByCategoryNameDesc(any(Pageable.class))).thenReturn(page);
+        Mockito.when(articleRepository.findRowsByIdIn(articleIds)).thenReturn(articleRows);
 
-        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT, ArticleFilter.none());
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
@@ -360,6 +380,324 @@ class ArticleAdapterTest {
         assertEquals(2L, result.getContent().get(0).getId(), "The Article ID should be 2L");
         assertEquals(1L, result.getContent().get(1).getId(), "The Article ID should be 1L");
 
-        verify(articleRepository, times(1)).findAll(any(Pageable.class));
+        verify(articleRepository, times(1)).findIdsOrderByCategoryNameDesc(any(Pageable.class));
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Validation that the cursor page sorted by 'categoryName' encodes the first category of the last article")
+    void listArticlesAfterSortedByCategoryName() {
+        int pageSize = 1;
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                        new BigDecimal("1000.50"), 1L, null, 4L, "Smartphones"),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 2L, "Home & Kitchen"),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                        new BigDecimal("299.99"), 2L, null, 3L, "Fashion")
+        );
+
+        Mockito.when(articleRepository.findFirstIdsOrderByCategoryNameAsc(PageRequest.of(0, pageSize + 1)))
+                .thenReturn(List.of(2L, 1L));
+        Mockito.when(articleRepository.findRowsByIdIn(List.of(2L, 1L))).thenReturn(articleRows);
+
+        CursorPagination<Article> result = articleAdapter.listArticlesAfter(null, pageSize, "categoryName", "asc");
+
+        assertThat(result.getContent()).hasSize(1);
+        assertFalse(result.isLast());
+        assertEquals(new PageCursor(2L, "Home & Kitchen", "categoryName", "asc").encode(), result.getNextCursor());
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Validation that articles sorted by 'brandName' are counted separately when the exact total is requested")
+    void listArticlesSortedByBrandNameWithExactTotal() {
+        int pageNumber = 0;
+        int pageSize = 1;
+        ArticleRow articleRow = new ArticleRow(1L, "SmartX Pro 5G Smartphone", "Experience ultra-fast connectivity with the latest 5G-enabled smartphone, designed for superior performance.", 5,
+                new BigDecimal("1000.50"), 1L, "EcoNest", 1L, null);
+
+        Slice<Long> slice = new SliceImpl<>(List.of(1L), PageRequest.of(pageNumber, pageSize), true);
+        Mockito.when(articleRepository.findIdsOrderByBrandNameAsc(PageRequest.of(pageNumber, pageSize))).thenReturn(slice);
+        Mockito.when(articleRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(articleRow));
+        Mockito.when(articleRepository.count()).thenReturn(4L);
+
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, "brandName", "asc", PaginationTotal.EXACT, ArticleFilter.none());
+
+        assertThat(result.getContent()).hasSize(1);
+        assertEquals(4L, result.getTotalElements());
+        assertEquals(4, result.getTotalPages());
+        assertFalse(result.isApproximateTotal());
+        verify(articleRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Validation that articles are listed as a slice without counting when the total is not requested")
+    void listArticlesWithoutTotal() {
+        int pageNumber = 0;
+        int pageSize = 1;
+        ArticleRow articleRow = new ArticleRow(2L, "Organic Bamboo Bedding Set", "Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", 15,
+                new BigDecimal("299.99"), 2L, null, 2L, null);
+
+        Slice<Long> slice = new SliceImpl<>(List.of(2L), PageRequest.of(pageNumber, pageSize), true);
+        Mockito.when(articleRepository.findIdSlice(any(Pageable.class))).thenReturn(slice);
+        Mockito.when(articleRepository.findRowsByIdIn(List.of(2L))).thenReturn(List.of(articleRow));
+
+        Pagination<Article> result = articleAdapter.listArticles(pageNumber, pageSize, "name", "asc", PaginationTotal.NONE, ArticleFilter.none());
+
+        assertThat(result.getContent()).hasSize(1);
+        assertNull(result.getTotalElements());
+        assertFalse(result.isLast());
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
+        verify(articleRepository, never()).count();
+        verify(articleCount, never()).get();
+    }
+
+    @Test
+    @DisplayName("Validation that a filtered page is read and counted with the filter, empty lists replaced by a placeholder")
+    void listFilteredArticlesWithExactTotal() {
+        ArticleFilter filter = new ArticleFilter(Set.of(1L), Set.of(), new BigDecimal("100.00"), null, false);
+        ArticleRow articleRow = new ArticleRow(1L, "SmartX Pro 5G Smartphone", "5G smartphone.", 5,
+                new BigDecimal("1000.50"), 1L, "TechNova", 1L, "Electronics");
+
+        Slice<Long> slice = new SliceImpl<>(List.of(1L), PageRequest.of(0, 1), true);
+        given(articleRepository.findFilteredIdsOrderByNameDesc(eq(true), eq(Set.of(1L)), eq(false), eq(List.of(0L)),
+                eq(new BigDecimal("100.00")), any(BigDecimal.class), eq(false), eq(PageRequest.of(0, 1)))).willReturn(slice);
+        given(articleRepository.countFiltered(eq(true), eq(Set.of(1L)), eq(false), eq(List.of(0L)),
+                eq(new BigDecimal("100.00")), any(BigDecimal.class), eq(false))).willReturn(3L);
+        given(articleRepository.findRowsByIdIn(List.of(1L))).willReturn(List.of(articleRow));
+
+        Pagination<Article> result = articleAdapter.listArticles(0, 1, "name", "desc", PaginationTotal.EXACT, filter);
+
+        assertThat(result.getContent()).extracting(Article::getId).containsExactly(1L);
+        assertEquals(3L, result.getTotalElements());
+        verify(articleRepository, never()).findIdPage(any(Pageable.class));
+        verify(articleRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Validation that the approximate total of an in-stock page comes from the facet index")
+    void listFilteredArticlesWithApproximateTotal() {
+        ArticleFilter filter = new ArticleFilter(Set.of(), Set.of(2L), null, null, true);
+        Slice<Long> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 20), false);
+        given(articleRepository.findFilteredIdsOrderByCategoryNameAsc(eq(false), eq(List.of(0L)), eq(true), eq(Set.of(2L)),
+                eq(BigDecimal.ZERO), any(BigDecimal.class), eq(true), eq(PageRequest.of(0, 20)))).willReturn(slice);
+        given(articleFacetIndex.isLoaded()).willReturn(true);
+        given(articleFacetIndex.count(filter)).willReturn(41L);
+
+        Pagination<Article> result = articleAdapter.listArticles(0, 20, "categoryName", "asc", PaginationTotal.APPROXIMATE, filter);
+
+        assertEquals(41L, result.getTotalElements());
+        assertTrue(result.isApproximateTotal());
+        verify(articleRepository, never()).findRowsByIdIn(any());
+        verify(articleCount, never()).get();
+    }
+
+    @Test
+    @DisplayName("Validation that facet counts come from the facet index")
+    void countArticleFacets() {
+        ArticleFilter filter = new ArticleFilter(Set.of(1L), Set.of(), null, null, false);
+        ArticleFacets facets = new ArticleFacets(Map.of(1L, 2L, 2L, 5L), Map.of(3L, 2L), 2L);
+        given(articleFacetIndex.isLoaded()).willReturn(true);
+        given(articleFacetIndex.facets(filter)).willReturn(facets);
+
+        assertSame(facets, articleAdapter.countArticleFacets(filter));
+    }
+
+    @Test
+    @DisplayName("Validation that facets are counted in the DB, each dimension without its own selection, until the index has loaded")
+    void countArticleFacetsWhileIndexLoads() {
+        ArticleFilter filter = new ArticleFilter(Set.of(1L), Set.of(3L), new BigDecimal("10"), null, true);
+        given(articleRepository.countFilteredByBrand(eq(false), eq(List.of(0L)), eq(true), eq(Set.of(3L)),
+                eq(new BigDecimal("10")), any(BigDecimal.class), eq(true)))
+                .willReturn(List.of(facetCount(2L, 4L), facetCount(1L, 2L)));
+        given(articleRepository.countFilteredByCategory(eq(true), eq(Set.of(1L)), eq(false), eq(List.of(0L)),
+                eq(new BigDecimal("10")), any(BigDecimal.class), eq(true)))
+                .willReturn(List.of(facetCount(3L, 2L)));
+        given(articleRepository.countFiltered(eq(true), eq(Set.of(1L)), eq(true), eq(Set.of(3L)),
+                eq(new BigDecimal("10")), any(BigDecimal.class), eq(true))).willReturn(2L);
+
+        ArticleFacets facets = articleAdapter.countArticleFacets(filter);
+
+        assertThat(facets.getBrandCounts()).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 4L));
+        assertThat(facets.getCategoryCounts()).containsExactly(Map.entry(3L, 2L));
+        assertEquals(2L, facets.getTotal());
+        verify(articleFacetIndex, never()).facets(any());
+    }
+
+    @Test
+    @DisplayName("Validation that the approximate total of a filtered page is counted in the DB until the facet index has loaded")
+    void listFilteredArticlesWithApproximateTotalWhileIndexLoads() {
+        ArticleFilter filter = new ArticleFilter(Set.of(), Set.of(2L), null, null, true);
+        Slice<Long> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 20), false);
+        given(articleRepository.findFilteredIdsOrderByNameAsc(eq(false), eq(List.of(0L)), eq(true), eq(Set.of(2L)),
+                eq(BigDecimal.ZERO), any(BigDecimal.class), eq(true), eq(PageRequest.of(0, 20)))).willReturn(slice);
+        given(articleRepository.countFiltered(eq(false), eq(List.of(0L)), eq(true), eq(Set.of(2L)),
+                eq(BigDecimal.ZERO), any(BigDecimal.class), eq(true))).willReturn(17L);
+
+        Pagination<Article> result = articleAdapter.listArticles(0, 20, "name", "asc", PaginationTotal.APPROXIMATE, filter);
+
+        assertEquals(17L, result.getTotalElements());
+        verify(articleFacetIndex, never()).count(any());
+    }
+
+    @Test
+    @DisplayName("Validation that exported rows are grouped into one article per id")
+    void exportArticles() {
+        List<ArticleRow> articleRows = List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "5G smartphone.", 5,
+                        new BigDecimal("1000.50"), 1L, "TechNova", 1L, "Electronics"),
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "5G smartphone.", 5,
+                        new BigDecimal("1000.50"), 1L, "TechNova", 2L, "Phones"),
+                new ArticleRow(2L, "Organic Bamboo Bedding Set", "Bamboo bedding.", 15,
+                        new BigDecimal("299.99"), 2L, "EcoHome", 3L, "Home"));
+        runTransactions();
+        given(articleRepository.streamAllRows()).willReturn(articleRows.stream());
+
+        List<Article> exported = new ArrayList<>();
+        articleAdapter.exportArticles(exported::add);
+
+        assertThat(exported).extracting(Article::getId).containsExactly(1L, 2L);
+        assertThat(exported.get(0).getBrand().getName()).isEqualTo("TechNova");
+        assertThat(exported.get(0).getCategoryList()).extracting(Category::getName).containsExactly("Electronics", "Phones");
+        assertThat(exported.get(1).getCategoryList()).extracting(Category::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Validation that search results keep the rank order of the index")
+    void searchArticles() {
+        given(articleSearchIndex.isLoaded()).willReturn(true);
+        given(articleSearchIndex.search("smart", 20)).willReturn(List.of(2L, 1L));
+        given(articleRepository.findRowsByIdIn(List.of(2L, 1L))).willReturn(List.of(
+                new ArticleRow(1L, "SmartX Pro 5G Smartphone", "5G smartphone.", 5,
+                        new BigDecimal("1000.50"), 1L, "TechNova", 1L, "Electronics"),
+                new ArticleRow(2L, "Smart Speaker", "Speaker.", 3,
+                        new BigDecimal("80.00"), 1L, "TechNova", 1L, "Electronics")));
+
+        assertThat(articleAdapter.searchArticles("smart", 20)).extracting(Article::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Validation that a search without matches doesn't query the DB")
+    void searchArticlesWithoutMatches() {
+        given(articleSearchIndex.isLoaded()).willReturn(true);
+        given(articleSearchIndex.search("unknown", 20)).willReturn(List.of());
+
+        assertThat(articleAdapter.searchArticles("unknown", 20)).isEmpty();
+        verify(articleRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Validation that a search falls back to the DB, wildcards escaped, until the index has loaded")
+    void searchArticlesWhileIndexLoads() {
+        given(articleRepository.findIdsByTextLike("%100!% smart%", PageRequest.of(0, 20))).willReturn(List.of(1L));
+        given(articleRepository.findRowsByIdIn(List.of(1L))).willReturn(List.of(
+                new ArticleRow(1L, "100% Smart Plug", "Plug.", 5,
+                        new BigDecimal("20.00"), 1L, "TechNova", 1L, "Electronics")));
+
+        assertThat(articleAdapter.searchArticles(" 100% Smart", 20)).extracting(Article::getId).containsExactly(1L);
+        verify(articleSearchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation that a stock adjustment is a conditional update timed once the row is locked")
+    void adjustStock() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantity(eq(1L), eq(-3))).willReturn(1);
+
+        assertTrue(articleAdapter.adjustStock(1L, -3));
+        verify(articleRepository, never()).findById(any());
+        verify(articleRepository, never()).save(any());
+        verify(articleRepository, times(1)).touchUpdatedAt(eq(List.of(1L)), any());
+        verify(stockMovements, times(1)).recordAdjustment(1L, -3);
+    }
+
+    @Test
+    @DisplayName("Validation that a stock adjustment reports when no row matched the condition")
+    void adjustStockNotApplied() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantity(eq(1L), eq(-30))).willReturn(0);
+
+        assertFalse(articleAdapter.adjustStock(1L, -30));
+        verify(articleRepository, never()).touchUpdatedAt(any(), any());
+        verify(stockMovements, never()).recordAdjustment(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation that combined adjustments are one update and one movement per delta")
+    void adjustStockCombined() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantityNeverBelow(1L, 4, 0)).willReturn(1);
+
+        assertTrue(articleAdapter.adjustStockCombined(1L, List.of(3, -1, 2)));
+        verify(articleRepository, times(1)).adjustQuantityNeverBelow(anyLong(), anyInt(), anyInt());
+        verify(articleRepository, never()).adjustQuantity(anyLong(), anyInt());
+        verify(stockMovements, times(1)).recordAdjustments(1L, List.of(3, -1, 2));
+        verify(stockMovements, never()).recordAdjustment(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation that combined adjustments keep the stock above the lowest running total of the deltas")
+    void adjustStockCombinedChecksLowestRunningTotal() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantityNeverBelow(1L, -3, -8)).willReturn(0);
+
+        assertFalse(articleAdapter.adjustStockCombined(1L, List.of(-8, 5)));
+        verify(articleRepository, never()).touchUpdatedAt(any(), any());
+        verify(stockMovements, never()).recordAdjustments(any(), any());
+    }
+
+    @Test
+    @DisplayName("Validation that a stock batch is rolled back when any adjustment is rejected")
+    void adjustStocksRollsBackWhenRejected() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantity(eq(1L), eq(5))).willReturn(1);
+        given(articleRepository.adjustQuantity(eq(2L), eq(-50))).willReturn(0);
+
+        Set<Long> rejected = articleAdapter.adjustStocks(List.of(new StockAdjustment(1L, 5), new StockAdjustment(2L, -50)));
+
+        assertThat(rejected).containsExactly(2L);
+        verify(transactionStatus, times(1)).setRollbackOnly();
+        verify(articleRepository, never()).touchUpdatedAt(any(), any());
+    }
+
+    @Test
+    @DisplayName("Validation that a stock batch commits when every adjustment is applied")
+    void adjustStocks() {
+        runTransactionCallbacks();
+        given(articleRepository.adjustQuantity(eq(1L), eq(5))).willReturn(1);
+        given(articleRepository.adjustQuantity(eq(2L), eq(-5))).willReturn(1);
+
+        assertThat(articleAdapter.adjustStocks(List.of(new StockAdjustment(1L, 5), new StockAdjustment(2L, -5)))).isEmpty();
+        verify(transactionStatus, never()).setRollbackOnly();
+        verify(articleRepository, times(1)).touchUpdatedAt(eq(List.of(1L, 2L)), any());
+        verify(stockMovements, times(1)).recordAdjustment(1L, 5);
+        verify(stockMovements, times(1)).recordAdjustment(2L, -5);
+    }
+
+    private static FacetCountRow facetCount(Long id, Long articles) {
+        return new FacetCountRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getArticles() {
+                return articles;
+            }
+        };
+    }
+
+    private void runTransactionCallbacks() {
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus))
+                .given(transaction).execute(any());
+    }
+
+    private void runTransactions() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transaction).executeWithoutResult(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer.StockAdjustmentBuffer;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change.ChangeVersionStamper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.StockMovementEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ArticleStockConcurrencyTest {
+    private static final int THREADS = 200;
+    private static final int ADJUSTMENTS_PER_THREAD = 50;
+    private static final int INITIAL_STOCK = 1000;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private IChangeStampRepository changeStampRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static int sequence;
+
+    private ArticleAdapter articleAdapter;
+    private TransactionTemplate transaction;
+    private BrandEntity brand;
+    private CategoryEntity category;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        articleAdapter = new ArticleAdapter(articleRepository, Mappers.getMapper(IArticleEntityMapper.class),
+                new CachedCount(articleRepository::count, Duration.ofSeconds(30)), new NameBloomFilter(1000, 0.01),
+                transaction, transaction,
+                new ArticleOutbox(outboxEventRepository, new ObjectMapper(), Clock.systemDefaultZone()),
+                new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone()), new ArticleSearchIndex(),
+                new ArticleFacetIndex());
+        brand = brandRepository.save(new BrandEntity(null, "Stock brand " + sequence, "Brand description"));
+        category = categoryRepository.save(new CategoryEntity(null, "Stock category " + sequence, "Category description"));
+    }
+
+    @Test
+    @DisplayName("Concurrent decrements on one article never sell more than its stock")
+    void decrementsNeverOversell() throws Exception {
+        Long articleId = newArticle();
+
+        long applied = adjustConcurrently(articleId, adjustment -> -1);
+
+        assertThat(applied).isEqualTo(INITIAL_STOCK);
+        assertThat(quantityOf(articleId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Concurrent increments and decrements on one article lose no update")
+    void mixedAdjustmentsLoseNoUpdate() throws Exception {
+        Long articleId = newArticle();
+        LongAdder appliedDelta = new LongAdder();
+
+        long applied = adjustConcurrently(articleId, adjustment -> adjustment % 2 == 0 ? 2 : -3, appliedDelta);
+
+        int quantity = quantityOf(articleId);
+        assertThat(quantity).isGreaterThanOrEqualTo(0);
+        assertThat(quantity).isEqualTo(INITIAL_STOCK + appliedDelta.sum());
+        assertThat(applied).isPositive();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Conditional stock updates per second on one hot article")
+    void mixedAdjustmentThroughput() throws Exception {
+        Long articleId = newArticle();
+
+        long start = System.nanoTime();
+        long applied = adjustConcurrently(articleId, adjustment -> adjustment % 2 == 0 ? 2 : -3);
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf("stock threads=%d adjustments=%d applied=%d throughput=%.0f updates/s%n",
+                THREADS, THREADS * ADJUSTMENTS_PER_THREAD, applied,
+                (double) THREADS * ADJUSTMENTS_PER_THREAD * 1_000_000_000d / elapsedNanos);
+    }
+
+    @Test
+    @DisplayName("Interleaved updates on one article leave the change feed at the final quantity")
+    void interleavedUpdatesEndFeedAtFinalQuantity() throws Exception {
+        Long articleId = newArticle();
+        stampVersions();
+        long since = changeStampRepository.findLastVersion();
+        CountDownLatch firstApplied = new CountDownLatch(1);
+        AtomicReference<LocalDateTime> firstCommitting = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> {
+                TransactionStatus status = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+                articleAdapter.adjustStock(articleId, 5);
+                firstApplied.countDown();
+                Thread.sleep(200);
+                firstCommitting.set(LocalDateTime.now());
+                transactionManager.commit(status);
+                return null;
+            });
+            assertThat(firstApplied.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> second = executor.submit(() -> articleAdapter.adjustStock(articleId, -2));
+
+            first.get(10, TimeUnit.SECONDS);
+            assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        stampVersions();
+
+        assertThat(changeAdapter().listChangesSince(since, 10)).singleElement().satisfies(change -> {
+            assertThat(change.getArticle().getId()).isEqualTo(articleId);
+            assertThat(change.getArticle().getQuantity()).isEqualTo(INITIAL_STOCK + 3);
+            assertThat(change.getUpdatedAt()).isAfterOrEqualTo(firstCommitting.get());
+        });
+    }
+
+    @Test
+    @DisplayName("Buffered adjustments of one article are one update but one movement per caller")
+    void bufferedAdjustmentsRecordOneMovementPerCaller() throws Exception {
+        Long articleId = newArticle();
+        StockAdjustmentBuffer buffer = new StockAdjustmentBuffer(articleAdapter, 4, Duration.ofHours(1), 1000);
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        buffer.start();
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int delta : new int[]{3, -1, 2}) {
+                results.add(callers.submit(() -> buffer.adjustStock(articleId, delta)));
+            }
+            while (buffer.getAdjustments() < 3) {
+                Thread.sleep(1);
+            }
+            buffer.flush();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            buffer.stop();
+            callers.shutdownNow();
+        }
+
+        assertThat(buffer.getUpdates()).isEqualTo(1);
+        assertThat(quantityOf(articleId)).isEqualTo(INITIAL_STOCK + 4);
+        assertThat(stockMovementRepository.findByArticleIdBefore(articleId, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .filteredOn(movement -> movement.getReason() == StockMovementReason.ADJUSTMENT)
+                .extracting(StockMovementEntity::getQuantityDelta)
+                .containsExactlyInAnyOrder(3, -1, 2);
+    }
+
+    @Test
+    @DisplayName("Buffered adjustments give the same answers as applying them one by one in arrival order")
+    void bufferedAdjustmentsKeepArrivalOrderAnswers() throws Exception {
+        Long articleId = newArticle();
+        StockAdjustmentBuffer buffer = new StockAdjustmentBuffer(articleAdapter, 4, Duration.ofHours(1), 10_000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        buffer.start();
+        try {
+            // The sum of both is within the stock, but the first one alone would oversell it.
+            Future<Boolean> oversold = callers.submit(() -> buffer.adjustStock(articleId, -(INITIAL_STOCK + 3)));
+            while (buffer.getAdjustments() < 1) {
+                Thread.sleep(1);
+            }
+            Future<Boolean> restocked = callers.submit(() -> buffer.adjustStock(articleId, 5));
+            while (buffer.getAdjustments() < 2) {
+                Thread.sleep(1);
+            }
+            buffer.flush();
+            assertThat(oversold.get(10, TimeUnit.SECONDS)).isFalse();
+            assertThat(restocked.get(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            buffer.stop();
+            callers.shutdownNow();
+        }
+
+        assertThat(quantityOf(articleId)).isEqualTo(INITIAL_STOCK + 5);
+        assertThat(stockMovementRepository.findByArticleIdBefore(articleId, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .filteredOn(movement -> movement.getReason() == StockMovementReason.ADJUSTMENT)
+                .extracting(StockMovementEntity::getQuantityDelta)
+                .containsExactly(5);
+    }
+
+    private long adjustConcurrently(Long articleId, IntUnaryOperator deltaOf) throws Exception {
+        return adjustConcurrently(articleId, deltaOf, new LongAdder());
+    }
+
+    private long adjustConcurrently(Long articleId, IntUnaryOperator deltaOf, LongAdder appliedDelta) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder applied = new LongAdder();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int adjustment = 0; adjustment < ADJUSTMENTS_PER_THREAD; adjustment++) {
+                        int delta = deltaOf.applyAsInt(adjustment);
+                        if (articleAdapter.adjustStock(articleId, delta)) {
+                            applied.increment();
+                            appliedDelta.add(delta);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return applied.sum();
+    }
+
+    private void stampVersions() {
+        new ChangeVersionStamper(brandRepository, categoryRepository, articleRepository, changeStampRepository,
+                transaction, 100, Duration.ofHours(1)).drain();
+    }
+
+    private ChangeAdapter changeAdapter() {
+        return new ChangeAdapter(brandRepository, categoryRepository, articleRepository,
+                Mappers.getMapper(IBrandEntityMapper.class), Mappers.getMapper(ICategoryEntityMapper.class),
+                Mappers.getMapper(IArticleEntityMapper.class), changeStampRepository);
+    }
+
+    private Long newArticle() {
+        return articleRepository.save(new ArticleEntity(null, "Stock article " + sequence++, "Article description", INITIAL_STOCK,
+                new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category)))).getId();
+    }
+
+    private int quantityOf(Long articleId) {
+        return articleRepository.findById(articleId).orElseThrow().getQuantity();
+    }
+}
\ No newline at end of file
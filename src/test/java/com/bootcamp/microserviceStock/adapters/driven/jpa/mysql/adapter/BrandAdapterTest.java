@@ -1,10 +1,19 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,18 +21,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -35,37 +49,78 @@ class BrandAdapterTest {
     @Mock
     private IBrandEntityMapper brandEntityMapper;
 
+    @Mock
+    private CachedCount brandCount;
+
+    @Mock
+    private NameBloomFilter brandNameFilter;
+
+    @Mock
+    private NameSuggestionIndex brandNameIndex;
+
     @InjectMocks
     private BrandAdapter brandAdapter;
 
     @Test
     @DisplayName("Validation that a brand is created correctly in the DB")
     void createBrand() {
-        Brand brand = new Brand(1L, "FitLife", "Quality workout gear, apparel, and supplements to support your active lifestyle.");
-        BrandEntity brandEntity = brandEntityMapper.brandToEntity(brand);
-        given(brandRepository.save(brandEntity)).willReturn(brandEntity);
+        Brand brand = new Brand(null, "FitLife", "Quality workout gear, apparel, and supplements to support your active lifestyle.");
+        BrandEntity brandEntity = new BrandEntity(null, brand.getName(), brand.getDescription());
+        given(brandEntityMapper.brandToEntity(brand)).willReturn(brandEntity);
+        given(brandRepository.saveAndFlush(brandEntity)).willReturn(new BrandEntity(1L, brand.getName(), brand.getDescription()));
         brandAdapter.createBrand(brand);
-        verify(brandRepository, times(1)).save(brandEntity);
+        verify(brandRepository, times(1)).saveAndFlush(brandEntity);
+        verify(brandNameIndex, times(1)).add(1L, brand.getName());
+        assertEquals(1L, brand.getId());
+    }
+
+    @Test
+    @DisplayName("A duplicated name rejected by the unique constraint becomes a validation error")
+    void createBrandWithDuplicatedName() {
+        Brand brand = new Brand(null, "FitLife", "Quality workout gear, apparel, and supplements to support your active lifestyle.");
+        BrandEntity brandEntity = new BrandEntity(null, brand.getName(), brand.getDescription());
+        given(brandEntityMapper.brandToEntity(brand)).willReturn(brandEntity);
+        given(brandRepository.saveAndFlush(brandEntity)).willThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry 'FitLife' for key 'brand.uk_brand_name'")));
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> brandAdapter.createBrand(brand));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.BRAND_ALREADY_EXISTS_MESSAGE);
+        verify(brandNameFilter, times(1)).put(brand.getName());
+        verify(brandNameIndex, never()).add(any(), any());
     }
 
     @Test
     @DisplayName("Validation when brand already exists in the DB")
     void alreadyExistsByNameTrue() {
         String name = "FitLife";
-        Mockito.when(brandRepository.findByName(name)).thenReturn(Optional.of(new BrandEntity()));
+        Mockito.when(brandNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(brandRepository.existsByName(name)).thenReturn(true);
         boolean exists = brandAdapter.alreadyExistsByName(name);
         assertTrue(exists);
-        verify(brandRepository, times(1)).findByName(name);
+        verify(brandRepository, times(1)).existsByName(name);
     }
 
     @Test
     @DisplayName("Validation when brand doesn't exists in the DB")
     void alreadyExistsByNameFalse() {
         String name = "UrbanEdge";
-        Mockito.when(brandRepository.findByName(name)).thenReturn(Optional.empty());
+        Mockito.when(brandNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(brandRepository.existsByName(name)).thenReturn(false);
         boolean exists = brandAdapter.alreadyExistsByName(name);
         assertFalse(exists);
-        verify(brandRepository, times(1)).findByName(name);
+        verify(brandRepository, times(1)).existsByName(name);
+        verify(brandNameFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("A name the filter has never seen doesn't reach the DB")
+    void alreadyExistsByNameSkipsDbWhenFilterSaysAbsent() {
+        String name = "UrbanEdge";
+        Mockito.when(brandNameFilter.mightContain(name)).thenReturn(false);
+        boolean exists = brandAdapter.alreadyExistsByName(name);
+        assertFalse(exists);
+        verify(brandRepository, never()).existsByName(any());
     }
 
     @Test
@@ -84,7 +139,7 @@ class BrandAdapterTest {
         Mockito.when(brandRepository.findAll(any(Pageable.class))).thenReturn(page);
         Mockito.when(brandEntityMapper.entityToDomain(brandEntity1)).thenReturn(new Brand(1L, "Books", "Browse a vast collection of books across all genres and interests."));
         Mockito.when(brandEntityMapper.entityToDomain(brandEntity2)).thenReturn(new Brand(2L, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands."));
-        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
@@ -101,7 +156,7 @@ class BrandAdapterTest {
 
         Page<BrandEntity> page = new PageImpl<>(List.of(), PageRequest.of(pageNumber, pageSize), 0);
         Mockito.when(brandRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
@@ -125,10 +180,117 @@ class BrandAdapterTest {
         Mockito.when(brandRepository.findAll(any(Pageable.class))).thenReturn(page);
         Mockito.when(brandEntityMapper.entityToDomain(brandEntity1)).thenReturn(new Brand(1L, "Books", "Browse a vast collection of books across all genres and interests."));
         Mockito.when(brandEntityMapper.entityToDomain(brandEntity2)).thenReturn(new Brand(2L, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands."));
-        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
         verify(brandRepository, times(1)).findAll(any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("Validation that brands are listed as a slice without counting when the total is not requested")
+    void listBrandsWithoutTotal() {
+        int pageNumber = 0;
+        int pageSize = 1;
+        BrandEntity brandEntity = new BrandEntity(2L, "EcoNest", "Eco-friendly home products, from organic bedding to energy-efficient appliances.");
+
+        Slice<BrandEntity> slice = new SliceImpl<>(List.of(brandEntity), PageRequest.of(pageNumber, pageSize), true);
+        Mockito.when(brandRepository.findAllBy(any(Pageable.class))).thenReturn(slice);
+        Mockito.when(brandEntityMapper.entityToDomain(brandEntity)).thenReturn(new Brand(2L, "EcoNest", "Eco-friendly home products, from organic bedding to energy-efficient appliances."));
+        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, "name", "asc", PaginationTotal.NONE);
+        assertThat(result.getContent()).hasSize(1);
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertFalse(result.isLast());
+        verify(brandRepository, never()).findAll(any(Pageable.class));
+        verify(brandRepository, never()).count();
+        verify(brandCount, never()).get();
+    }
+
+    @Test
+    @DisplayName("Validation that brands are listed with the cached total when an approximate total is requested")
+    void listBrandsWithApproximateTotal() {
+        int pageNumber = 1;
+        int pageSize = 1;
+        BrandEntity brandEntity = new BrandEntity(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.");
+
+        Slice<BrandEntity> slice = new SliceImpl<>(List.of(brandEntity), PageRequest.of(pageNumber, pageSize), false);
+        Mockito.when(brandRepository.findAllBy(any(Pageable.class))).thenReturn(slice);
+        Mockito.when(brandCount.get()).thenReturn(2L);
+        Mockito.when(brandEntityMapper.entityToDomain(brandEntity)).thenReturn(new Brand(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets."));
+        Pagination<Brand> result = brandAdapter.listBrands(pageNumber, pageSize, "name", "asc", PaginationTotal.APPROXIMATE);
+        assertThat(result.getContent()).hasSize(1);
+        assertEquals(2L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertTrue(result.isApproximateTotal());
+        assertTrue(result.isLast());
+        verify(brandRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Validation that the cursor page returns a next cursor when more brands exist")
+    void listBrandsAfterReturnsNextCursorWhenMoreBrandsExist() {
+        int pageSize = 2;
+        BrandEntity brandEntity1 = new BrandEntity(2L, "EcoNest", "Eco-friendly home products, from organic bedding to energy-efficient appliances.");
+        BrandEntity brandEntity2 = new BrandEntity(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.");
+        BrandEntity brandEntity3 = new BrandEntity(3L, "UrbanEdge", "Streetwear and accessories for the modern city lifestyle.");
+
+        Mockito.when(brandRepository.findFirstPageOrderByNameAsc(PageRequest.of(0, pageSize + 1)))
+                .thenReturn(List.of(brandEntity1, brandEntity2, brandEntity3));
+        Mockito.when(brandEntityMapper.entityToDomain(brandEntity1)).thenReturn(new Brand(2L, "EcoNest", "Eco-friendly home products, from organic bedding to energy-efficient appliances."));
+        Mockito.when(brandEntityMapper.entityToDomain(brandEntity2)).thenReturn(new Brand(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets."));
+
+        CursorPagination<Brand> result = brandAdapter.listBrandsAfter(null, pageSize, "name", "asc");
+
+        assertThat(result.getContent()).hasSize(2);
+        assertFalse(result.isLast());
+        PageCursor nextCursor = PageCursor.decode(result.getNextCursor());
+        assertNotNull(nextCursor);
+        assertEquals(1L, nextCursor.getLastId());
+        assertEquals("TechNova", nextCursor.getLastSortKey());
+        assertTrue(nextCursor.isSortedBy("name", "asc"));
+    }
+
+    @Test
+    @DisplayName("Validation that the cursor page is the last one when no more brands exist")
+    void listBrandsAfterReturnsLastPageWhenNoMoreBrandsExist() {
+        int pageSize = 2;
+        PageCursor after = new PageCursor(1L, "TechNova", "name", "desc");
+        BrandEntity brandEntity = new BrandEntity(3L, "UrbanEdge", "Streetwear and accessories for the modern city lifestyle.");
+
+        Mockito.when(brandRepository.findPageAfterOrderByNameDesc("TechNova", 1L, PageRequest.of(0, pageSize + 1)))
+                .thenReturn(List.of(brandEntity));
+        Mockito.when(brandEntityMapper.entityToDomain(brandEntity)).thenReturn(new Brand(3L, "UrbanEdge", "Streetwear and accessories for the modern city lifestyle."));
+
+        CursorPagination<Brand> result = brandAdapter.listBrandsAfter(after, pageSize, "name", "desc");
+
+        assertThat(result.getContent()).hasSize(1);
+        assertTrue(result.isLast());
+        assertNull(result.getNextCursor());
+        verify(brandRepository, times(1)).findPageAfterOrderByNameDesc("TechNova", 1L, PageRequest.of(0, pageSize + 1));
+    }
+
+    @Test
+    @DisplayName("Brand names are suggested from the index without reaching the DB")
+    void suggestBrands() {
+        Mockito.when(brandNameIndex.isLoaded()).thenReturn(true);
+        Mockito.when(brandNameIndex.suggest("fit", 10)).thenReturn(List.of(new NameRow(1L, "FitLife")));
+
+        List<Brand> suggestions = brandAdapter.suggestBrands("fit", 10);
+
+        assertThat(suggestions).extracting(Brand::getId, Brand::getName)
+                .containsExactly(tuple(1L, "FitLife"));
+        Mockito.verifyNoInteractions(brandRepository);
+    }
+
+    @Test
+    @DisplayName("Brand names are suggested from the DB, wildcards escaped, until the index has loaded")
+    void suggestBrandsWhileIndexLoads() {
+        Mockito.when(brandRepository.findNameRowsLike("fit!_%", PageRequest.of(0, 10))).thenReturn(List.of(new NameRow(1L, "FitLife")));
+
+        List<Brand> suggestions = brandAdapter.suggestBrands("FIT_", 10);
+
+        assertThat(suggestions).extracting(Brand::getId).hasSize(1);
+        Mockito.verify(brandNameIndex, Mockito.never()).suggest(Mockito.any(), Mockito.anyInt());
+    }
 }
\ No newline at end of file
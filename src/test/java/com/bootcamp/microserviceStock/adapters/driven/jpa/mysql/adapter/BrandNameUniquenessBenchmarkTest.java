@@ -0,0 +1,89 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class BrandNameUniquenessBenchmarkTest {
+    private static final int EXISTING_NAMES = 1_000_000;
+    private static final int NEW_BRANDS = 10_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final IBrandEntityMapper brandEntityMapper = Mappers.getMapper(IBrandEntityMapper.class);
+
+    @BeforeEach
+    void setUp() {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO brand (id, name, description, created_at, updated_at, change_version) " +
+                        "SELECT X, CONCAT('Existing brand ', X), 'Brand description', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, X " +
+                        "FROM SYSTEM_RANGE(" + (EXISTING_NAMES + 1) + ", " + (2 * EXISTING_NAMES) + ")")
+                .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("Bulk brand creation against 1M existing names with and without the name filter")
+    void bulkCreationWithExistingNames() {
+        long loadStart = System.nanoTime();
+        NameBloomFilter nameFilter = new NameBloomFilter(EXISTING_NAMES + 2L * NEW_BRANDS, 0.01);
+        nameFilter.load(brandRepository.streamAllNames());
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        System.out.printf("nameFilter load names=%d time=%d ms memory=%d bytes%n", EXISTING_NAMES, loadMillis, nameFilter.getMemoryBytes());
+
+        BrandAdapter databaseOnly = new BrandAdapter(brandRepository, brandEntityMapper,
+                new CachedCount(brandRepository::count, Duration.ofSeconds(30)), new NameBloomFilter(1, 0.01), new NameSuggestionIndex());
+        BrandAdapter filtered = new BrandAdapter(brandRepository, brandEntityMapper,
+                new CachedCount(brandRepository::count, Duration.ofSeconds(30)), nameFilter, new NameSuggestionIndex());
+
+        createBrands("databaseOnly", databaseOnly, "Unfiltered brand ");
+        createBrands("nameFilter", filtered, "Filtered brand ");
+
+        assertThat(filtered.alreadyExistsByName("Existing brand " + (EXISTING_NAMES + 1))).isTrue();
+        System.out.printf("nameFilter falsePositiveRate=%.4f expected=%.4f%n",
+                nameFilter.getFalsePositiveRate(), nameFilter.getExpectedFalsePositiveRate());
+    }
+
+    private void createBrands(String variant, BrandAdapter brandAdapter, String namePrefix) {
+        long start = System.nanoTime();
+        int created = 0;
+        for (int i = 0; i < NEW_BRANDS; i++) {
+            String name = namePrefix + i;
+            if (!brandAdapter.alreadyExistsByName(name)) {
+                brandAdapter.createBrand(new Brand(null, name, "Brand description"));
+                created++;
+            }
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        assertThat(created).isEqualTo(NEW_BRANDS);
+        System.out.printf("bulkCreate variant=%s existing=%d brands=%d throughput=%.0f brands/s%n",
+                variant, EXISTING_NAMES, NEW_BRANDS, NEW_BRANDS * 1_000_000_000d / elapsedNanos);
+    }
+}
\ No newline at end of file
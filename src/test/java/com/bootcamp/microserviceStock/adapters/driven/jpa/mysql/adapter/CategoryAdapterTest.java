@@ -1,11 +1,18 @@
 package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
 
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.CategoryPageMapper;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
 import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
 import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,14 +25,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -37,6 +47,15 @@ class CategoryAdapterTest {
     @Mock
     private ICategoryEntityMapper categoryEntityMapper;
 
+    @Mock
+    private CachedCount categoryCount;
+
+    @Mock
+    private NameBloomFilter categoryNameFilter;
+
+    @Mock
+    private NameSuggestionIndex categoryNameIndex;
+
     @InjectMocks
     private CategoryAdapter categoryAdapter;
 
@@ -45,37 +64,42 @@ class CategoryAdapterTest {
     @BeforeEach
     void setUp() {
         categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
-        categoryAdapter = new CategoryAdapter(categoryRepository, categoryEntityMapper);
+        categoryAdapter = new CategoryAdapter(categoryRepository, categoryEntityMapper, categoryCount, categoryNameFilter, categoryNameIndex);
     }
 
     @Test
     @DisplayName("Validation that a category is created correctly in the DB")
     void createCategory() {
-        Category category = new Category(1L, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands.");
-        CategoryEntity categoryEntity = categoryEntityMapper.categoryToEntity(category);
-        given(categoryRepository.save(categoryEntity)).willReturn(categoryEntity);
+        Category category = new Category(null, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands.");
+        CategoryEntity categoryEntity = new CategoryEntity(null, category.getName(), category.getDescription());
+        given(categoryEntityMapper.categoryToEntity(category)).willReturn(categoryEntity);
+        given(categoryRepository.saveAndFlush(categoryEntity)).willReturn(new CategoryEntity(1L, category.getName(), category.getDescription()));
         categoryAdapter.createCategory(category);
-        verify(categoryRepository, times(1)).save(categoryEntity);
+        verify(categoryRepository, times(1)).saveAndFlush(categoryEntity);
+        verify(categoryNameIndex, times(1)).add(1L, category.getName());
+        assertEquals(1L, category.getId());
     }
 
     @Test
     @DisplayName("Validation when category already exists in the DB")
     void alreadyExistsByNameTrue() {
         String name = "Beauty & Personal Care";
-        Mockito.when(categoryRepository.findByName(name)).thenReturn(Optional.of(new CategoryEntity()));
+        Mockito.when(categoryNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(categoryRepository.existsByName(name)).thenReturn(true);
         boolean exists = categoryAdapter.alreadyExistsByName(name);
         assertTrue(exists);
-        verify(categoryRepository, times(1)).findByName(name);
+        verify(categoryRepository, times(1)).existsByName(name);
     }
 
     @Test
     @DisplayName("Validation when a category doesn't exists in the DB")
     void alreadyExistsByNameFalse() {
         String name = "Books";
-        Mockito.when(categoryRepository.findByName(name)).thenReturn(Optional.empty());
+        Mockito.when(categoryNameFilter.mightContain(name)).thenReturn(true);
+        Mockito.when(categoryRepository.existsByName(name)).thenReturn(false);
         boolean exists = categoryAdapter.alreadyExistsByName(name);
         assertFalse(exists);
-        verify(categoryRepository, times(1)).findByName(name);
+        verify(categoryRepository, times(1)).existsByName(name);
     }
 
     @Test
@@ -94,7 +118,7 @@ class CategoryAdapterTest {
         Mockito.when(categoryRepository.findAll(any(Pageable.class))).thenReturn(page);
         Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity1)).thenReturn(new Category(1L, "Books", "Browse a vast collection of books across all genres and interests."));
         Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity2)).thenReturn(new Category(2L, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands."));
-        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
@@ -111,7 +135,7 @@ class CategoryAdapterTest {
 
         Page<CategoryEntity> page = new PageImpl<>(List.of(), PageRequest.of(pageNumber, pageSize), 0);
         Mockito.when(categoryRepository.findAll(any(Pageable.class))).thenReturn(page);
-        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
@@ -135,10 +159,72 @@ class CategoryAdapterTest {
         Mockito.when(categoryRepository.findAll(any(Pageable.class))).thenReturn(page);
         Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity1)).thenReturn(new Category(1L, "Books", "Browse a vast collection of books across all genres and interests."));
         Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity2)).thenReturn(new Category(2L, "Beauty & Personal Care", "Discover skincare, makeup, and wellness products from top brands."));
-        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection);
+        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, sortBy, sortDirection, PaginationTotal.EXACT);
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getPageNumber()).isZero();
         assertThat(result.getPageSize()).isEqualTo(5);
         verify(categoryRepository, times(1)).findAll(any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("Validation that categories are listed as a slice without counting when the total is not requested")
+    void listCategoriesWithoutTotal() {
+        int pageNumber = 0;
+        int pageSize = 5;
+        CategoryEntity categoryEntity = new CategoryEntity(1L, "Books", "Browse a vast collection of books across all genres and interests.");
+
+        Slice<CategoryEntity> slice = new SliceImpl<>(List.of(categoryEntity), PageRequest.of(pageNumber, pageSize), false);
+        Mockito.when(categoryRepository.findAllBy(any(Pageable.class))).thenReturn(slice);
+        Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity)).thenReturn(new Category(1L, "Books", "Browse a vast collection of books across all genres and interests."));
+        Pagination<Category> result = categoryAdapter.listCategories(pageNumber, pageSize, "name", "asc", PaginationTotal.NONE);
+        assertThat(result.getContent()).hasSize(1);
+        assertNull(result.getTotalElements());
+        assertTrue(result.isLast());
+        verify(categoryRepository, never()).findAll(any(Pageable.class));
+        verify(categoryCount, never()).get();
+    }
+
+    @Test
+    @DisplayName("Validation that the cursor page continues after the given category")
+    void listCategoriesAfter() {
+        int pageSize = 1;
+        PageCursor after = new PageCursor(2L, "Beauty & Personal Care", "name", "asc");
+        CategoryEntity categoryEntity1 = new CategoryEntity(1L, "Books", "Browse a vast collection of books across all genres and interests.");
+        CategoryEntity categoryEntity2 = new CategoryEntity(3L, "Electronics", "Latest gadgets, devices and accessories.");
+
+        Mockito.when(categoryRepository.findPageAfterOrderByNameAsc("Beauty & Personal Care", 2L, PageRequest.of(0, pageSize + 1)))
+                .thenReturn(List.of(categoryEntity1, categoryEntity2));
+        Mockito.when(categoryEntityMapper.entityToDomain(categoryEntity1)).thenReturn(new Category(1L, "Books", "Browse a vast collection of books across all genres and interests."));
+
+        CursorPagination<Category> result = categoryAdapter.listCategoriesAfter(after, pageSize, "name", "asc");
+
+        assertThat(result.getContent()).hasSize(1);
+        assertEquals(1L, result.getContent().get(0).getId(), "The Category ID should be 1L");
+        assertFalse(result.isLast());
+        assertEquals(new PageCursor(1L, "Books", "name", "asc").encode(), result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Category names are suggested from the index without reaching the DB")
+    void suggestCategories() {
+        Mockito.when(categoryNameIndex.isLoaded()).thenReturn(true);
+        Mockito.when(categoryNameIndex.suggest("be", 10)).thenReturn(List.of(new NameRow(2L, "Beauty & Personal Care")));
+
+        List<Category> suggestions = categoryAdapter.suggestCategories("be", 10);
+
+        assertThat(suggestions).extracting(Category::getId, Category::getName)
+                .containsExactly(tuple(2L, "Beauty & Personal Care"));
+        Mockito.verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("Category names are suggested from the DB, wildcards escaped, until the index has loaded")
+    void suggestCategoriesWhileIndexLoads() {
+        Mockito.when(categoryRepository.findNameRowsLike("be!_%", PageRequest.of(0, 10))).thenReturn(List.of(new NameRow(2L, "Beauty & Personal Care")));
+
+        List<Category> suggestions = categoryAdapter.suggestCategories("BE_", 10);
+
+        assertThat(suggestions).extracting(Category::getId).hasSize(1);
+        Mockito.verify(categoryNameIndex, Mockito.never()).suggest(Mockito.any(), Mockito.anyInt());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change.ChangeVersionStamper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IBrandEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ICategoryEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import com.bootcamp.microserviceStock.domain.util.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ChangeAdapterTest {
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IChangeStampRepository changeStampRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private BrandEntity brand;
+    private CategoryEntity category;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandRepository.save(new BrandEntity(null, "TechNova", "Consumer electronics"));
+        category = categoryRepository.save(new CategoryEntity(null, "Electronics", "Electronic devices"));
+        articleRepository.save(new ArticleEntity(null, "SmartX Pro 5G Smartphone", "5G smartphone.", 5,
+                new BigDecimal("1000.50"), brand, new ArrayList<>(List.of(category))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Created rows get increasing versions and are listed in version order")
+    void listChangesSinceReturnsCreatedRowsInVersionOrder() {
+        stampVersions();
+
+        List<CatalogChange> changes = changeAdapter().listChangesSince(0, 10);
+
+        assertThat(changes).extracting(CatalogChange::getType)
+                .containsExactlyInAnyOrder(ChangeType.BRAND, ChangeType.CATEGORY, ChangeType.ARTICLE);
+        assertThat(changes).extracting(CatalogChange::getVersion).isSorted().doesNotHaveDuplicates();
+        assertThat(changes).allSatisfy(change -> assertThat(change.getUpdatedAt()).isNotNull());
+        assertThat(changes).filteredOn(change -> change.getType() == ChangeType.ARTICLE).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getArticle().getBrand().getName()).isEqualTo("TechNova");
+                    assertThat(change.getArticle().getCategoryList()).hasSize(1);
+                });
+    }
+
+    @Test
+    @DisplayName("Updating a row moves it past every earlier change")
+    void updatedRowGetsNewVersion() {
+        stampVersions();
+        List<CatalogChange> created = changeAdapter().listChangesSince(0, 10);
+        long lastVersion = created.get(created.size() - 1).getVersion();
+        BrandEntity storedBrand = brandRepository.findById(brand.getId()).orElseThrow();
+        storedBrand.setDescription("Phones and wearables");
+        entityManager.flush();
+        entityManager.clear();
+        stampVersions();
+
+        List<CatalogChange> changes = changeAdapter().listChangesSince(lastVersion, 10);
+
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.getType()).isEqualTo(ChangeType.BRAND);
+            assertThat(change.getBrand().getDescription()).isEqualTo("Phones and wearables");
+            assertThat(change.getVersion()).isGreaterThan(lastVersion);
+        });
+    }
+
+    @Test
+    @DisplayName("Changes are hidden until they are stamped and limited to the batch size")
+    void listChangesSinceHonorsStampingAndLimit() {
+        assertThat(changeAdapter().listChangesSince(0, 10)).isEmpty();
+
+        stampVersions();
+        List<CatalogChange> changes = changeAdapter().listChangesSince(0, 3);
+
+        assertThat(changeAdapter().listChangesSince(0, 2))
+                .extracting(CatalogChange::getVersion)
+                .containsExactly(changes.get(0).getVersion(), changes.get(1).getVersion());
+        assertThat(changeAdapter().listChangesSince(changes.get(2).getVersion(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The feed never goes past the last stamped version")
+    void listChangesSinceStopsAtLastStampedVersion() {
+        stampVersions();
+        long lastVersion = changeStampRepository.findLastVersion();
+        changeStampRepository.findById(1L).orElseThrow().setLastVersion(lastVersion - 1);
+        entityManager.flush();
+
+        assertThat(changeAdapter().listChangesSince(0, 10))
+                .hasSize(2)
+                .allSatisfy(change -> assertThat(change.getVersion()).isLessThan(lastVersion));
+    }
+
+    private void stampVersions() {
+        new ChangeVersionStamper(brandRepository, categoryRepository, articleRepository, changeStampRepository,
+                TransactionOperations.withoutTransaction(), 2, Duration.ofHours(1)).drain();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private ChangeAdapter changeAdapter() {
+        return new ChangeAdapter(brandRepository, categoryRepository, articleRepository,
+                Mappers.getMapper(IBrandEntityMapper.class), Mappers.getMapper(ICategoryEntityMapper.class),
+                Mappers.getMapper(IArticleEntityMapper.class), changeStampRepository);
+    }
+}
\ No newline at end of file
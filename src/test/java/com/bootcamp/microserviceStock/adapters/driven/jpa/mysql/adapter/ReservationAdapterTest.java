@@ -0,0 +1,147 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IReservationEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IReservationRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReservationAdapterTest {
+    @Autowired
+    private IReservationRepository reservationRepository;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static int sequence;
+
+    private ReservationAdapter reservationAdapter;
+    private ArticleAdapter articleAdapter;
+    private Long articleId;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        StockMovementLog stockMovements = new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone());
+        reservationAdapter = new ReservationAdapter(reservationRepository, articleRepository,
+                Mappers.getMapper(IReservationEntityMapper.class), transaction, transaction, stockMovements);
+        articleAdapter = new ArticleAdapter(articleRepository, Mappers.getMapper(IArticleEntityMapper.class),
+                new CachedCount(articleRepository::count, Duration.ofSeconds(30)), new NameBloomFilter(1000, 0.01),
+                transaction, transaction,
+                new ArticleOutbox(outboxEventRepository, new ObjectMapper(), Clock.systemDefaultZone()),
+                stockMovements, new ArticleSearchIndex(), new ArticleFacetIndex());
+        BrandEntity brand = brandRepository.save(new BrandEntity(null, "Reservation brand " + sequence, "Brand description"));
+        CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Reservation category " + sequence, "Category description"));
+        articleId = articleRepository.save(new ArticleEntity(null, "Reservation article " + sequence++, "Article description", 10,
+                new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category)))).getId();
+    }
+
+    @Test
+    @DisplayName("A hold takes stock out of the available quantity and is refused beyond it")
+    void reserveHoldsAvailableStock() {
+        Reservation reservation = reservationAdapter.reserve(hold(7));
+
+        assertThat(reservation.getId()).isNotNull();
+        assertThat(reservationAdapter.reserve(hold(4))).isNull();
+        assertAvailability(10, 7);
+    }
+
+    @Test
+    @DisplayName("Confirming a hold takes it out of the stock, only once")
+    void confirmReservation() {
+        Reservation reservation = reservationAdapter.reserve(hold(4));
+
+        assertThat(reservationAdapter.confirmReservation(reservation)).isTrue();
+        assertThat(reservationAdapter.confirmReservation(reservation)).isFalse();
+        assertThat(reservationAdapter.releaseReservation(reservation)).isFalse();
+        assertAvailability(6, 0);
+        assertThat(reservationAdapter.findReservation(reservation.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Releasing a hold gives its quantity back to the available stock")
+    void releaseReservation() {
+        Reservation reservation = reservationAdapter.reserve(hold(4));
+
+        assertThat(reservationAdapter.releaseReservation(reservation)).isTrue();
+        assertThat(reservationAdapter.confirmReservation(reservation)).isFalse();
+        assertAvailability(10, 0);
+    }
+
+    @Test
+    @DisplayName("Stock adjustments can't take the quantity below what is reserved")
+    void adjustStockKeepsReservedQuantity() {
+        reservationAdapter.reserve(hold(6));
+
+        assertThat(articleAdapter.adjustStock(articleId, -5)).isFalse();
+        assertThat(articleAdapter.adjustStock(articleId, -4)).isTrue();
+        assertAvailability(6, 6);
+    }
+
+    private Reservation hold(int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Reservation(null, articleId, quantity, now.plusMinutes(5), now);
+    }
+
+    private void assertAvailability(int quantity, int reserved) {
+        StockAvailability availability = reservationAdapter.findAvailability(articleId);
+        assertThat(availability.getQuantity()).isEqualTo(quantity);
+        assertThat(availability.getReserved()).isEqualTo(reserved);
+        assertThat(availability.getAvailable()).isEqualTo(quantity - reserved);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ArticleAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.CachedCount;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache.NameBloomFilter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox.ArticleOutbox;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class StockAdjustmentBufferBenchmarkTest {
+    private static final int THREADS = 200;
+    private static final int ADJUSTMENTS_PER_THREAD = 100;
+    private static final int HOT_ARTICLES = 4;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleAdapter articleAdapter;
+    private List<Long> articleIds;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        articleAdapter = new ArticleAdapter(articleRepository, Mappers.getMapper(IArticleEntityMapper.class),
+                new CachedCount(articleRepository::count, Duration.ofSeconds(30)), new NameBloomFilter(1000, 0.01),
+                transaction, transaction,
+                new ArticleOutbox(outboxEventRepository, new ObjectMapper(), Clock.systemDefaultZone()),
+                new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone()), new ArticleSearchIndex(),
+                new ArticleFacetIndex());
+        BrandEntity brand = brandRepository.save(new BrandEntity(null, "Flash sale brand", "Brand description"));
+        CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Flash sale category", "Category description"));
+        articleIds = new ArrayList<>();
+        for (int i = 0; i < HOT_ARTICLES; i++) {
+            articleIds.add(articleRepository.save(new ArticleEntity(null, "Flash sale article " + i, "Article description",
+                    1_000_000, new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category)))).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Stock adjustments per second on hot articles, per request versus buffered")
+    void adjustmentThroughput() throws Exception {
+        run("per-request", articleAdapter, () -> (long) THREADS * ADJUSTMENTS_PER_THREAD);
+
+        StockAdjustmentBuffer stockAdjustmentBuffer = new StockAdjustmentBuffer(articleAdapter, 64, Duration.ofMillis(5), 100_000);
+        stockAdjustmentBuffer.start();
+        try {
+            run("buffered", new BufferedArticlePersistencePort(articleAdapter, stockAdjustmentBuffer), stockAdjustmentBuffer::getUpdates);
+        } finally {
+            stockAdjustmentBuffer.stop();
+        }
+    }
+
+    private void run(String mode, IArticlePersistencePort articlePersistencePort, LongSupplier updateCount) throws Exception {
+        long quantityBefore = totalQuantity();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder waitNanos = new LongAdder();
+        LongAdder appliedDelta = new LongAdder();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int worker = thread;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int adjustment = 0; adjustment < ADJUSTMENTS_PER_THREAD; adjustment++) {
+                        Long articleId = articleIds.get((worker + adjustment) % HOT_ARTICLES);
+                        int delta = adjustment % 2 == 0 ? -1 : 2;
+                        long requestedAt = System.nanoTime();
+                        if (articlePersistencePort.adjustStock(articleId, delta)) {
+                            appliedDelta.add(delta);
+                        }
+                        waitNanos.add(System.nanoTime() - requestedAt);
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            long adjustments = (long) THREADS * ADJUSTMENTS_PER_THREAD;
+            assertThat(totalQuantity()).isEqualTo(quantityBefore + appliedDelta.sum());
+            // Every UPDATE takes the row lock of its article, so fewer updates means less time queued on hot rows.
+            System.out.printf("stock mode=%s adjustments=%d rowUpdates=%d throughput=%.0f adjustments/s meanLatency=%.2f ms%n",
+                    mode, adjustments, updateCount.getAsLong(), adjustments * 1_000_000_000d / elapsedNanos,
+                    waitNanos.sum() / (adjustments * 1_000_000d));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long totalQuantity() {
+        return articleRepository.findAllById(articleIds).stream()
+                .mapToLong(ArticleEntity::getQuantity)
+                .sum();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.buffer;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ArticleAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockAdjustmentBufferTest {
+    @Mock
+    private ArticleAdapter articleAdapter;
+
+    private StockAdjustmentBuffer stockAdjustmentBuffer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        // Flushes are triggered by the tests, the scheduled one never comes.
+        stockAdjustmentBuffer = new StockAdjustmentBuffer(articleAdapter, 4, Duration.ofHours(1), 100);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Adjustments go straight to the database while the buffer is stopped")
+    void adjustStockWhenStopped() {
+        given(articleAdapter.adjustStock(1L, 5)).willReturn(true);
+
+        assertThat(stockAdjustmentBuffer.adjustStock(1L, 5)).isTrue();
+        assertThat(stockAdjustmentBuffer.getUpdates()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pending adjustments of one article are flushed as a single update that keeps every delta")
+    void flushCoalescesAdjustments() throws Exception {
+        given(articleAdapter.adjustStockCombined(eq(1L), any())).willReturn(true);
+        stockAdjustmentBuffer.start();
+
+        List<CompletableFuture<Boolean>> results = adjust(1L, 3, -1, 2);
+        stockAdjustmentBuffer.flush();
+
+        for (CompletableFuture<Boolean> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        ArgumentCaptor<List<Integer>> deltas = ArgumentCaptor.captor();
+        verify(articleAdapter, times(1)).adjustStockCombined(eq(1L), deltas.capture());
+        assertThat(deltas.getValue()).containsExactlyInAnyOrder(3, -1, 2);
+        assertThat(stockAdjustmentBuffer.getAdjustments()).isEqualTo(3);
+        assertThat(stockAdjustmentBuffer.getUpdates()).isEqualTo(1);
+        stockAdjustmentBuffer.stop();
+    }
+
+    @Test
+    @DisplayName("A rejected sum is replayed one adjustment at a time")
+    void flushReplaysRejectedSum() throws Exception {
+        given(articleAdapter.adjustStockCombined(1L, List.of(-3, -1))).willReturn(false);
+        given(articleAdapter.adjustStock(1L, -3)).willReturn(true);
+        given(articleAdapter.adjustStock(1L, -1)).willReturn(false);
+        stockAdjustmentBuffer.start();
+
+        CompletableFuture<Boolean> first = adjust(1L, -3).get(0);
+        CompletableFuture<Boolean> second = adjust(1L, -1).get(0);
+        stockAdjustmentBuffer.flush();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isFalse();
+        InOrder order = inOrder(articleAdapter);
+        order.verify(articleAdapter).adjustStockCombined(1L, List.of(-3, -1));
+        order.verify(articleAdapter).adjustStock(1L, -3);
+        order.verify(articleAdapter).adjustStock(1L, -1);
+        stockAdjustmentBuffer.stop();
+    }
+
+    @Test
+    @DisplayName("A failed flush is reported to every waiting caller")
+    void flushFailureReachesCallers() throws Exception {
+        given(articleAdapter.adjustStock(1L, 2)).willThrow(new IllegalStateException("database unavailable"));
+        stockAdjustmentBuffer.start();
+
+        CompletableFuture<Boolean> result = adjust(1L, 2).get(0);
+        stockAdjustmentBuffer.flush();
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        stockAdjustmentBuffer.stop();
+    }
+
+    @Test
+    @DisplayName("Stopping the buffer flushes what is still pending")
+    void stopFlushesPendingAdjustments() throws Exception {
+        given(articleAdapter.adjustStock(7L, 10)).willReturn(true);
+        stockAdjustmentBuffer.start();
+
+        CompletableFuture<Boolean> result = adjust(7L, 10).get(0);
+        stockAdjustmentBuffer.stop();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stockAdjustmentBuffer.isRunning()).isFalse();
+    }
+
+    private List<CompletableFuture<Boolean>> adjust(Long articleId, int... deltas) throws InterruptedException {
+        long expected = stockAdjustmentBuffer.getAdjustments() + deltas.length;
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int delta : deltas) {
+            results.add(CompletableFuture.supplyAsync(() -> stockAdjustmentBuffer.adjustStock(articleId, delta), callers));
+        }
+        while (stockAdjustmentBuffer.getAdjustments() < expected) {
+            Thread.sleep(1);
+        }
+        return results;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBrandPersistencePortTest {
+    @Mock
+    private IBrandPersistencePort brandPersistencePort;
+
+    private ExistingIdCache brandIdCache;
+    private ListingCache<Brand> brandListingCache;
+    private CachingBrandPersistencePort cachingBrandPersistencePort;
+
+    @BeforeEach
+    void setUp() {
+        brandIdCache = new ExistingIdCache(2, Duration.ofMinutes(10), Runnable::run);
+        brandListingCache = new ListingCache<>(10, Duration.ofMinutes(5));
+        cachingBrandPersistencePort = new CachingBrandPersistencePort(brandPersistencePort, brandIdCache, brandListingCache);
+    }
+
+    @Test
+    @DisplayName("A created brand is answered from memory without querying the DB")
+    void createBrandFillsCache() {
+        Brand brand = new Brand(null, "FitLife", "Quality workout gear.");
+        willAnswer(invocation -> {
+            brand.setId(7L);
+            return null;
+        }).given(brandPersistencePort).createBrand(brand);
+
+        cachingBrandPersistencePort.createBrand(brand);
+
+        assertTrue(cachingBrandPersistencePort.alreadyExistsByID(7L));
+        verify(brandPersistencePort, never()).alreadyExistsByID(any());
+        assertEquals(1, brandIdCache.getHits());
+        assertEquals(0, brandIdCache.getMisses());
+    }
+
+    @Test
+    @DisplayName("A miss falls back to the DB once and only existing ids are remembered")
+    void alreadyExistsByIDFallsBackOnMiss() {
+        given(brandPersistencePort.alreadyExistsByID(1L)).willReturn(true);
+        given(brandPersistencePort.alreadyExistsByID(2L)).willReturn(false);
+
+        assertTrue(cachingBrandPersistencePort.alreadyExistsByID(1L));
+        assertTrue(cachingBrandPersistencePort.alreadyExistsByID(1L));
+        assertFalse(cachingBrandPersistencePort.alreadyExistsByID(2L));
+        assertFalse(cachingBrandPersistencePort.alreadyExistsByID(2L));
+
+        verify(brandPersistencePort, times(1)).alreadyExistsByID(1L);
+        verify(brandPersistencePort, times(2)).alreadyExistsByID(2L);
+        assertEquals(1, brandIdCache.getHits());
+        assertEquals(3, brandIdCache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Only the ids missing from memory are looked up in the DB")
+    void findExistingIDsQueriesOnlyUnknownIds() {
+        brandIdCache.add(1L);
+        given(brandPersistencePort.findExistingIDs(Set.of(2L, 3L))).willReturn(Set.of(2L));
+
+        assertEquals(Set.of(1L, 2L), cachingBrandPersistencePort.findExistingIDs(Set.of(1L, 2L, 3L)));
+        assertTrue(brandIdCache.contains(2L));
+    }
+
+    @Test
+    @DisplayName("Ids are evicted once the cache is full")
+    void evictsIdsOverTheSizeBound() {
+        brandIdCache.addAll(List.of(1L, 2L, 3L));
+
+        assertEquals(2, brandIdCache.size());
+        assertEquals(1, brandIdCache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("Expired ids are treated as misses")
+    void expiredIdsAreMisses() {
+        ExistingIdCache expiringCache = new ExistingIdCache(10, Duration.ZERO, Runnable::run);
+        expiringCache.add(1L);
+
+        assertFalse(expiringCache.contains(1L));
+        assertEquals(0, expiringCache.size());
+        assertEquals(1, expiringCache.getMisses());
+    }
+
+    @Test
+    @DisplayName("A repeated listing is answered from memory and a different page goes to the DB")
+    void listBrandsReadsThroughCache() {
+        Pagination<Brand> page = new Pagination<>(List.of(new Brand(1L, "FitLife", "Quality workout gear.")), 0, 10, true);
+        given(brandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE)).willReturn(page);
+        given(brandPersistencePort.listBrands(0, 10, "name", "desc", PaginationTotal.NONE)).willReturn(page);
+
+        assertSame(page, cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE));
+        assertSame(page, cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE));
+        cachingBrandPersistencePort.listBrands(0, 10, "name", "desc", PaginationTotal.NONE);
+
+        verify(brandPersistencePort, times(1)).listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
+        verify(brandPersistencePort, times(1)).listBrands(0, 10, "name", "desc", PaginationTotal.NONE);
+        assertEquals(1, brandListingCache.getHits());
+        assertEquals(2, brandListingCache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Creating a brand drops the cached listings so the next one includes it")
+    void createBrandInvalidatesListings() {
+        Pagination<Brand> before = new Pagination<>(List.of(), 0, 10, true);
+        Pagination<Brand> after = new Pagination<>(List.of(new Brand(7L, "FitLife", "Quality workout gear.")), 0, 10, true);
+        given(brandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.EXACT)).willReturn(before).willReturn(after);
+
+        cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.EXACT);
+        cachingBrandPersistencePort.createBrand(new Brand(null, "FitLife", "Quality workout gear."));
+
+        assertSame(after, cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.EXACT));
+        verify(brandPersistencePort, times(2)).listBrands(0, 10, "name", "asc", PaginationTotal.EXACT);
+    }
+
+    @Test
+    @DisplayName("A failed creation keeps the cached listings")
+    void failedCreateBrandKeepsListings() {
+        Pagination<Brand> page = new Pagination<>(List.of(), 0, 10, true);
+        Brand brand = new Brand(null, "FitLife", "Quality workout gear.");
+        given(brandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE)).willReturn(page);
+        willThrow(new ValidationException(new ArrayList<>(List.of(DomainConstants.BRAND_ALREADY_EXISTS_MESSAGE))))
+                .given(brandPersistencePort).createBrand(brand);
+
+        cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
+        assertThrows(ValidationException.class, () -> cachingBrandPersistencePort.createBrand(brand));
+        cachingBrandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
+
+        verify(brandPersistencePort, times(1)).listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
+    }
+}
\ No newline at end of file
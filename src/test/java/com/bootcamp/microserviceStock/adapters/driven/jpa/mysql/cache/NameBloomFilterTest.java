@@ -0,0 +1,59 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameBloomFilterTest {
+    @Test
+    @DisplayName("Every loaded or created name is reported as maybe present")
+    void hasNoFalseNegatives() {
+        NameBloomFilter nameFilter = new NameBloomFilter(10_000, 0.01);
+        nameFilter.load(IntStream.range(0, 10_000).mapToObj(i -> "Brand " + i));
+        nameFilter.put("UrbanEdge");
+
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> nameFilter.mightContain("Brand " + i)));
+        assertTrue(nameFilter.mightContain("UrbanEdge"));
+    }
+
+    @Test
+    @DisplayName("Names differing only in case, accents or surrounding spaces are treated as the same name")
+    void matchesDatabaseCollation() {
+        NameBloomFilter nameFilter = new NameBloomFilter(100, 0.01);
+        nameFilter.load(Stream.of("Café Deluxe"));
+
+        assertTrue(nameFilter.mightContain("cafe deluxe "));
+        assertTrue(nameFilter.mightContain("CAFÉ DELUXE"));
+    }
+
+    @Test
+    @DisplayName("Absent names are mostly answered without the DB and within the configured false positive rate")
+    void staysWithinFalsePositiveRate() {
+        NameBloomFilter nameFilter = new NameBloomFilter(10_000, 0.01);
+        nameFilter.load(IntStream.range(0, 10_000).mapToObj(i -> "Brand " + i));
+
+        long maybePresent = IntStream.range(0, 10_000)
+                .filter(i -> nameFilter.mightContain("Other brand " + i))
+                .count();
+
+        assertThat(maybePresent).isLessThan(300);
+        assertThat(nameFilter.getExpectedFalsePositiveRate()).isLessThan(0.02);
+        assertThat(nameFilter.getMemoryBytes()).isLessThan(16 * 1024);
+    }
+
+    @Test
+    @DisplayName("Until it's loaded the filter sends every name to the DB")
+    void answersMaybeUntilLoaded() {
+        NameBloomFilter nameFilter = new NameBloomFilter(100, 0.01);
+        nameFilter.recordFalsePositive();
+
+        assertFalse(nameFilter.isLoaded());
+        assertTrue(nameFilter.mightContain("UrbanEdge"));
+        assertEquals(0, nameFilter.getFalsePositiveRate());
+    }
+}
\ No newline at end of file
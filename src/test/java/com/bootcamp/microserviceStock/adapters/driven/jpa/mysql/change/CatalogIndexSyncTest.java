@@ -0,0 +1,158 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.change;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet.ArticleFacetIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleFacetRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleTextRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IChangeStampRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search.ArticleSearchIndex;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest.NameSuggestionIndex;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogIndexSyncTest {
+    @Mock
+    private IChangePersistencePort changePersistencePort;
+
+    @Mock
+    private IChangeStampRepository changeStampRepository;
+
+    @Mock
+    private IBrandRepository brandRepository;
+
+    @Mock
+    private ICategoryRepository categoryRepository;
+
+    @Mock
+    private IArticleRepository articleRepository;
+
+    private NameSuggestionIndex brandNameIndex;
+    private NameSuggestionIndex categoryNameIndex;
+    private ArticleSearchIndex articleSearchIndex;
+    private ArticleFacetIndex articleFacetIndex;
+    private CatalogIndexSync catalogIndexSync;
+
+    @BeforeEach
+    void setUp() {
+        brandNameIndex = new NameSuggestionIndex();
+        categoryNameIndex = new NameSuggestionIndex();
+        articleSearchIndex = new ArticleSearchIndex();
+        articleFacetIndex = new ArticleFacetIndex();
+        catalogIndexSync = new CatalogIndexSync(changePersistencePort, changeStampRepository, brandRepository, categoryRepository,
+                articleRepository, brandNameIndex, categoryNameIndex, articleSearchIndex, articleFacetIndex,
+                TransactionOperations.withoutTransaction(), 2, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("The indexes are loaded, then follow the feed from the last version stamped before the load")
+    void loadsThenFollowsFeed() {
+        given(changeStampRepository.findLastVersion()).willReturn(7L);
+        given(brandRepository.streamAllNameRows()).willReturn(Stream.of(new NameRow(1L, "TechNova")));
+        given(categoryRepository.streamAllNameRows()).willReturn(Stream.of(new NameRow(1L, "Electronics")));
+        given(articleRepository.streamAllText()).willReturn(Stream.of(
+                new ArticleTextRow(1L, "Wireless Speaker", "Portable speaker.")));
+        given(articleRepository.streamAllFacetRows()).willReturn(Stream.of(
+                new ArticleFacetRow(1L, 1L, 1L, new BigDecimal("20.00"))));
+        given(articleRepository.streamInStockIds()).willReturn(Stream.of(1L));
+        given(changePersistencePort.listChangesSince(7L, 2)).willReturn(List.of(
+                change(article(2L, "Bamboo Desk Lamp"), 8L),
+                change(article(1L, "Wireless Speaker"), 9L)));
+        given(changePersistencePort.listChangesSince(9L, 2)).willReturn(List.of(
+                change(new Brand(2L, "TerraGear", null), 10L),
+                change(new Category(2L, "Electric Bikes", null), 11L)));
+        given(changePersistencePort.listChangesSince(11L, 2)).willReturn(List.of(
+                change(article(3L, "Desk Organizer"), 12L)));
+
+        assertFalse(articleSearchIndex.isLoaded());
+        assertFalse(articleFacetIndex.isLoaded());
+        catalogIndexSync.drain();
+
+        assertTrue(articleSearchIndex.isLoaded());
+        assertThat(articleSearchIndex.search("speaker", 10)).containsExactly(1L);
+        assertThat(articleSearchIndex.search("desk", 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertEquals(3, articleSearchIndex.getDocuments());
+        assertTrue(articleFacetIndex.isLoaded());
+        assertEquals(3, articleFacetIndex.getDocuments());
+        assertEquals(3L, articleFacetIndex.count(new ArticleFilter(Set.of(1L), Set.of(1L), null, null, true)));
+        assertTrue(brandNameIndex.isLoaded());
+        assertThat(brandNameIndex.suggest("te", 10)).extracting(NameRow::name).containsExactly("TechNova", "TerraGear");
+        assertTrue(categoryNameIndex.isLoaded());
+        assertThat(categoryNameIndex.suggest("elec", 10)).extracting(NameRow::name).containsExactly("Electric Bikes", "Electronics");
+        assertEquals(5L, catalogIndexSync.getApplied());
+    }
+
+    @Test
+    @DisplayName("A failed load leaves the indexes warming up and is retried on the next run")
+    void retriesFailedLoad() {
+        given(changeStampRepository.findLastVersion())
+                .willThrow(new DataAccessResourceFailureException("Connection refused"))
+                .willReturn(4L);
+        given(brandRepository.streamAllNameRows()).willReturn(Stream.empty());
+        given(categoryRepository.streamAllNameRows()).willReturn(Stream.empty());
+        given(articleRepository.streamAllText()).willReturn(Stream.of(
+                new ArticleTextRow(1L, "Wireless Speaker", "Portable speaker.")));
+        given(articleRepository.streamAllFacetRows()).willReturn(Stream.empty());
+        given(articleRepository.streamInStockIds()).willReturn(Stream.empty());
+        given(changePersistencePort.listChangesSince(4L, 2)).willReturn(List.of());
+
+        catalogIndexSync.drain();
+        assertFalse(articleSearchIndex.isLoaded());
+        assertFalse(articleFacetIndex.isLoaded());
+        assertFalse(brandNameIndex.isLoaded());
+        verify(changePersistencePort, never()).listChangesSince(anyLong(), anyInt());
+
+        catalogIndexSync.drain();
+        assertTrue(articleSearchIndex.isLoaded());
+        assertThat(articleSearchIndex.search("speaker", 10)).containsExactly(1L);
+    }
+
+    private static Article article(Long id, String name) {
+        return new Article(id, name, name + ".", 5, new BigDecimal("20.00"),
+                new Brand(1L, "TechNova", null), List.of(new Category(1L, "Electronics", null)));
+    }
+
+    private static CatalogChange change(Brand brand, long version) {
+        brand.setChangeVersion(version);
+        return CatalogChange.of(brand);
+    }
+
+    private static CatalogChange change(Category category, long version) {
+        category.setChangeVersion(version);
+        return CatalogChange.of(category);
+    }
+
+    private static CatalogChange change(Article article, long version) {
+        article.setChangeVersion(version);
+        return CatalogChange.of(article);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.facet;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleFacetRow;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleFacetIndexTest {
+    private ArticleFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArticleFacetIndex();
+        index.load(Stream.of(
+                new ArticleFacetRow(1L, 10L, 100L, new BigDecimal("25.00")),
+                new ArticleFacetRow(1L, 10L, 101L, new BigDecimal("25.00")),
+                new ArticleFacetRow(2L, 10L, 101L, new BigDecimal("80.00")),
+                new ArticleFacetRow(3L, 20L, 100L, new BigDecimal("15.50")),
+                new ArticleFacetRow(4L, 20L, 102L, new BigDecimal("120.00")),
+                new ArticleFacetRow(5L, 30L, 101L, new BigDecimal("60.00")),
+                new ArticleFacetRow(5L, 30L, 102L, new BigDecimal("60.00"))),
+                Stream.of(1L, 3L, 5L, 99L));
+    }
+
+    @Test
+    @DisplayName("The index reports loaded only once the articles and their stock are both in")
+    void reportsLoaded() {
+        ArticleFacetIndex warmingUp = new ArticleFacetIndex();
+        warmingUp.add(1L, 10L, List.of(100L), new BigDecimal("25.00"), true);
+
+        assertThat(warmingUp.isLoaded()).isFalse();
+        warmingUp.load(Stream.empty(), Stream.of(1L));
+        assertThat(warmingUp.isLoaded()).isTrue();
+        assertThat(warmingUp.count(new ArticleFilter(Set.of(), Set.of(), null, null, true))).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Without a filter every brand and category counts all its articles")
+    void countsEveryArticleWithoutFilter() {
+        ArticleFacets facets = index.facets(ArticleFilter.none());
+
+        assertThat(facets.getBrandCounts()).isEqualTo(Map.of(10L, 2L, 20L, 2L, 30L, 1L));
+        assertThat(facets.getCategoryCounts()).isEqualTo(Map.of(100L, 2L, 101L, 3L, 102L, 2L));
+        assertThat(facets.getTotal()).isEqualTo(5L);
+        assertThat(index.getDocuments()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Brand counts ignore the selected brands and category counts the selected categories")
+    void countsFacetsDisjunctively() {
+        ArticleFacets byBrand = index.facets(new ArticleFilter(Set.of(10L), Set.of(), null, null, false));
+        assertThat(byBrand.getBrandCounts()).isEqualTo(Map.of(10L, 2L, 20L, 2L, 30L, 1L));
+        assertThat(byBrand.getCategoryCounts()).isEqualTo(Map.of(100L, 1L, 101L, 2L));
+        assertThat(byBrand.getTotal()).isEqualTo(2L);
+
+        ArticleFacets byBrandAndCategory = index.facets(new ArticleFilter(Set.of(10L), Set.of(100L), null, null, false));
+        assertThat(byBrandAndCategory.getBrandCounts()).isEqualTo(Map.of(10L, 1L, 20L, 1L));
+        assertThat(byBrandAndCategory.getCategoryCounts()).isEqualTo(Map.of(100L, 1L, 101L, 2L));
+        assertThat(byBrandAndCategory.getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Price bounds are inclusive to the cent and combine with stock")
+    void filtersByPriceAndStock() {
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("20"), new BigDecimal("80"), false))).isEqualTo(3L);
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("20"), new BigDecimal("80"), true))).isEqualTo(2L);
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("15.501"), new BigDecimal("79.999"), false))).isEqualTo(2L);
+        assertThat(index.count(new ArticleFilter(Set.of(99L), Set.of(), null, null, false))).isZero();
+    }
+
+    @Test
+    @DisplayName("Reloading the in-stock articles replaces the previous set")
+    void reloadsInStock() {
+        index.loadInStock(Stream.of(2L, 4L));
+
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), null, null, true))).isEqualTo(2L);
+        assertThat(index.count(new ArticleFilter(Set.of(20L), Set.of(), null, null, true))).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Articles added after loading are ranked by price with the loaded ones")
+    void ranksAddedArticlesByPrice() {
+        index.add(6L, 30L, List.of(100L), new BigDecimal("15.50"), false);
+        index.add(7L, 30L, List.of(100L), new BigDecimal("1000.00"), false);
+        index.add(8L, 30L, List.of(100L), new BigDecimal("0.99"), false);
+
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("15.50"), new BigDecimal("25"), false))).isEqualTo(3L);
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("100"), null, false))).isEqualTo(2L);
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), null, new BigDecimal("1"), false))).isEqualTo(1L);
+        assertThat(index.count(new ArticleFilter(Set.of(), Set.of(), new BigDecimal("90"), new BigDecimal("10"), false))).isZero();
+    }
+
+    @Test
+    @DisplayName("An article added again keeps its brand and gains the new categories")
+    void mergesCategoriesOfKnownArticles() {
+        index.add(6L, 30L, List.of(100L), new BigDecimal("10.00"), true);
+        index.add(6L, 30L, List.of(102L), new BigDecimal("10.00"), true);
+
+        ArticleFacets facets = index.facets(new ArticleFilter(Set.of(), Set.of(), null, null, true));
+        assertThat(facets.getBrandCounts()).isEqualTo(Map.of(10L, 1L, 20L, 1L, 30L, 2L));
+        assertThat(facets.getCategoryCounts()).isEqualTo(Map.of(100L, 3L, 101L, 2L, 102L, 2L));
+        assertThat(index.getDocuments()).isEqualTo(6);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.instrumentation;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlMetricsListenerTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SqlMetricsListener sqlMetricsListener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sqlMetricsListener = new SqlMetricsListener(() -> meterRegistry, Duration.ofMillis(100), 0);
+    }
+
+    @Test
+    @DisplayName("Statements run inside a repository method are timed under that method")
+    void recordsLatencyByRepositoryMethod() {
+        Runnable repositoryMethod = () ->
+                sqlMetricsListener.afterQuery(execution(12), List.of(new QueryInfo("select a.id from article a")));
+        ProxyFactory proxyFactory = new ProxyFactory(repositoryMethod);
+        proxyFactory.addAdvice(new RepositoryMethodInterceptor(Runnable.class));
+
+        ((Runnable) proxyFactory.getProxy()).run();
+
+        Timer timer = meterRegistry.get(SqlMetricsListener.STATEMENT_TIMER)
+                .tag("method", "Runnable.run")
+                .tag("type", "select")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(12, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(RepositoryMethodInterceptor.NO_REPOSITORY_METHOD, RepositoryMethodInterceptor.currentMethod());
+    }
+
+    @Test
+    @DisplayName("Statements above the threshold are counted as slow")
+    void countsSlowStatements() {
+        sqlMetricsListener.afterQuery(execution(20), List.of(new QueryInfo("insert into brand values (?, ?, ?)")));
+        sqlMetricsListener.afterQuery(execution(150), List.of(new QueryInfo("select count(*) from article")));
+
+        assertEquals(1, meterRegistry.get(SqlMetricsListener.SLOW_STATEMENT_COUNTER)
+                .tag("method", RepositoryMethodInterceptor.NO_REPOSITORY_METHOD)
+                .counter()
+                .count());
+        assertEquals(2, meterRegistry.get(SqlMetricsListener.STATEMENT_TIMER).timers().stream()
+                .mapToLong(Timer::count)
+                .sum());
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.StockLedgerAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IStockMovementEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArchivedStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The ledger size defaults to 1M movements, run './gradlew benchmark -Dbenchmark.ledger.movements=50000000' for the full size.
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class StockLedgerBenchmarkTest {
+    private static final long MOVEMENTS = Long.getLong("benchmark.ledger.movements", 1_000_000L);
+    private static final int ARTICLES = 1000;
+    private static final int WRITER_THREADS = 50;
+    private static final int WRITES_PER_THREAD = 2000;
+    private static final int READS = 2000;
+    private static final long BULK_ID_OFFSET = 1_000_000_000_000L;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private IArchivedStockMovementRepository archivedStockMovementRepository;
+
+    @Autowired
+    private IStockSnapshotRepository stockSnapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TransactionTemplate transaction;
+    private StockMovementLog stockMovements;
+    private StockLedgerAdapter stockLedgerAdapter;
+    private List<Long> articleIds;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        stockMovements = new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone());
+        stockLedgerAdapter = new StockLedgerAdapter(stockMovementRepository, archivedStockMovementRepository,
+                Mappers.getMapper(IStockMovementEntityMapper.class), transaction);
+        BrandEntity brand = brandRepository.save(new BrandEntity(null, "Ledger brand", "Brand description"));
+        CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Ledger category", "Category description"));
+        List<ArticleEntity> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            articles.add(new ArticleEntity(null, "Ledger article " + i, "Article description", 0,
+                    new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category))));
+        }
+        articleIds = articleRepository.saveAll(articles).stream().map(ArticleEntity::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Movement appends per second and stock level read latency before and after compaction")
+    void writeThroughputAndReadLatency() throws Exception {
+        long written = appendConcurrently();
+        bulkLoad(MOVEMENTS - written);
+        long total = stockMovementRepository.count();
+        Long sampleArticle = articleIds.get(0);
+        int expectedQuantity = stockLedgerAdapter.findStockLevel(sampleArticle).getQuantity();
+
+        double[] tailLatencies = readLatencies();
+
+        StockLedgerCompactor stockLedgerCompactor = new StockLedgerCompactor(stockMovementRepository, archivedStockMovementRepository,
+                stockSnapshotRepository, Mappers.getMapper(IStockMovementEntityMapper.class), transaction,
+                Clock.systemDefaultZone(), 10_000, Duration.ofHours(1));
+        long compactionStartedAt = System.nanoTime();
+        stockLedgerCompactor.drain();
+        long compactionNanos = System.nanoTime() - compactionStartedAt;
+
+        double[] snapshotLatencies = readLatencies();
+
+        assertThat(stockMovementRepository.count()).isZero();
+        assertThat(stockLedgerCompactor.getCompacted()).isEqualTo(total);
+        assertThat(stockLedgerAdapter.findStockLevel(sampleArticle).getQuantity()).isEqualTo(expectedQuantity);
+        System.out.printf("ledger movements=%d compaction=%.0f movements/s%n",
+                total, total * 1_000_000_000d / compactionNanos);
+        System.out.printf("ledger read=tail p50=%.3f ms p99=%.3f ms%n", tailLatencies[0], tailLatencies[1]);
+        System.out.printf("ledger read=snapshot p50=%.3f ms p99=%.3f ms%n", snapshotLatencies[0], snapshotLatencies[1]);
+    }
+
+    private long appendConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long writes = Math.min(MOVEMENTS, (long) WRITER_THREADS * WRITES_PER_THREAD);
+        int writesPerThread = (int) (writes / WRITER_THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < WRITER_THREADS; thread++) {
+                int worker = thread;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int write = 0; write < writesPerThread; write++) {
+                        Long articleId = articleIds.get((worker + write) % ARTICLES);
+                        transaction.executeWithoutResult(status -> stockMovements.recordAdjustment(articleId, 1));
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(10, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long written = (long) writesPerThread * WRITER_THREADS;
+            System.out.printf("ledger writers=%d appends=%d throughput=%.0f movements/s%n",
+                    WRITER_THREADS, written, written * 1_000_000_000d / elapsedNanos);
+            return written;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Fills the ledger up to its size in bulk, going through the write path for millions of rows would only measure the test.
+    private void bulkLoad(long movements) {
+        long perArticle = movements / ARTICLES;
+        for (int i = 0; i < ARTICLES; i++) {
+            long firstId = BULK_ID_OFFSET + i * perArticle;
+            Long articleId = articleIds.get(i);
+            transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+                            "INSERT INTO stock_movement (id, id_article, reason, quantity_delta, reserved_delta, created_at) " +
+                                    "SELECT :firstId + X, :articleId, 'ADJUSTMENT', 1, 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, :count)")
+                    .setParameter("firstId", firstId)
+                    .setParameter("articleId", articleId)
+                    .setParameter("count", perArticle)
+                    .executeUpdate());
+        }
+    }
+
+    private double[] readLatencies() {
+        Random random = new Random(42);
+        double[] latencies = new double[READS];
+        for (int read = 0; read < READS; read++) {
+            Long articleId = articleIds.get(random.nextInt(ARTICLES));
+            long startedAt = System.nanoTime();
+            stockLedgerAdapter.findStockLevel(articleId);
+            latencies[read] = (System.nanoTime() - startedAt) / 1_000_000d;
+        }
+        Arrays.sort(latencies);
+        return new double[]{latencies[READS / 2], latencies[READS * 99 / 100]};
+    }
+}
\ No newline at end of file
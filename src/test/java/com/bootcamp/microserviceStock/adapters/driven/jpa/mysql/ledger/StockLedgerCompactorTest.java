@@ -0,0 +1,136 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.StockLedgerAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IStockMovementEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArchivedStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockSnapshotRepository;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class StockLedgerCompactorTest {
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private IArchivedStockMovementRepository archivedStockMovementRepository;
+
+    @Autowired
+    private IStockSnapshotRepository stockSnapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static int sequence;
+
+    private StockMovementLog stockMovements;
+    private StockLedgerCompactor stockLedgerCompactor;
+    private StockLedgerAdapter stockLedgerAdapter;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        IStockMovementEntityMapper stockMovementEntityMapper = Mappers.getMapper(IStockMovementEntityMapper.class);
+        stockMovements = new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone());
+        stockLedgerCompactor = new StockLedgerCompactor(stockMovementRepository, archivedStockMovementRepository,
+                stockSnapshotRepository, stockMovementEntityMapper, transaction, Clock.systemDefaultZone(), 2, Duration.ofHours(1));
+        stockLedgerAdapter = new StockLedgerAdapter(stockMovementRepository, archivedStockMovementRepository,
+                stockMovementEntityMapper, transaction);
+        stockLedgerCompactor.drain();
+    }
+
+    @Test
+    @DisplayName("Compaction keeps the stock level and moves the folded movements to the archive")
+    void compactionKeepsStockLevel() {
+        Long articleId = newArticle(10);
+        transaction.executeWithoutResult(status -> {
+            stockMovements.recordAdjustment(articleId, 5);
+            stockMovements.recordReservation(articleId, 4);
+            stockMovements.recordSale(articleId, 3);
+            stockMovements.recordRelease(articleId, 1);
+        });
+        assertLevel(articleId, 12, 0);
+
+        assertThat(stockLedgerCompactor.compactBatch()).isEqualTo(2);
+        assertLevel(articleId, 12, 0);
+        assertThat(stockSnapshotRepository.findById(articleId).orElseThrow().getQuantity()).isEqualTo(15);
+
+        stockLedgerCompactor.drain();
+        assertLevel(articleId, 12, 0);
+        assertThat(stockMovementRepository.count()).isZero();
+        assertThat(stockLedgerAdapter.listMovements(articleId, null, 10))
+                .extracting(StockMovement::getReason)
+                .containsExactly(StockMovementReason.RELEASE, StockMovementReason.SALE, StockMovementReason.RESERVATION,
+                        StockMovementReason.ADJUSTMENT, StockMovementReason.RECEIPT);
+    }
+
+    @Test
+    @DisplayName("Movements recorded after a compaction are added to the existing snapshot")
+    void movementsAfterCompactionAreCounted() {
+        Long articleId = newArticle(10);
+        stockLedgerCompactor.drain();
+
+        transaction.executeWithoutResult(status -> stockMovements.recordReservation(articleId, 6));
+        assertLevel(articleId, 10, 6);
+
+        stockLedgerCompactor.drain();
+        assertLevel(articleId, 10, 6);
+        assertThat(stockSnapshotRepository.findById(articleId).orElseThrow().getReserved()).isEqualTo(6);
+    }
+
+    private Long newArticle(int quantity) {
+        BrandEntity brand = brandRepository.save(new BrandEntity(null, "Ledger brand " + sequence, "Brand description"));
+        CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Ledger category " + sequence, "Category description"));
+        ArticleEntity article = articleRepository.save(new ArticleEntity(null, "Ledger article " + sequence++, "Article description", quantity,
+                new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category))));
+        transaction.executeWithoutResult(status -> stockMovements.recordReceipts(List.of(article)));
+        return article.getId();
+    }
+
+    private void assertLevel(Long articleId, int quantity, int reserved) {
+        StockAvailability stock = stockLedgerAdapter.findStockLevel(articleId);
+        assertThat(stock.getQuantity()).isEqualTo(quantity);
+        assertThat(stock.getReserved()).isEqualTo(reserved);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageMapperTest {
+    private static final int PAGE_SIZE = 2;
+    private static final long TOTAL = 5;
+
+    @Test
+    @DisplayName("Brand pages report whether they are the first and the last page")
+    void brandPagesReportFirstAndLast() {
+        BrandPageMapper brandPageMapper = new BrandPageMapper(Mappers.getMapper(IBrandEntityMapper.class));
+        BrandEntity brandEntity = new BrandEntity(1L, "TechNova", "Innovative electronics.");
+
+        assertFirstAndLast(pageNumber -> brandPageMapper.pageToPagination(
+                new PageImpl<>(List.of(brandEntity), PageRequest.of(pageNumber, PAGE_SIZE), TOTAL)));
+    }
+
+    @Test
+    @DisplayName("Category pages report whether they are the first and the last page")
+    void categoryPagesReportFirstAndLast() {
+        CategoryPageMapper categoryPageMapper = new CategoryPageMapper(Mappers.getMapper(ICategoryEntityMapper.class));
+        CategoryEntity categoryEntity = new CategoryEntity(1L, "Books", "Books across all genres.");
+
+        assertFirstAndLast(pageNumber -> categoryPageMapper.pageToPagination(
+                new PageImpl<>(List.of(categoryEntity), PageRequest.of(pageNumber, PAGE_SIZE), TOTAL)));
+    }
+
+    @Test
+    @DisplayName("Article pages report whether they are the first and the last page")
+    void articlePagesReportFirstAndLast() {
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper();
+        Article article = new Article(1L, "SmartX Pro 5G Smartphone", "Ultra-fast connectivity.", 5, null, null, List.of());
+
+        assertFirstAndLast(pageNumber -> articlePageMapper.pageToPagination(
+                new PageImpl<>(List.of(article), PageRequest.of(pageNumber, PAGE_SIZE), TOTAL)));
+    }
+
+    private static void assertFirstAndLast(IntFunction<Pagination<?>> pageOf) {
+        Pagination<?> first = pageOf.apply(0);
+        Pagination<?> middle = pageOf.apply(1);
+        Pagination<?> last = pageOf.apply(2);
+
+        assertThat(first.isFirst()).isTrue();
+        assertThat(first.isLast()).isFalse();
+        assertThat(middle.isFirst()).isFalse();
+        assertThat(middle.isLast()).isFalse();
+        assertThat(last.isFirst()).isFalse();
+        assertThat(last.isLast()).isTrue();
+        assertThat(last.getTotalPages()).isEqualTo(3);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.outbox;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.OutboxEventEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IOutboxEventRepository;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.IOutboxPublisher;
+import com.bootcamp.microserviceStock.adapters.driven.outbox.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+    @Mock
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private IOutboxPublisher publisher;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, publisher, TransactionOperations.withoutTransaction(),
+                2, Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("Published events are removed from the outbox")
+    void relayBatchPublishesAndDeletes() {
+        List<OutboxEventEntity> events = List.of(event(1L, 10L));
+        given(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2))).willReturn(events);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        verify(publisher, times(1)).publish(List.of(
+                new OutboxMessage(1L, "article", 10L, "article.created", "{\"id\":10}", CREATED_AT)));
+        verify(outboxEventRepository, times(1)).deleteAllInBatch(events);
+        assertThat(outboxRelay.getPublished()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Full batches are drained without waiting for the next poll")
+    void drainRepeatsWhileBatchesAreFull() {
+        given(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2)))
+                .willReturn(List.of(event(1L, 10L), event(2L, 11L)))
+                .willReturn(List.of(event(3L, 12L)));
+
+        outboxRelay.drain();
+
+        verify(publisher, times(2)).publish(any());
+        assertThat(outboxRelay.getPublished()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Events stay in the outbox when publishing fails")
+    void drainKeepsEventsWhenPublishFails() {
+        given(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2))).willReturn(List.of(event(1L, 10L)));
+        willThrow(new IllegalStateException("unavailable")).given(publisher).publish(any());
+
+        outboxRelay.drain();
+
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        assertThat(outboxRelay.getPublished()).isZero();
+    }
+
+    private OutboxEventEntity event(Long id, Long articleId) {
+        return new OutboxEventEntity(id, "article", articleId, "article.created", "{\"id\":" + articleId + "}", CREATED_AT);
+    }
+}
\ No newline at end of file
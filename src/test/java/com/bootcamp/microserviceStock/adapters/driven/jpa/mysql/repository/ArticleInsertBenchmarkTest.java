@@ -0,0 +1,102 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ArticleInsertBenchmarkTest {
+    private static final int ROWS_PER_RUN = 5000;
+    private static final int WARMUP_RUNS = 3;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private BrandEntity brand;
+    private CategoryEntity category;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        brand = brandRepository.save(new BrandEntity(null, "Benchmark brand", "Brand description"));
+        category = categoryRepository.save(new CategoryEntity(null, "Benchmark category", "Category description"));
+    }
+
+    @Test
+    @DisplayName("Articles inserted per second in transactions of 1, 100 and 1000 rows")
+    void insertThroughput() {
+        for (int rowsPerTransaction : new int[]{1, 100, 1000}) {
+            int transactions = Math.max(1, ROWS_PER_RUN / rowsPerTransaction);
+            for (int warmup = 0; warmup < WARMUP_RUNS; warmup++) {
+                insert(Math.max(1, transactions / 10), rowsPerTransaction);
+            }
+
+            statistics.clear();
+            long start = System.nanoTime();
+            insert(transactions, rowsPerTransaction);
+            long elapsedNanos = System.nanoTime() - start;
+
+            long rows = (long) transactions * rowsPerTransaction;
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+            System.out.printf("insert rowsPerTransaction=%d rows=%d throughput=%.0f rows/s statements=%d%n",
+                    rowsPerTransaction, rows, rows * 1_000_000_000d / elapsedNanos, statistics.getPrepareStatementCount());
+        }
+    }
+
+    private void insert(int transactions, int rowsPerTransaction) {
+        for (int transaction = 0; transaction < transactions; transaction++) {
+            transactionTemplate.executeWithoutResult(status -> articleRepository.saveAll(newArticles(rowsPerTransaction)));
+        }
+    }
+
+    private List<ArticleEntity> newArticles(int count) {
+        List<ArticleEntity> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(new ArticleEntity(null, "Article " + sequence++, "Article description", 1,
+                    new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category))));
+        }
+        return articles;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,376 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.ArticlePageMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IArticleEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.FacetCountRow;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class IArticleRepositoryTest {
+    private static final int BRAND_COUNT = 20;
+    private static final int CATEGORY_COUNT = 12;
+    private static final int ARTICLE_COUNT = 3000;
+    private static final int PAGE_SIZE = 250;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final Map<Long, String> brandNameByArticle = new HashMap<>();
+    private final Map<Long, String> firstCategoryNameByArticle = new HashMap<>();
+    private final Map<Long, Set<Long>> categoryIdsByArticle = new HashMap<>();
+    private final Set<Long> inStockArticles = new HashSet<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<BrandEntity> brands = new ArrayList<>();
+        for (int i = 0; i < BRAND_COUNT; i++) {
+            brands.add(brandRepository.save(new BrandEntity(null, String.format("Brand %02d", (i * 7) % BRAND_COUNT), "Brand description")));
+        }
+        List<CategoryEntity> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(categoryRepository.save(new CategoryEntity(null, String.format("Category %02d", (i * 5) % CATEGORY_COUNT), "Category description")));
+        }
+        categories.forEach(category -> categoryIds.add(category.getId()));
+
+        List<ArticleEntity> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            CategoryEntity firstCategory = categories.get((i * 5) % CATEGORY_COUNT);
+            CategoryEntity secondCategory = categories.get((i * 11 + 3) % CATEGORY_COUNT);
+            List<CategoryEntity> articleCategories = firstCategory == secondCategory
+                    ? new ArrayList<>(List.of(firstCategory))
+                    : new ArrayList<>(List.of(secondCategory, firstCategory));
+            articles.add(new ArticleEntity(null, "Article " + i, "Article description", i % 10,
+                    new BigDecimal("10.00"),
+                    brands.get((i * 3) % BRAND_COUNT),
+                    articleCategories));
+        }
+        List<Long> ids = new ArrayList<>();
+        articleRepository.saveAll(articles).forEach(article -> {
+            ids.add(article.getId());
+            brandNameByArticle.put(article.getId(), article.getBrand().getName());
+            firstCategoryNameByArticle.put(article.getId(), article.getCategoryEntityList().stream()
+                    .min(Comparator.comparing(CategoryEntity::getId))
+                    .orElseThrow()
+                    .getName());
+            categoryIdsByArticle.put(article.getId(), article.getCategoryEntityList().stream()
+                    .map(CategoryEntity::getId)
+                    .collect(Collectors.toSet()));
+            if (article.getQuantity() > 0) {
+                inStockArticles.add(article.getId());
+            }
+        });
+        entityManager.flush();
+        articleRepository.fillPrimaryCategoryNames(ids);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Articles sorted by 'brandName' 'asc' keep a global order across pages")
+    void findIdsOrderByBrandNameAscIsGloballyOrdered() {
+        List<Long> ids = readAllPages(articleRepository::findIdsOrderByBrandNameAsc);
+        assertGloballyOrdered(ids, brandNameByArticle, true);
+    }
+
+    @Test
+    @DisplayName("Articles sorted by 'brandName' 'desc' keep a global order across pages")
+    void findIdsOrderByBrandNameDescIsGloballyOrdered() {
+        List<Long> ids = readAllPages(articleRepository::findIdsOrderByBrandNameDesc);
+        assertGloballyOrdered(ids, brandNameByArticle, false);
+    }
+
+    @Test
+    @DisplayName("Articles sorted by 'categoryName' 'asc' keep a global order across pages")
+    void findIdsOrderByCategoryNameAscIsGloballyOrdered() {
+        List<Long> ids = readAllPages(articleRepository::findIdsOrderByCategoryNameAsc);
+        assertGloballyOrdered(ids, firstCategoryNameByArticle, true);
+    }
+
+    @Test
+    @DisplayName("Articles sorted by 'categoryName' 'desc' keep a global order across pages")
+    void findIdsOrderByCategoryNameDescIsGloballyOrdered() {
+        List<Long> ids = readAllPages(articleRepository::findIdsOrderByCategoryNameDesc);
+        assertGloballyOrdered(ids, firstCategoryNameByArticle, false);
+    }
+
+    @Test
+    @DisplayName("Articles without a category are still listed when sorting by 'categoryName', as they are counted")
+    void findIdsOrderByCategoryNameKeepsUncategorizedArticles() {
+        BrandEntity brand = brandRepository.findAll().get(0);
+        Long uncategorized = articleRepository.saveAndFlush(new ArticleEntity(null, "Uncategorized article", "Article description", 1,
+                new BigDecimal("10.00"), brand, new ArrayList<>())).getId();
+        articleRepository.fillPrimaryCategoryNames(List.of(uncategorized));
+        entityManager.clear();
+
+        List<Long> ascending = readAllPages(articleRepository::findIdsOrderByCategoryNameAsc);
+        List<Long> descending = readAllPages(articleRepository::findIdsOrderByCategoryNameDesc);
+
+        assertThat(ascending).hasSize((int) articleRepository.count()).contains(uncategorized).doesNotHaveDuplicates();
+        assertThat(descending).hasSize((int) articleRepository.count()).contains(uncategorized).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Keyset pages sorted by 'brandName' 'asc' return every article once in global order")
+    void findIdsAfterOrderByBrandNameAscIsGloballyOrdered() {
+        List<Long> ids = readAllKeysetPages(articleRepository::findFirstIdsOrderByBrandNameAsc,
+                articleRepository::findIdsAfterOrderByBrandNameAsc, brandNameByArticle);
+        assertGloballyOrdered(ids, brandNameByArticle, true);
+    }
+
+    @Test
+    @DisplayName("Keyset pages sorted by 'categoryName' 'desc' return every article once in global order")
+    void findIdsAfterOrderByCategoryNameDescIsGloballyOrdered() {
+        List<Long> ids = readAllKeysetPages(articleRepository::findFirstIdsOrderByCategoryNameDesc,
+                articleRepository::findIdsAfterOrderByCategoryNameDesc, firstCategoryNameByArticle);
+        assertGloballyOrdered(ids, firstCategoryNameByArticle, false);
+    }
+
+    @Test
+    @DisplayName("Article rows carry the brand name and one row per category ordered by category id")
+    void findRowsByIdInReturnsOneRowPerCategory() {
+        List<Long> ids = articleRepository.findIdSlice(PageRequest.of(0, 10, Sort.by(DomainConstants.SORT_BY_ID))).getContent();
+
+        List<ArticleRow> rows = articleRepository.findRowsByIdIn(ids);
+
+        Map<Long, List<ArticleRow>> rowsByArticle = rows.stream().collect(Collectors.groupingBy(ArticleRow::id));
+        assertThat(rowsByArticle).containsOnlyKeys(ids);
+        rowsByArticle.forEach((id, articleRows) -> {
+            assertThat(articleRows).allSatisfy(row -> assertThat(row.brandName()).isEqualTo(brandNameByArticle.get(id)));
+            assertThat(articleRows).extracting(ArticleRow::categoryId).isSorted();
+            assertThat(articleRows.get(0).categoryName()).isEqualTo(firstCategoryNameByArticle.get(id));
+        });
+    }
+
+    @Test
+    @DisplayName("Filtered articles sorted by 'categoryName' are the in-stock articles of any selected category, in global order")
+    void findFilteredIdsOrderByCategoryNameAscKeepsOnlyMatches() {
+        Set<Long> selected = Set.of(categoryIds.get(0), categoryIds.get(1));
+        Set<Long> expected = categoryIdsByArticle.entrySet().stream()
+                .filter(entry -> inStockArticles.contains(entry.getKey()) && !Collections.disjoint(entry.getValue(), selected))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        List<Long> ids = readAllPages(pageable -> articleRepository.findFilteredIdsOrderByCategoryNameAsc(
+                false, List.of(0L), true, selected, BigDecimal.ZERO, new BigDecimal("10.00"), true, pageable));
+
+        assertThat(ids).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        assertOrdered(ids, firstCategoryNameByArticle, true);
+        assertThat(articleRepository.countFiltered(false, List.of(0L), true, selected, BigDecimal.ZERO, new BigDecimal("10.00"), true))
+                .isEqualTo(expected.size());
+        assertThat(articleRepository.countFiltered(false, List.of(0L), true, selected, new BigDecimal("10.01"), new BigDecimal("20.00"), true))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("The warm-up facet counts group the filtered articles by brand and by category")
+    void countFilteredByBrandAndCategory() {
+        Map<Long, Long> brandCounts = new HashMap<>();
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        inStockArticles.forEach(id -> {
+            articleRepository.findById(id).ifPresent(article -> brandCounts.merge(article.getBrand().getId(), 1L, Long::sum));
+            categoryIdsByArticle.get(id).forEach(categoryId -> categoryCounts.merge(categoryId, 1L, Long::sum));
+        });
+
+        List<FacetCountRow> byBrand = articleRepository.countFilteredByBrand(
+                false, List.of(0L), false, List.of(0L), BigDecimal.ZERO, new BigDecimal("10.00"), true);
+        List<FacetCountRow> byCategory = articleRepository.countFilteredByCategory(
+                false, List.of(0L), false, List.of(0L), BigDecimal.ZERO, new BigDecimal("10.00"), true);
+
+        assertThat(byBrand.stream().collect(Collectors.toMap(FacetCountRow::getId, FacetCountRow::getArticles)))
+                .isEqualTo(brandCounts);
+        assertThat(byCategory.stream().collect(Collectors.toMap(FacetCountRow::getId, FacetCountRow::getArticles)))
+                .isEqualTo(categoryCounts);
+    }
+
+    @Test
+    @DisplayName("The warm-up text search is a case-insensitive substring match where escaped wildcards match themselves")
+    void findIdsByTextLikeMatchesSubstrings() {
+        assertThat(articleRepository.findIdsByTextLike("%rticle 299%", PageRequest.of(0, 20))).hasSize(11);
+        assertThat(articleRepository.findIdsByTextLike("%article_299%", PageRequest.of(0, 20))).hasSize(11);
+        assertThat(articleRepository.findIdsByTextLike("%article!_299%", PageRequest.of(0, 20))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Warm-up name suggestions are the names starting with the prefix, in alphabetical order")
+    void findNameRowsLikeMatchesPrefixes() {
+        assertThat(brandRepository.findNameRowsLike("brand 0%", PageRequest.of(0, 3)))
+                .extracting(NameRow::name)
+                .containsExactly("Brand 00", "Brand 01", "Brand 02");
+        assertThat(categoryRepository.findNameRowsLike("category 1%", PageRequest.of(0, 10)))
+                .extracting(NameRow::name)
+                .containsExactly("Category 10", "Category 11");
+    }
+
+    @Test
+    @DisplayName("The migrated schema rejects a second article with an existing name")
+    void articleNameIsUnique() {
+        BrandEntity brand = brandRepository.findAll().get(0);
+        ArticleEntity duplicated = new ArticleEntity(null, "Article 0", "Article description", 1,
+                new BigDecimal("10.00"), brand, new ArrayList<>());
+
+        assertThatThrownBy(() -> articleRepository.saveAndFlush(duplicated))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class, exception ->
+                        assertThat(exception.getMostSpecificCause().getMessage()).containsIgnoringCase(ArticleEntity.NAME_CONSTRAINT));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Bytes allocated per page by the entity graph read path and the row projection read path")
+    void readPathAllocationPerPage() {
+        IArticleEntityMapper articleEntityMapper = Mappers.getMapper(IArticleEntityMapper.class);
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper();
+        List<List<Long>> pages = new ArrayList<>();
+        Slice<Long> page = null;
+        do {
+            page = articleRepository.findIdSlice(page == null
+                    ? PageRequest.of(0, PAGE_SIZE, Sort.by(DomainConstants.SORT_BY_ID))
+                    : page.nextPageable());
+            pages.add(page.getContent());
+        } while (page.hasNext());
+
+        Consumer<List<Long>> entityGraphPath = ids -> entityManager.getEntityManager()
+                .createQuery("SELECT a FROM ArticleEntity a JOIN FETCH a.brand LEFT JOIN FETCH a.categoryEntityList WHERE a.id IN :ids", ArticleEntity.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(articleEntityMapper::entityToDomain);
+        Consumer<List<Long>> projectionPath = ids -> articlePageMapper.rowsToArticlesById(articleRepository.findRowsByIdIn(ids));
+
+        for (int warmup = 0; warmup < 5; warmup++) {
+            allocatedBytesPerPage(pages, entityGraphPath);
+            allocatedBytesPerPage(pages, projectionPath);
+        }
+        System.out.printf("readPath=entityGraph pageSize=%d allocated=%d bytes/page%n", PAGE_SIZE, allocatedBytesPerPage(pages, entityGraphPath));
+        System.out.printf("readPath=projection pageSize=%d allocated=%d bytes/page%n", PAGE_SIZE, allocatedBytesPerPage(pages, projectionPath));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Query time per page for 'brandName' and 'categoryName' sorting")
+    void sortedPageQueryTime() {
+        printPageTimes("brandName", articleRepository::findIdsOrderByBrandNameAsc);
+        printPageTimes("categoryName", articleRepository::findIdsOrderByCategoryNameAsc);
+    }
+
+    private List<Long> readAllPages(Function<Pageable, Slice<Long>> query) {
+        List<Long> ids = new ArrayList<>();
+        Slice<Long> page;
+        int pageNumber = 0;
+        do {
+            page = query.apply(PageRequest.of(pageNumber++, PAGE_SIZE));
+            ids.addAll(page.getContent());
+            entityManager.clear();
+        } while (page.hasNext());
+        return ids;
+    }
+
+    private List<Long> readAllKeysetPages(Function<Pageable, List<Long>> firstPage, KeysetQuery query,
+                                          Map<Long, String> sortKeyByArticle) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> rows = firstPage.apply(PageRequest.of(0, PAGE_SIZE));
+        ids.addAll(rows);
+        entityManager.clear();
+        while (rows.size() == PAGE_SIZE) {
+            Long lastId = rows.get(rows.size() - 1);
+            rows = query.find(sortKeyByArticle.get(lastId), lastId, PageRequest.of(0, PAGE_SIZE));
+            ids.addAll(rows);
+            entityManager.clear();
+        }
+        return ids;
+    }
+
+    private void assertGloballyOrdered(List<Long> ids, Map<Long, String> sortKeyByArticle, boolean ascending) {
+        assertThat(ids).hasSize(ARTICLE_COUNT);
+        assertThat(new HashSet<>(ids)).hasSize(ARTICLE_COUNT);
+        assertOrdered(ids, sortKeyByArticle, ascending);
+    }
+
+    private void assertOrdered(List<Long> ids, Map<Long, String> sortKeyByArticle, boolean ascending) {
+        Comparator<Long> comparator = Comparator.<Long, String>comparing(sortKeyByArticle::get).thenComparing(Comparator.naturalOrder());
+        if (!ascending) {
+            comparator = comparator.reversed();
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(comparator.compare(ids.get(i - 1), ids.get(i)))
+                    .as("Article %d must come before article %d", ids.get(i - 1), ids.get(i))
+                    .isNegative();
+        }
+    }
+
+    private void printPageTimes(String sortBy, Function<Pageable, Slice<Long>> query) {
+        int totalPages = ARTICLE_COUNT / PAGE_SIZE;
+        for (int warmup = 0; warmup < 5; warmup++) {
+            readAllPages(query);
+        }
+        for (int pageNumber = 0; pageNumber < totalPages; pageNumber++) {
+            long start = System.nanoTime();
+            query.apply(PageRequest.of(pageNumber, PAGE_SIZE));
+            long elapsed = System.nanoTime() - start;
+            entityManager.clear();
+            System.out.printf("sortBy=%s page=%d time=%.3f ms%n", sortBy, pageNumber, elapsed / 1_000_000.0);
+        }
+    }
+
+    private long allocatedBytesPerPage(List<List<Long>> pages, Consumer<List<Long>> readPage) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        for (List<Long> ids : pages) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            readPage.accept(ids);
+            allocated += threadBean.getThreadAllocatedBytes(threadId) - before;
+            entityManager.clear();
+        }
+        return allocated / pages.size();
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery {
+        List<Long> find(String lastSortKey, Long lastId, Pageable pageable);
+    }
+}
\ No newline at end of file
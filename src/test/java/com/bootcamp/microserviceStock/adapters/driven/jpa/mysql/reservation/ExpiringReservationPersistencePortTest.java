@@ -0,0 +1,56 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiringReservationPersistencePortTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private IReservationPersistencePort reservationPersistencePort;
+
+    private ReservationSweeper reservationSweeper;
+    private ExpiringReservationPersistencePort expiringReservationPersistencePort;
+
+    @BeforeEach
+    void setUp() {
+        reservationSweeper = new ReservationSweeper(reservationPersistencePort, CLOCK);
+        expiringReservationPersistencePort = new ExpiringReservationPersistencePort(reservationPersistencePort, reservationSweeper);
+    }
+
+    @Test
+    @DisplayName("Confirmed and released holds are no longer scheduled for expiry")
+    void settledReservationsAreUnscheduled() {
+        Reservation request = new Reservation(null, 10L, 2, NOW.plusMinutes(5), NOW);
+        Reservation first = new Reservation(1L, 10L, 2, NOW.plusMinutes(5), NOW);
+        Reservation second = new Reservation(2L, 10L, 2, NOW.plusMinutes(5), NOW);
+        given(reservationPersistencePort.reserve(request)).willReturn(first, second);
+        given(reservationPersistencePort.confirmReservation(first)).willReturn(true);
+        given(reservationPersistencePort.releaseReservation(second)).willReturn(true);
+
+        expiringReservationPersistencePort.reserve(request);
+        expiringReservationPersistencePort.reserve(request);
+        assertThat(reservationSweeper.getScheduled()).isEqualTo(2);
+
+        assertThat(expiringReservationPersistencePort.confirmReservation(first)).isTrue();
+        assertThat(reservationSweeper.getScheduled()).isEqualTo(1);
+        assertThat(expiringReservationPersistencePort.releaseReservation(second)).isTrue();
+        assertThat(reservationSweeper.getScheduled()).isZero();
+    }
+}
\ No newline at end of file
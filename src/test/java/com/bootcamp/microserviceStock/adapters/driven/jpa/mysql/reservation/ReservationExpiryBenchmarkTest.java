@@ -0,0 +1,147 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.adapter.ReservationAdapter;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.ArticleEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.BrandEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.entity.CategoryEntity;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.ledger.StockMovementLog;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.mapper.IReservationEntityMapper;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IArticleRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IBrandRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.ICategoryRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IReservationRepository;
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.repository.IStockMovementRepository;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReservationExpiryBenchmarkTest {
+    private static final int THREADS = 100;
+    private static final int HOLDS_PER_THREAD = 1000;
+    private static final int ARTICLES = 10;
+    private static final Duration TTL = Duration.ofSeconds(2);
+
+    @Autowired
+    private IReservationRepository reservationRepository;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IStockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationAdapter reservationAdapter;
+    private List<Long> articleIds;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        reservationAdapter = new ReservationAdapter(reservationRepository, articleRepository,
+                Mappers.getMapper(IReservationEntityMapper.class), transaction, transaction,
+                new StockMovementLog(stockMovementRepository, Clock.systemDefaultZone()));
+        BrandEntity brand = brandRepository.save(new BrandEntity(null, "Checkout brand", "Brand description"));
+        CategoryEntity category = categoryRepository.save(new CategoryEntity(null, "Checkout category", "Category description"));
+        articleIds = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            articleIds.add(articleRepository.save(new ArticleEntity(null, "Checkout article " + i, "Article description",
+                    THREADS * HOLDS_PER_THREAD, new BigDecimal("10.00"), brand, new ArrayList<>(List.of(category)))).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Reservations per second and expiries per second with 100k holds left to expire")
+    void reserveAndExpire() throws Exception {
+        ReservationSweeper reservationSweeper = new ReservationSweeper(reservationAdapter, Clock.systemDefaultZone());
+        reservationSweeper.start();
+        IReservationPersistencePort reservationPersistencePort = new ExpiringReservationPersistencePort(reservationAdapter, reservationSweeper);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder reserved = new LongAdder();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int worker = thread;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int hold = 0; hold < HOLDS_PER_THREAD; hold++) {
+                        LocalDateTime now = LocalDateTime.now();
+                        Long articleId = articleIds.get((worker + hold) % ARTICLES);
+                        if (reservationPersistencePort.reserve(new Reservation(null, articleId, 1, now.plus(TTL), now)) != null) {
+                            reserved.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(10, TimeUnit.MINUTES);
+            }
+            long reservedAt = System.nanoTime();
+
+            long deadline = reservedAt + TimeUnit.MINUTES.toNanos(10);
+            while (reservationSweeper.getExpired() < reserved.sum() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            long expiredAt = System.nanoTime();
+
+            assertThat(reserved.sum()).isEqualTo((long) THREADS * HOLDS_PER_THREAD);
+            assertThat(reservationSweeper.getExpired()).isEqualTo(reserved.sum());
+            assertThat(reservationRepository.count()).isZero();
+            for (Long articleId : articleIds) {
+                assertThat(reservationAdapter.findAvailability(articleId).getReserved()).isZero();
+            }
+            // Expiry runs from the first due hold, so its rate is measured over the time past the reservation window plus the TTL.
+            double expiryNanos = Math.max(expiredAt - startedAt - TTL.toNanos(), 1);
+            System.out.printf("reservations holds=%d throughput=%.0f reservations/s expiry=%.0f expiries/s drainedAfter=%d ms%n",
+                    reserved.sum(), reserved.sum() * 1_000_000_000d / (reservedAt - startedAt),
+                    reservationSweeper.getExpired() * 1_000_000_000d / expiryNanos,
+                    TimeUnit.NANOSECONDS.toMillis(expiredAt - reservedAt));
+        } finally {
+            executor.shutdownNow();
+            reservationSweeper.stop();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.reservation;
+
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSweeperTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private IReservationPersistencePort reservationPersistencePort;
+
+    private ReservationSweeper reservationSweeper;
+
+    @BeforeEach
+    void setUp() {
+        reservationSweeper = new ReservationSweeper(reservationPersistencePort, CLOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (reservationSweeper.isRunning()) {
+            reservationSweeper.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Reservations left from a previous run are loaded on start and expired when due")
+    void startLoadsStoredReservations() {
+        Reservation overdue = new Reservation(1L, 10L, 2, NOW.minusMinutes(1), NOW.minusMinutes(6));
+        Reservation active = new Reservation(2L, 10L, 3, NOW.plusHours(1), NOW);
+        willAnswer(invocation -> {
+            Consumer<Reservation> consumer = invocation.getArgument(0);
+            consumer.accept(overdue);
+            consumer.accept(active);
+            return null;
+        }).given(reservationPersistencePort).forEachReservation(any());
+        given(reservationPersistencePort.releaseReservation(overdue)).willReturn(true);
+
+        reservationSweeper.start();
+
+        verify(reservationPersistencePort, timeout(1000)).releaseReservation(overdue);
+        reservationSweeper.stop();
+        verify(reservationPersistencePort, never()).releaseReservation(active);
+        assertThat(reservationSweeper.getScheduled()).isEqualTo(1);
+        assertThat(reservationSweeper.getExpired()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A hold that was already settled is dropped without counting as expired")
+    void settledReservationIsNotCounted() {
+        Reservation confirmed = new Reservation(1L, 10L, 2, NOW.minusSeconds(1), NOW.minusMinutes(5));
+        given(reservationPersistencePort.releaseReservation(confirmed)).willReturn(false);
+
+        reservationSweeper.start();
+        reservationSweeper.schedule(confirmed);
+
+        verify(reservationPersistencePort, timeout(1000)).releaseReservation(confirmed);
+        reservationSweeper.stop();
+        assertThat(reservationSweeper.getScheduled()).isZero();
+        assertThat(reservationSweeper.getExpired()).isZero();
+    }
+
+    @Test
+    @DisplayName("A cancelled hold leaves the queue before it is due and is never released by the sweeper")
+    void cancelledReservationLeavesTheQueue() {
+        Reservation confirmed = new Reservation(1L, 10L, 2, NOW.plusHours(1), NOW);
+        Reservation active = new Reservation(2L, 10L, 3, NOW.plusHours(1), NOW);
+
+        reservationSweeper.schedule(confirmed);
+        reservationSweeper.schedule(active);
+        reservationSweeper.cancel(confirmed);
+        reservationSweeper.cancel(confirmed);
+
+        assertThat(reservationSweeper.getScheduled()).isEqualTo(1);
+        verify(reservationPersistencePort, never()).releaseReservation(any());
+    }
+
+    @Test
+    @DisplayName("A failed expiry is retried")
+    void failedExpiryIsRetried() {
+        Reservation overdue = new Reservation(1L, 10L, 2, NOW.minusSeconds(1), NOW.minusMinutes(5));
+        given(reservationPersistencePort.releaseReservation(overdue))
+                .willThrow(new IllegalStateException("Connection lost"))
+                .willReturn(true);
+
+        reservationSweeper.start();
+        reservationSweeper.schedule(overdue);
+
+        verify(reservationPersistencePort, timeout(3000).times(2)).releaseReservation(overdue);
+        reservationSweeper.stop();
+        assertThat(reservationSweeper.getExpired()).isEqualTo(1);
+    }
+}
\ No newline at end of file
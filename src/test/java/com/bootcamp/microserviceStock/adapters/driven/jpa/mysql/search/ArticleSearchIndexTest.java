@@ -0,0 +1,82 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.search;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.ArticleTextRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleSearchIndexTest {
+    private ArticleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArticleSearchIndex();
+        index.load(Stream.of(
+                new ArticleTextRow(1L, "Wireless Speaker", "Portable speaker with deep bass."),
+                new ArticleTextRow(2L, "Bamboo Desk Lamp", "Warm light, works with any wireless speaker."),
+                new ArticleTextRow(3L, "Café Grinder", "Burr grinder for espresso."),
+                new ArticleTextRow(4L, "Wired Earbuds", "Earbuds with a 3.5mm jack.")));
+    }
+
+    @Test
+    @DisplayName("The index reports loaded only once the load has finished")
+    void reportsLoaded() {
+        ArticleSearchIndex warmingUp = new ArticleSearchIndex();
+        warmingUp.add(1L, "Wireless Speaker", "Portable speaker.");
+
+        assertFalse(warmingUp.isLoaded());
+        warmingUp.load(Stream.empty());
+        assertTrue(warmingUp.isLoaded());
+        assertTrue(index.isLoaded());
+    }
+
+    @Test
+    @DisplayName("Matches in the name rank above matches in the description")
+    void ranksNameMatchesFirst() {
+        assertThat(index.search("speaker", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Every query word must match")
+    void requiresEveryWord() {
+        assertThat(index.search("wireless lamp", 10)).containsExactly(2L);
+        assertThat(index.search("wireless grinder", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Words match as prefixes, below exact matches")
+    void matchesPrefixes() {
+        assertThat(index.search("wir", 10)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(index.search("wired", 10)).containsExactly(4L);
+        assertThat(index.search("w", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Case, accents and punctuation are ignored")
+    void normalizesText() {
+        assertThat(index.search("CAFE", 10)).containsExactly(3L);
+        assertThat(index.search("3.5mm", 10)).containsExactly(4L);
+        assertThat(index.search("  ,; ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Only the requested number of articles is returned")
+    void limitsResults() {
+        assertThat(index.search("wireless", 1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("An article added twice is indexed once")
+    void ignoresDuplicates() {
+        index.add(5L, "Espresso Cup", "Ceramic cup.");
+        index.add(5L, "Espresso Cup", "Ceramic cup.");
+
+        assertEquals(5, index.getDocuments());
+        assertThat(index.search("espresso", 10)).containsExactly(5L, 3L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.suggest;
+
+import com.bootcamp.microserviceStock.adapters.driven.jpa.mysql.projection.NameRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSuggestionIndexTest {
+    private NameSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameSuggestionIndex();
+        index.load(Stream.of(
+                new NameRow(1L, "TechNova"),
+                new NameRow(2L, "EcoNest"),
+                new NameRow(3L, "Técnica Sur"),
+                new NameRow(4L, "techzone"),
+                new NameRow(5L, "FitLife")));
+    }
+
+    @Test
+    @DisplayName("The index reports loaded only once the load has finished")
+    void reportsLoaded() {
+        NameSuggestionIndex warmingUp = new NameSuggestionIndex();
+        warmingUp.add(1L, "TechNova");
+
+        assertThat(warmingUp.isLoaded()).isFalse();
+        warmingUp.load(Stream.empty());
+        assertThat(warmingUp.isLoaded()).isTrue();
+        assertThat(warmingUp.suggest("tech", 10)).extracting(NameRow::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Names starting with the prefix are suggested in alphabetical order")
+    void suggestsNamesInOrder() {
+        assertThat(index.suggest("tec", 10)).extracting(NameRow::id).containsExactly(1L, 4L, 3L);
+        assertThat(index.suggest("eco", 10)).extracting(NameRow::name).containsExactly("EcoNest");
+        assertThat(index.suggest("nova", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Case, accents and surrounding spaces are ignored")
+    void normalizesPrefix() {
+        assertThat(index.suggest("  TÉCH", 10)).extracting(NameRow::id).containsExactly(1L, 4L);
+        assertThat(index.suggest("tecnica", 10)).extracting(NameRow::name).containsExactly("Técnica Sur");
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Only the first names up to the limit are suggested")
+    void boundsSuggestions() {
+        assertThat(index.suggest("t", 2)).extracting(NameRow::id).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("Created names are suggested right away and known IDs are not indexed twice")
+    void addsCreatedNames() {
+        index.add(6L, "Techline");
+        index.add(1L, "TechNova");
+
+        assertThat(index.suggest("tech", 10)).extracting(NameRow::id).containsExactly(6L, 1L, 4L);
+        assertThat(index.getNames()).isEqualTo(6);
+    }
+}
\ No newline at end of file
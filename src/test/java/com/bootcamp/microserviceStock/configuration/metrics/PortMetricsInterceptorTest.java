@@ -0,0 +1,110 @@
+package com.bootcamp.microserviceStock.configuration.metrics;
+
+import com.bootcamp.microserviceStock.domain.api.IArticleServicePort;
+import com.bootcamp.microserviceStock.domain.api.IBrandServicePort;
+import com.bootcamp.microserviceStock.domain.api.useCase.ArticleUseCase;
+import com.bootcamp.microserviceStock.domain.api.useCase.BrandUseCase;
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.Article;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.model.Category;
+import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PortMetricsInterceptorTest {
+    @Mock
+    private IBrandPersistencePort brandPersistencePort;
+
+    @Mock
+    private IArticlePersistencePort articlePersistencePort;
+
+    @Mock
+    private ICategoryPersistencePort categoryPersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Successful calls are timed with their page size bucket and sortBy")
+    void timesCallsWithPageSizeAndSortBy() {
+        IBrandServicePort brandServicePort = PortMetricsInterceptor.instrument(IBrandServicePort.class,
+                new BrandUseCase(brandPersistencePort), meterRegistry);
+        given(brandPersistencePort.listBrands(0, 20, "name", "asc", PaginationTotal.NONE)).willReturn(new Pagination<>());
+
+        brandServicePort.listBrands(0, 20, "name", "asc", PaginationTotal.NONE);
+
+        assertEquals(1, meterRegistry.get(PortMetricsInterceptor.CALL_TIMER)
+                .tag("port", "IBrandServicePort")
+                .tag("method", "listBrands")
+                .tag("outcome", "success")
+                .tag("page.size", "11-50")
+                .tag("sort.by", "name")
+                .timer()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Validation failures are counted by DomainConstants message and an unknown sortBy isn't used as a tag")
+    void countsValidationFailuresByMessage() {
+        IBrandServicePort brandServicePort = PortMetricsInterceptor.instrument(IBrandServicePort.class,
+                new BrandUseCase(brandPersistencePort), meterRegistry);
+
+        assertThrows(ValidationException.class, () -> brandServicePort.listBrands(0, 0, "price", "asc", PaginationTotal.NONE));
+
+        assertEquals(1, meterRegistry.get(PortMetricsInterceptor.VALIDATION_FAILURE_COUNTER)
+                .tag("reason", "INVALID_PAGE_SIZE_MESSAGE")
+                .counter()
+                .count());
+        assertEquals(1, meterRegistry.get(PortMetricsInterceptor.VALIDATION_FAILURE_COUNTER)
+                .tag("reason", "INVALID_SORT_BY_FIELD_MESSAGE")
+                .counter()
+                .count());
+        assertEquals(1, meterRegistry.get(PortMetricsInterceptor.CALL_TIMER)
+                .tag("outcome", "validation_error")
+                .tag("page.size", "invalid")
+                .tag("sort.by", "invalid")
+                .timer()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Formatted messages are counted under their DomainConstants template")
+    void countsFormattedMessagesByTemplate() {
+        IArticleServicePort articleServicePort = PortMetricsInterceptor.instrument(IArticleServicePort.class,
+                new ArticleUseCase(articlePersistencePort, categoryPersistencePort, brandPersistencePort), meterRegistry);
+        Article article = new Article(null, "SmartX Pro 5G Smartphone", "Ultra-fast 5G smartphone.", 5,
+                new BigDecimal("1000.50"), new Brand(9L, null, null), List.of(new Category(1L, null, null)));
+        given(categoryPersistencePort.alreadyExistsByID(1L)).willReturn(true);
+        given(brandPersistencePort.alreadyExistsByID(9L)).willReturn(false);
+        given(articlePersistencePort.alreadyExistsByName(article.getName())).willReturn(false);
+
+        assertThrows(ValidationException.class, () -> articleServicePort.createArticle(article));
+
+        assertEquals(1, meterRegistry.get(PortMetricsInterceptor.VALIDATION_FAILURE_COUNTER)
+                .tag("port", "IArticleServicePort")
+                .tag("reason", "BRAND_DOES_NOT_EXIST_MESSAGE")
+                .counter()
+                .count());
+    }
+}
\ No newline at end of file
@@ -7,18 +7,31 @@ import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.IArticlePersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.ArticleFacets;
+import com.bootcamp.microserviceStock.domain.util.ArticleFilter;
+import com.bootcamp.microserviceStock.domain.util.BulkResult;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
+import com.bootcamp.microserviceStock.domain.util.StockAdjustment;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +50,9 @@ class ArticleUseCaseTest {
     @InjectMocks
     private ArticleUseCase articleUseCase;
 
+    @Captor
+    private ArgumentCaptor<List<StockAdjustment>> stockAdjustmentsCaptor;
+
     @Test
     @DisplayName("Inserts an article in the DB")
     void createArticle() {
@@ -349,6 +365,68 @@ class ArticleUseCaseTest {
         Mockito.verify(categoryPersistencePort, Mockito.times(1)).alreadyExistsByID(article.getCategoryList().get(0).getId());
     }
 
+    @Test
+    @DisplayName("Creates the valid articles of a batch and reports the invalid ones by position")
+    void createArticles() {
+        Article valid = new Article(null, "SmartX Pro 5G Smartphone", "Ultra-fast 5G smartphone.", 5,
+                new BigDecimal("1000.50"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article existing = new Article(null, "Quantum Sound Wireless Earbuds", "Wireless earbuds.", 3,
+                new BigDecimal("120.00"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article unknownBrand = new Article(null, "SmartHome AI Assistant Hub", "Smart home hub.", 1,
+                new BigDecimal("300.00"), new Brand(9L, null, null), List.of(new Category(2L, null, null)));
+        Article duplicated = new Article(null, "SmartX Pro 5G Smartphone", "Same name as the first one.", 2,
+                new BigDecimal("900.00"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Mockito.when(brandPersistencePort.findExistingIDs(Set.of(1L, 9L))).thenReturn(Set.of(1L));
+        Mockito.when(categoryPersistencePort.findExistingIDs(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        Mockito.when(articlePersistencePort.findExistingNames(
+                Set.of("SmartX Pro 5G Smartphone", "Quantum Sound Wireless Earbuds", "SmartHome AI Assistant Hub")))
+                .thenReturn(Set.of("Quantum Sound Wireless Earbuds"));
+
+        BulkResult result = articleUseCase.createArticles(List.of(valid, existing, unknownBrand, duplicated));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertThat(result.getErrors()).extracting("index").containsExactly(1, 2, 3);
+        assertThat(result.getErrors().get(0).getErrors()).containsExactly(DomainConstants.ARTICLE_ALREADY_EXISTS_MESSAGE);
+        assertThat(result.getErrors().get(1).getErrors()).containsExactly(String.format(DomainConstants.BRAND_DOES_NOT_EXIST_MESSAGE, 9L));
+        assertThat(result.getErrors().get(2).getErrors()).containsExactly(DomainConstants.DUPLICATED_ARTICLE_IN_BATCH_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).createArticles(List.of(valid));
+        Mockito.verify(brandPersistencePort, Mockito.never()).alreadyExistsByID(Mockito.any());
+        Mockito.verify(articlePersistencePort, Mockito.never()).alreadyExistsByName(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Names differing only in case or accents are reported as duplicates, in the DB and in the batch")
+    void createArticlesRejectsCaseVariantDuplicates() {
+        Article valid = new Article(null, "Wireless Mouse", "Ergonomic wireless mouse.", 5,
+                new BigDecimal("25.00"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article duplicated = new Article(null, "wireless MOUSE", "Same name in another case.", 2,
+                new BigDecimal("20.00"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article existing = new Article(null, "Cafe Grinder", "Manual coffee grinder.", 3,
+                new BigDecimal("40.00"), new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Mockito.when(brandPersistencePort.findExistingIDs(Set.of(1L))).thenReturn(Set.of(1L));
+        Mockito.when(categoryPersistencePort.findExistingIDs(Set.of(1L))).thenReturn(Set.of(1L));
+        Mockito.when(articlePersistencePort.findExistingNames(Set.of("Wireless Mouse", "wireless MOUSE", "Cafe Grinder")))
+                .thenReturn(Set.of("Café grinder"));
+
+        BulkResult result = articleUseCase.createArticles(List.of(valid, duplicated, existing));
+
+        assertEquals(1, result.getCreated());
+        assertThat(result.getErrors()).extracting("index").containsExactly(1, 2);
+        assertThat(result.getErrors().get(0).getErrors()).containsExactly(DomainConstants.DUPLICATED_ARTICLE_IN_BATCH_MESSAGE);
+        assertThat(result.getErrors().get(1).getErrors()).containsExactly(DomainConstants.ARTICLE_ALREADY_EXISTS_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).createArticles(List.of(valid));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the batch of articles is empty")
+    void createArticlesShouldThrowValidationExceptionWhenBatchIsEmpty() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.createArticles(List.of()));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.EMPTY_ARTICLE_BATCH_MESSAGE);
+        Mockito.verifyNoInteractions(articlePersistencePort, brandPersistencePort, categoryPersistencePort);
+    }
+
     @Test
     @DisplayName("List articles correcly")
     void listArticles() {
@@ -367,9 +445,10 @@ class ArticleUseCaseTest {
         );
         Pagination<Article> pagination = new Pagination<>(List.of(article1, article2), 0, 3, 2L);
 
-        Mockito.when(articlePersistencePort.listArticles(0, 3, "name", "asc")).thenReturn(pagination);
+        ArticleFilter filter = new ArticleFilter(Set.of(1L, 2L), Set.of(), new BigDecimal("100.00"), new BigDecimal("2000.00"), true);
+        Mockito.when(articlePersistencePort.listArticles(0, 3, "name", "asc", PaginationTotal.EXACT, filter)).thenReturn(pagination);
 
-        Pagination<Article> result = articleUseCase.listArticles(0, 3, "name", "asc");
+        Pagination<Article> result = articleUseCase.listArticles(0, 3, "name", "asc", PaginationTotal.EXACT, filter);
 
         assertNotNull(result, "The result shouldn't be null.");
         assertFalse(result.getContent().isEmpty(), "The content shouldn't be empty.");
@@ -385,14 +464,14 @@ class ArticleUseCaseTest {
         assertEquals("Organic Bamboo Bedding Set", returnedArticle2.getName(), "The article name should be 'Organic Bamboo Bedding Set'.");
         assertEquals("Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.", returnedArticle2.getDescription(), "The description should be 'Sleep better with our luxurious bamboo bedding, naturally breathable and hypoallergenic.'");
 
-        Mockito.verify(articlePersistencePort, Mockito.times(1)).listArticles(0, 3, "name", "asc");
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).listArticles(0, 3, "name", "asc", PaginationTotal.EXACT, filter);
     }
 
     @Test
     @DisplayName("Validation exception when pageNumber is null")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(null, 3, "name", "asc");
+            articleUseCase.listArticles(null, 3, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE);
     }
@@ -401,7 +480,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageNumber is a negative number")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberIsNegative() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(-1, 3, "name", "asc");
+            articleUseCase.listArticles(-1, 3, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
     }
@@ -410,7 +489,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageSize is null")
     void listArticlesShouldThrowValidationExceptionWhenPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(0, null, "name", "asc");
+            articleUseCase.listArticles(0, null, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -419,7 +498,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageSize is less than or equal to zero")
     void listArticlesShouldThrowValidationExceptionWhenPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(0, -1, "name", "asc");
+            articleUseCase.listArticles(0, -1, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -428,7 +507,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when sortBy is null")
     void listArticlesShouldThrowValidationExceptionWhenSortByIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(0, 3, null, "asc");
+            articleUseCase.listArticles(0, 3, null, "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -437,7 +516,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when sortBy is different from 'name', 'brandName' or 'categoryName'")
     void listArticlesShouldThrowValidationExceptionWhenSortByIsNotNameBrandNameOrCategoryName() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(0, 3, "description", "asc");
+            articleUseCase.listArticles(0, 3, "description", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -446,7 +525,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when sortDirection isn't 'asc' or 'desc'")
     void listArticlesShouldThrowValidationExceptionWhenSortDirectionIsNotAscOrDesc() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(0, 3, "name", "order");
+            articleUseCase.listArticles(0, 3, "name", "order", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
     }
@@ -455,7 +534,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageNumber and pageSize are null")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberAndPageSizeAreNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(null, null, "name", "asc");
+            articleUseCase.listArticles(null, null, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -464,7 +543,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is null")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(-1, null, "name", "asc");
+            articleUseCase.listArticles(-1, null, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -473,7 +552,7 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageNumber is null and pageSize is less than or equal to zero")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberIsNullAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(null, -1, "name", "asc");
+            articleUseCase.listArticles(null, -1, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -482,8 +561,211 @@ class ArticleUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is less than or equal to zero")
     void listArticlesShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            articleUseCase.listArticles(-1, 0, "name", "asc");
+            articleUseCase.listArticles(-1, 0, "name", "asc", PaginationTotal.EXACT, ArticleFilter.none());
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
+
+    @Test
+    @DisplayName("Validation exception when the filter selects invalid IDs or an inverted price range")
+    void listArticlesShouldThrowValidationExceptionWhenFilterIsInvalid() {
+        ArticleFilter filter = new ArticleFilter(Set.of(0L), Set.of(-2L), new BigDecimal("50.00"), new BigDecimal("10.00"), false);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> articleUseCase.listArticles(0, 3, "name", "asc", PaginationTotal.EXACT, filter));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.INVALID_FILTER_BRAND_ID_MESSAGE,
+                DomainConstants.INVALID_FILTER_CATEGORY_ID_MESSAGE, DomainConstants.INVALID_FILTER_PRICE_RANGE_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).listArticles(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Counts the facets of a filter through the persistence port")
+    void countArticleFacets() {
+        ArticleFilter filter = new ArticleFilter(Set.of(1L), Set.of(2L), null, null, true);
+        ArticleFacets facets = new ArticleFacets(Map.of(1L, 4L), Map.of(2L, 4L, 3L, 1L), 4L);
+        Mockito.when(articlePersistencePort.countArticleFacets(filter)).thenReturn(facets);
+
+        assertThat(articleUseCase.countArticleFacets(filter)).isSameAs(facets);
+    }
+
+    @Test
+    @DisplayName("Validation exception when the price range of the facets is negative")
+    void countArticleFacetsShouldThrowValidationExceptionWhenPriceIsNegative() {
+        ArticleFilter filter = new ArticleFilter(null, null, new BigDecimal("-1.00"), null, false);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.countArticleFacets(filter));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.INVALID_FILTER_PRICE_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).countArticleFacets(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("List articles after a cursor correctly")
+    void listArticlesAfter() {
+        PageCursor after = new PageCursor(1L, "TechNova", "brandName", "asc");
+        CursorPagination<Article> pagination = new CursorPagination<>(List.of(), 10, null);
+
+        Mockito.when(articlePersistencePort.listArticlesAfter(Mockito.any(PageCursor.class), Mockito.eq(10), Mockito.eq("brandName"), Mockito.eq("asc"))).thenReturn(pagination);
+
+        CursorPagination<Article> result = articleUseCase.listArticlesAfter(after.encode(), 10, "brandName", "asc");
+
+        assertTrue(result.isLast(), "The page should be the last one.");
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).listArticlesAfter(Mockito.argThat(cursor ->
+                cursor.getLastId() == 1L && "TechNova".equals(cursor.getLastSortKey())), Mockito.eq(10), Mockito.eq("brandName"), Mockito.eq("asc"));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor is invalid")
+    void listArticlesAfterShouldThrowValidationExceptionWhenCursorIsInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            articleUseCase.listArticlesAfter("not-a-cursor", 10, "brandName", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_CURSOR_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).listArticlesAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor was read sorted by another field")
+    void listArticlesAfterShouldThrowValidationExceptionWhenCursorWasReadByAnotherField() {
+        PageCursor after = new PageCursor(1L, "TechNova", "brandName", "asc");
+
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            articleUseCase.listArticlesAfter(after.encode(), 10, "name", "asc");
+        });
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.CURSOR_SORT_MISMATCH_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).listArticlesAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor page size is null")
+    void listArticlesAfterShouldThrowValidationExceptionWhenPageSizeIsNull() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            articleUseCase.listArticlesAfter(null, null, "brandName", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Exports articles through the persistence port")
+    void exportArticles() {
+        Consumer<Article> consumer = article -> {};
+
+        articleUseCase.exportArticles(consumer);
+
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).exportArticles(consumer);
+    }
+
+    @Test
+    @DisplayName("Searches articles through the persistence port")
+    void searchArticles() {
+        List<Article> articles = List.of(new Article(1L, "Smart Speaker", "Speaker.", 3, new BigDecimal("80.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null))));
+        Mockito.when(articlePersistencePort.searchArticles("smart", 20)).thenReturn(articles);
+
+        assertThat(articleUseCase.searchArticles("smart", 20)).isEqualTo(articles);
+    }
+
+    @Test
+    @DisplayName("Validation exception when the search query is empty or the limit is out of range")
+    void searchArticlesShouldThrowValidationExceptionWhenParametersAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.searchArticles(" ", 0));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.FIELD_SEARCH_QUERY_EMPTY_MESSAGE,
+                DomainConstants.INVALID_SEARCH_LIMIT_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).searchArticles(Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the search query is too long")
+    void searchArticlesShouldThrowValidationExceptionWhenQueryIsTooLong() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> articleUseCase.searchArticles("a".repeat(DomainConstants.MAX_SEARCH_QUERY_LENGTH + 1), 20));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.MAX_SEARCH_QUERY_LENGTH_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Adjusts the stock of an article through the persistence port")
+    void adjustStock() {
+        Mockito.when(articlePersistencePort.adjustStock(1L, -3)).thenReturn(true);
+
+        articleUseCase.adjustStock(1L, -3);
+
+        Mockito.verify(articlePersistencePort, Mockito.times(1)).adjustStock(1L, -3);
+        Mockito.verify(articlePersistencePort, Mockito.never()).findExistingIDs(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the stock delta is zero or the article ID is missing")
+    void adjustStockShouldThrowValidationExceptionWhenFieldsAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStock(null, 0));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE,
+                DomainConstants.INVALID_STOCK_DELTA_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).adjustStock(Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the article doesn't have enough stock")
+    void adjustStockShouldThrowValidationExceptionWhenStockIsInsufficient() {
+        Mockito.when(articlePersistencePort.adjustStock(1L, -30)).thenReturn(false);
+        Mockito.when(articlePersistencePort.findExistingIDs(Set.of(1L))).thenReturn(Set.of(1L));
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStock(1L, -30));
+
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, 1L));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the article doesn't exist")
+    void adjustStockShouldThrowValidationExceptionWhenArticleDoesNotExist() {
+        Mockito.when(articlePersistencePort.adjustStock(9L, 5)).thenReturn(false);
+        Mockito.when(articlePersistencePort.findExistingIDs(Set.of(9L))).thenReturn(Set.of());
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStock(9L, 5));
+
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, 9L));
+    }
+
+    @Test
+    @DisplayName("A stock batch is merged into one adjustment per article, in ID order")
+    void adjustStocksMergesAdjustmentsByArticle() {
+        Mockito.when(articlePersistencePort.adjustStocks(stockAdjustmentsCaptor.capture())).thenReturn(Set.of());
+
+        articleUseCase.adjustStocks(List.of(new StockAdjustment(3L, -2), new StockAdjustment(1L, 5), new StockAdjustment(3L, 7)));
+
+        assertThat(stockAdjustmentsCaptor.getValue()).extracting(StockAdjustment::getArticleId).containsExactly(1L, 3L);
+        assertThat(stockAdjustmentsCaptor.getValue()).extracting(StockAdjustment::getDelta).containsExactly(5, 5);
+    }
+
+    @Test
+    @DisplayName("Validation exception listing every article that rejected its stock adjustment")
+    void adjustStocksShouldThrowValidationExceptionWhenAdjustmentsAreRejected() {
+        Mockito.when(articlePersistencePort.adjustStocks(Mockito.any())).thenReturn(Set.of(2L, 8L));
+        Mockito.when(articlePersistencePort.findExistingIDs(Set.of(2L, 8L))).thenReturn(Set.of(2L));
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStocks(
+                List.of(new StockAdjustment(1L, 1), new StockAdjustment(2L, -50), new StockAdjustment(8L, 1))));
+
+        assertThat(exception.getErrors()).containsExactly(
+                String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, 2L),
+                String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, 8L));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the stock batch is empty or too large")
+    void adjustStocksShouldThrowValidationExceptionWhenBatchSizeIsInvalid() {
+        List<StockAdjustment> oversized = new ArrayList<>();
+        for (long id = 1; id <= DomainConstants.MAX_STOCK_BATCH_SIZE + 1; id++) {
+            oversized.add(new StockAdjustment(id, 1));
+        }
+
+        assertThat(assertThrows(ValidationException.class, () -> articleUseCase.adjustStocks(List.of())).getErrors())
+                .containsExactly(DomainConstants.EMPTY_STOCK_BATCH_MESSAGE);
+        assertThat(assertThrows(ValidationException.class, () -> articleUseCase.adjustStocks(oversized)).getErrors())
+                .containsExactly(DomainConstants.MAX_STOCK_BATCH_SIZE_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).adjustStocks(Mockito.any());
+    }
 }
\ No newline at end of file
@@ -3,8 +3,11 @@ package com.bootcamp.microserviceStock.domain.api.useCase;
 import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Brand;
 import com.bootcamp.microserviceStock.domain.spi.IBrandPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -165,9 +168,9 @@ class BrandUseCaseTest {
         Brand brand = new Brand(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.");
         Pagination<Brand> pagination = new Pagination<>(List.of(brand), 0, 10, 1L);
 
-        Mockito.when(brandPersistencePort.listBrands(0, 10, "name", "asc")).thenReturn(pagination);
+        Mockito.when(brandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.EXACT)).thenReturn(pagination);
 
-        Pagination<Brand> result = brandUseCase.listBrands(0, 10, "name", "asc");
+        Pagination<Brand> result = brandUseCase.listBrands(0, 10, "name", "asc", PaginationTotal.EXACT);
 
         assertNotNull(result, "The result shouldn't be null.");
         assertFalse(result.getContent().isEmpty(), "The content shouldn't be empty.");
@@ -178,14 +181,30 @@ class BrandUseCaseTest {
         assertEquals("TechNova", returnedBrands.getName(), "The brand name should be 'TechNova'.");
         assertEquals("Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.", returnedBrands.getDescription(), "The description should be 'Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.'");
 
-        Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrands(0, 10, "name", "asc");
+        Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrands(0, 10, "name", "asc", PaginationTotal.EXACT);
+    }
+
+    @Test
+    @DisplayName("List brands without a total when it isn't requested")
+    void listBrandsWithoutTotal() {
+        Brand brand = new Brand(1L, "TechNova", "Innovative electronics that combine style and functionality, from smartphones to smart home gadgets.");
+        Pagination<Brand> pagination = new Pagination<>(List.of(brand), 0, 10, true);
+
+        Mockito.when(brandPersistencePort.listBrands(0, 10, "name", "asc", PaginationTotal.NONE)).thenReturn(pagination);
+
+        Pagination<Brand> result = brandUseCase.listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
+
+        assertEquals(1, result.getContent().size(), "The number of brands should be 1.");
+        assertNull(result.getTotalElements(), "The total shouldn't be computed.");
+        assertTrue(result.isLast(), "The page should be the last one.");
+        Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrands(0, 10, "name", "asc", PaginationTotal.NONE);
     }
 
     @Test
     @DisplayName("Validation exception when pageNumber is null")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(null, 3, "name", "asc");
+            brandUseCase.listBrands(null, 3, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE);
     }
@@ -194,7 +213,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageNumber is a negative number")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberIsNegative() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(-1, 3, "name", "asc");
+            brandUseCase.listBrands(-1, 3, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
     }
@@ -203,7 +222,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageSize is null")
     void listBrandsShouldThrowValidationExceptionWhenPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(0, null, "name", "asc");
+            brandUseCase.listBrands(0, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -212,7 +231,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageSize is less than or equal to zero")
     void listBrandsShouldThrowValidationExceptionWhenPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(0, -1, "name", "asc");
+            brandUseCase.listBrands(0, -1, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -221,7 +240,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when sortBy is null")
     void listBrandsShouldThrowValidationExceptionWhenSortByIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(0, 3, null, "asc");
+            brandUseCase.listBrands(0, 3, null, "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -230,7 +249,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when sortBy is different from 'name'")
     void listBrandsShouldThrowValidationExceptionWhenSortByIsNotName() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(0, 3, "description", "asc");
+            brandUseCase.listBrands(0, 3, "description", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -239,7 +258,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when sortDirection isn't 'asc' or 'desc'")
     void listBrandsShouldThrowValidationExceptionWhenSortDirectionIsNotAscOrDesc() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(0, 3, "name", "order");
+            brandUseCase.listBrands(0, 3, "name", "order", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
     }
@@ -248,7 +267,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageNumber and pageSize are null")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberAndPageSizeAreNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(null, null, "name", "asc");
+            brandUseCase.listBrands(null, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -257,7 +276,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is null")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(-1, null, "name", "asc");
+            brandUseCase.listBrands(-1, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -266,7 +285,7 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageNumber is null and pageSize is less than or equal to zero")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberIsNullAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(null, -1, "name", "asc");
+            brandUseCase.listBrands(null, -1, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -275,8 +294,73 @@ class BrandUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is less than or equal to zero")
     void listBrandsShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            brandUseCase.listBrands(-1, 0, "name", "asc");
+            brandUseCase.listBrands(-1, 0, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
+
+    @Test
+    @DisplayName("List brands after a cursor correctly")
+    void listBrandsAfter() {
+        PageCursor after = new PageCursor(1L, "TechNova", "name", "asc");
+        CursorPagination<Brand> pagination = new CursorPagination<>(List.of(), 10, null);
+
+        Mockito.when(brandPersistencePort.listBrandsAfter(Mockito.any(PageCursor.class), Mockito.eq(10), Mockito.eq("name"), Mockito.eq("asc"))).thenReturn(pagination);
+
+        CursorPagination<Brand> result = brandUseCase.listBrandsAfter(after.encode(), 10, "name", "asc");
+
+        assertTrue(result.isLast(), "The page should be the last one.");
+        Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrandsAfter(Mockito.argThat(cursor ->
+                cursor.getLastId() == 1L && "TechNova".equals(cursor.getLastSortKey())), Mockito.eq(10), Mockito.eq("name"), Mockito.eq("asc"));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor is invalid")
+    void listBrandsAfterShouldThrowValidationExceptionWhenCursorIsInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            brandUseCase.listBrandsAfter("not-a-cursor", 10, "name", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_CURSOR_MESSAGE);
+        Mockito.verify(brandPersistencePort, Mockito.never()).listBrandsAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor was read in another sort direction")
+    void listBrandsAfterShouldThrowValidationExceptionWhenCursorWasReadInAnotherDirection() {
+        PageCursor after = new PageCursor(1L, "TechNova", "name", "asc");
+
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            brandUseCase.listBrandsAfter(after.encode(), 10, "name", "desc");
+        });
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.CURSOR_SORT_MISMATCH_MESSAGE);
+        Mockito.verify(brandPersistencePort, Mockito.never()).listBrandsAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor page size is null")
+    void listBrandsAfterShouldThrowValidationExceptionWhenPageSizeIsNull() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            brandUseCase.listBrandsAfter(null, null, "name", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Suggests brand names through the persistence port")
+    void suggestBrands() {
+        List<Brand> suggestions = List.of(new Brand(1L, "TechNova", null));
+        Mockito.when(brandPersistencePort.suggestBrands("tech", 10)).thenReturn(suggestions);
+
+        assertThat(brandUseCase.suggestBrands("tech", 10)).isEqualTo(suggestions);
+    }
+
+    @Test
+    @DisplayName("Validation exception when the prefix is empty or the limit is out of range")
+    void suggestBrandsShouldThrowValidationExceptionWhenParametersAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> brandUseCase.suggestBrands(" ", DomainConstants.MAX_SUGGESTIONS + 1));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.FIELD_SUGGESTION_PREFIX_EMPTY_MESSAGE,
+                DomainConstants.INVALID_SUGGESTION_LIMIT_MESSAGE);
+        Mockito.verify(brandPersistencePort, Mockito.never()).suggestBrands(Mockito.any(), Mockito.anyInt());
+    }
 }
\ No newline at end of file
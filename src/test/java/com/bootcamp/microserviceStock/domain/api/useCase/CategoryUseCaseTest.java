@@ -3,8 +3,11 @@ package com.bootcamp.microserviceStock.domain.api.useCase;
 import com.bootcamp.microserviceStock.domain.exception.ValidationException;
 import com.bootcamp.microserviceStock.domain.model.Category;
 import com.bootcamp.microserviceStock.domain.spi.ICategoryPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CursorPagination;
 import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.PageCursor;
 import com.bootcamp.microserviceStock.domain.util.Pagination;
+import com.bootcamp.microserviceStock.domain.util.PaginationTotal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -166,9 +169,9 @@ class CategoryUseCaseTest {
         Category category = new Category(1L, "Books", "Browse a vast collection of books across all genres and interests.");
         Pagination<Category> pagination = new Pagination<>(List.of(category), 0, 10, 1L);
 
-        Mockito.when(categoryPersistencePort.listCategories(0, 10, "name", "asc")).thenReturn(pagination);
+        Mockito.when(categoryPersistencePort.listCategories(0, 10, "name", "asc", PaginationTotal.EXACT)).thenReturn(pagination);
 
-        Pagination<Category> result = categoryUseCase.listCategories(0, 10, "name", "asc");
+        Pagination<Category> result = categoryUseCase.listCategories(0, 10, "name", "asc", PaginationTotal.EXACT);
 
         assertNotNull(result, "The result shouldn't be null.");
         assertFalse(result.getContent().isEmpty(), "The content shouldn't be empty.");
@@ -179,14 +182,14 @@ class CategoryUseCaseTest {
         assertEquals("Books", returnedCategory.getName(), "The category name should be 'Books'.");
         assertEquals("Browse a vast collection of books across all genres and interests.", returnedCategory.getDescription(), "Browse a vast collection of books across all genres and interests.");
 
-        Mockito.verify(categoryPersistencePort, Mockito.times(1)).listCategories(0, 10, "name", "asc");
+        Mockito.verify(categoryPersistencePort, Mockito.times(1)).listCategories(0, 10, "name", "asc", PaginationTotal.EXACT);
     }
 
     @Test
     @DisplayName("Validation exception when pageNumber is null")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(null, 3, "name", "asc");
+            categoryUseCase.listCategories(null, 3, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE);
     }
@@ -195,7 +198,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageNumber is a negative number")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberIsNegative() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(-1, 3, "name", "asc");
+            categoryUseCase.listCategories(-1, 3, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
     }
@@ -204,7 +207,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageSize is null")
     void listCategoriesShouldThrowValidationExceptionWhenPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(0, null, "name", "asc");
+            categoryUseCase.listCategories(0, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -213,7 +216,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageSize is less than or equal to zero")
     void listCategoriesShouldThrowValidationExceptionWhenPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(0, -1, "name", "asc");
+            categoryUseCase.listCategories(0, -1, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -222,7 +225,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when sortBy is null")
     void listCategoriesShouldThrowValidationExceptionWhenSortByIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(0, 3, null, "asc");
+            categoryUseCase.listCategories(0, 3, null, "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -231,7 +234,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when sortBy is different from 'name'")
     void listCategoriesShouldThrowValidationExceptionWhenSortByIsNotName() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(0, 3, "description", "asc");
+            categoryUseCase.listCategories(0, 3, "description", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_BY_FIELD_MESSAGE);
     }
@@ -240,7 +243,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when sortDirection isn't 'asc' or 'desc'")
     void listCategoriesShouldThrowValidationExceptionWhenSortDirectionIsNotAscOrDesc() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(0, 3, "name", "order");
+            categoryUseCase.listCategories(0, 3, "name", "order", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
     }
@@ -249,7 +252,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageNumber and pageSize are null")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberAndPageSizeAreNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(null, null, "name", "asc");
+            categoryUseCase.listCategories(null, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -258,7 +261,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is null")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(-1, null, "name", "asc");
+            categoryUseCase.listCategories(-1, null, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
     }
@@ -267,7 +270,7 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageNumber is null and pageSize is less than or equal to zero")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberIsNullAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(null, -1, "name", "asc");
+            categoryUseCase.listCategories(null, -1, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_NUMBER_NULL_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
@@ -276,8 +279,73 @@ class CategoryUseCaseTest {
     @DisplayName("Validation exception when pageNumber is negative and pageSize is less than or equal to zero")
     void listCategoriesShouldThrowValidationExceptionWhenPageNumberIsNegativeAndPageSizeIsLessThanOrEqualToZero() {
         ValidationException exception = assertThrows(ValidationException.class, ()->{
-            categoryUseCase.listCategories(-1, 0, "name", "asc");
+            categoryUseCase.listCategories(-1, 0, "name", "asc", PaginationTotal.EXACT);
         });
         assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE, DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
     }
+
+    @Test
+    @DisplayName("List categories after a cursor correctly")
+    void listCategoriesAfter() {
+        PageCursor after = new PageCursor(1L, "TechNova", "name", "asc");
+        CursorPagination<Category> pagination = new CursorPagination<>(List.of(), 10, null);
+
+        Mockito.when(categoryPersistencePort.listCategoriesAfter(Mockito.any(PageCursor.class), Mockito.eq(10), Mockito.eq("name"), Mockito.eq("asc"))).thenReturn(pagination);
+
+        CursorPagination<Category> result = categoryUseCase.listCategoriesAfter(after.encode(), 10, "name", "asc");
+
+        assertTrue(result.isLast(), "The page should be the last one.");
+        Mockito.verify(categoryPersistencePort, Mockito.times(1)).listCategoriesAfter(Mockito.argThat(cursor ->
+                cursor.getLastId() == 1L && "TechNova".equals(cursor.getLastSortKey())), Mockito.eq(10), Mockito.eq("name"), Mockito.eq("asc"));
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor is invalid")
+    void listCategoriesAfterShouldThrowValidationExceptionWhenCursorIsInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            categoryUseCase.listCategoriesAfter("not-a-cursor", 10, "name", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_CURSOR_MESSAGE);
+        Mockito.verify(categoryPersistencePort, Mockito.never()).listCategoriesAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor was read in another sort direction")
+    void listCategoriesAfterShouldThrowValidationExceptionWhenCursorWasReadInAnotherDirection() {
+        PageCursor after = new PageCursor(1L, "TechNova", "name", "asc");
+
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            categoryUseCase.listCategoriesAfter(after.encode(), 10, "name", "desc");
+        });
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.CURSOR_SORT_MISMATCH_MESSAGE);
+        Mockito.verify(categoryPersistencePort, Mockito.never()).listCategoriesAfter(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor page size is null")
+    void listCategoriesAfterShouldThrowValidationExceptionWhenPageSizeIsNull() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            categoryUseCase.listCategoriesAfter(null, null, "name", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PAGE_SIZE_NULL_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Suggests category names through the persistence port")
+    void suggestCategories() {
+        List<Category> suggestions = List.of(new Category(1L, "Books", null));
+        Mockito.when(categoryPersistencePort.suggestCategories("boo", 10)).thenReturn(suggestions);
+
+        assertThat(categoryUseCase.suggestCategories("boo", 10)).isEqualTo(suggestions);
+    }
+
+    @Test
+    @DisplayName("Validation exception when the prefix is empty or the limit is out of range")
+    void suggestCategoriesShouldThrowValidationExceptionWhenParametersAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> categoryUseCase.suggestCategories(" ", DomainConstants.MAX_SUGGESTIONS + 1));
+
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.FIELD_SUGGESTION_PREFIX_EMPTY_MESSAGE,
+                DomainConstants.INVALID_SUGGESTION_LIMIT_MESSAGE);
+        Mockito.verify(categoryPersistencePort, Mockito.never()).suggestCategories(Mockito.any(), Mockito.anyInt());
+    }
 }
\ No newline at end of file
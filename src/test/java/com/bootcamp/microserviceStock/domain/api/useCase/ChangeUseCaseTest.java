@@ -0,0 +1,69 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.Brand;
+import com.bootcamp.microserviceStock.domain.spi.IChangePersistencePort;
+import com.bootcamp.microserviceStock.domain.util.CatalogChange;
+import com.bootcamp.microserviceStock.domain.util.ChangeFeed;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeUseCaseTest {
+    @Mock
+    private IChangePersistencePort changePersistencePort;
+
+    @InjectMocks
+    private ChangeUseCase changeUseCase;
+
+    @Test
+    @DisplayName("List a full batch of changes and continue from the last version")
+    void listChanges() {
+        Mockito.when(changePersistencePort.listChangesSince(10L, 3)).thenReturn(List.of(change(11L), change(12L), change(15L)));
+
+        ChangeFeed feed = changeUseCase.listChanges(10L, 2);
+
+        assertThat(feed.getChanges()).extracting(CatalogChange::getVersion).containsExactly(11L, 12L);
+        assertEquals(12L, feed.getNextSince(), "The next batch should start after the last returned version.");
+        assertFalse(feed.isLast(), "The feed should not be caught up.");
+    }
+
+    @Test
+    @DisplayName("An empty batch keeps the version it was requested with")
+    void listChangesWhenCaughtUp() {
+        Mockito.when(changePersistencePort.listChangesSince(10L, 501)).thenReturn(List.of());
+
+        ChangeFeed feed = changeUseCase.listChanges(10L, 500);
+
+        assertThat(feed.getChanges()).isEmpty();
+        assertEquals(10L, feed.getNextSince(), "The next batch should start from the requested version.");
+        assertTrue(feed.isLast(), "The feed should be caught up.");
+    }
+
+    @Test
+    @DisplayName("Validation exception when the version is negative and the limit is out of range")
+    void listChangesShouldThrowValidationExceptionWhenParametersAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, ()->{
+            changeUseCase.listChanges(-1L, DomainConstants.MAX_CHANGE_BATCH_SIZE + 1);
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_CHANGE_VERSION_MESSAGE, DomainConstants.INVALID_CHANGE_LIMIT_MESSAGE);
+        Mockito.verify(changePersistencePort, Mockito.never()).listChangesSince(Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    private static CatalogChange change(long version) {
+        Brand brand = new Brand(version, "Brand " + version, null);
+        brand.setChangeVersion(version);
+        return CatalogChange.of(brand);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.Reservation;
+import com.bootcamp.microserviceStock.domain.spi.IReservationPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationUseCaseTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private IReservationPersistencePort reservationPersistencePort;
+
+    private ReservationUseCase reservationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        reservationUseCase = new ReservationUseCase(reservationPersistencePort, CLOCK, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Reserve stock with the default time to live")
+    void reserve() {
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class)))
+                .thenAnswer(invocation -> withId(invocation.getArgument(0), 7L));
+
+        Reservation reservation = reservationUseCase.reserve(1L, 3, null);
+
+        ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+        Mockito.verify(reservationPersistencePort).reserve(captor.capture());
+        assertEquals(1L, captor.getValue().getArticleId());
+        assertEquals(3, captor.getValue().getQuantity());
+        assertEquals(NOW.plusMinutes(5), captor.getValue().getExpiresAt(), "The hold should expire after the default time to live.");
+        assertEquals(7L, reservation.getId());
+    }
+
+    @Test
+    @DisplayName("Reserve stock with a requested time to live")
+    void reserveWithTtl() {
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class)))
+                .thenAnswer(invocation -> withId(invocation.getArgument(0), 7L));
+
+        Reservation reservation = reservationUseCase.reserve(1L, 3, 60L);
+
+        assertEquals(NOW.plusSeconds(60), reservation.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the reservation fields are invalid")
+    void reserveShouldThrowValidationExceptionWhenFieldsAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.reserve(null, 0, 1801L);
+        });
+        assertThat(exception.getErrors()).containsExactly(
+                DomainConstants.FIELD_ARTICLE_ID_NULL_MESSAGE,
+                DomainConstants.INVALID_RESERVATION_QUANTITY_MESSAGE,
+                String.format(DomainConstants.INVALID_RESERVATION_TTL_MESSAGE, 1800));
+        Mockito.verify(reservationPersistencePort, Mockito.never()).reserve(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the article doesn't have enough available stock")
+    void reserveShouldThrowValidationExceptionWhenStockIsInsufficient() {
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class))).thenReturn(null);
+        Mockito.when(reservationPersistencePort.findAvailability(1L)).thenReturn(new StockAvailability(1L, 5, 4));
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.reserve(1L, 3, null);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, 1L));
+    }
+
+    @Test
+    @DisplayName("Validation exception when reserving stock of an article that doesn't exist")
+    void reserveShouldThrowValidationExceptionWhenArticleDoesNotExist() {
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class))).thenReturn(null);
+        Mockito.when(reservationPersistencePort.findAvailability(1L)).thenReturn(null);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.reserve(1L, 3, null);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, 1L));
+    }
+
+    @Test
+    @DisplayName("Confirm an active reservation")
+    void confirm() {
+        Reservation reservation = new Reservation(7L, 1L, 3, NOW.plusMinutes(1), NOW);
+        Mockito.when(reservationPersistencePort.findReservation(7L)).thenReturn(reservation);
+        Mockito.when(reservationPersistencePort.confirmReservation(reservation)).thenReturn(true);
+
+        reservationUseCase.confirm(7L);
+
+        Mockito.verify(reservationPersistencePort).confirmReservation(reservation);
+    }
+
+    @Test
+    @DisplayName("An expired reservation is released instead of confirmed")
+    void confirmShouldReleaseExpiredReservation() {
+        Reservation reservation = new Reservation(7L, 1L, 3, NOW, NOW.minusMinutes(5));
+        Mockito.when(reservationPersistencePort.findReservation(7L)).thenReturn(reservation);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.confirm(7L);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.RESERVATION_EXPIRED_MESSAGE, 7L));
+        Mockito.verify(reservationPersistencePort).releaseReservation(reservation);
+        Mockito.verify(reservationPersistencePort, Mockito.never()).confirmReservation(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the reservation was settled by someone else")
+    void confirmShouldThrowValidationExceptionWhenReservationWasSettled() {
+        Reservation reservation = new Reservation(7L, 1L, 3, NOW.plusMinutes(1), NOW);
+        Mockito.when(reservationPersistencePort.findReservation(7L)).thenReturn(reservation);
+        Mockito.when(reservationPersistencePort.confirmReservation(reservation)).thenReturn(false);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.confirm(7L);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.RESERVATION_DOES_NOT_EXIST_MESSAGE, 7L));
+    }
+
+    @Test
+    @DisplayName("Validation exception when releasing a reservation that doesn't exist")
+    void releaseShouldThrowValidationExceptionWhenReservationDoesNotExist() {
+        Mockito.when(reservationPersistencePort.findReservation(7L)).thenReturn(null);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            reservationUseCase.release(7L);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.RESERVATION_DOES_NOT_EXIST_MESSAGE, 7L));
+        Mockito.verify(reservationPersistencePort, Mockito.never()).releaseReservation(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("The available stock is the quantity not held by reservations")
+    void getAvailability() {
+        Mockito.when(reservationPersistencePort.findAvailability(1L)).thenReturn(new StockAvailability(1L, 10, 4));
+
+        assertEquals(6, reservationUseCase.getAvailability(1L).getAvailable());
+    }
+
+    private static Reservation withId(Reservation reservation, Long id) {
+        return new Reservation(id, reservation.getArticleId(), reservation.getQuantity(), reservation.getExpiresAt(), reservation.getCreatedAt());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.bootcamp.microserviceStock.domain.api.useCase;
+
+import com.bootcamp.microserviceStock.domain.exception.ValidationException;
+import com.bootcamp.microserviceStock.domain.model.StockMovement;
+import com.bootcamp.microserviceStock.domain.spi.IStockLedgerPersistencePort;
+import com.bootcamp.microserviceStock.domain.util.DomainConstants;
+import com.bootcamp.microserviceStock.domain.util.StockAvailability;
+import com.bootcamp.microserviceStock.domain.util.StockLedger;
+import com.bootcamp.microserviceStock.domain.util.StockMovementReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerUseCaseTest {
+    @Mock
+    private IStockLedgerPersistencePort stockLedgerPersistencePort;
+
+    @InjectMocks
+    private StockLedgerUseCase stockLedgerUseCase;
+
+    @Test
+    @DisplayName("A full page of movements points to the page before its oldest movement")
+    void getLedger() {
+        Mockito.when(stockLedgerPersistencePort.findStockLevel(1L)).thenReturn(new StockAvailability(1L, 8, 2));
+        Mockito.when(stockLedgerPersistencePort.listMovements(1L, null, 3)).thenReturn(List.of(movement(9L), movement(7L), movement(4L)));
+
+        StockLedger ledger = stockLedgerUseCase.getLedger(1L, null, 2);
+
+        assertEquals(6, ledger.getStock().getAvailable());
+        assertThat(ledger.getMovements()).extracting(StockMovement::getId).containsExactly(9L, 7L);
+        assertEquals(7L, ledger.getNextBefore(), "The next page should start before the oldest returned movement.");
+    }
+
+    @Test
+    @DisplayName("The last page of movements has no next page")
+    void getLedgerLastPage() {
+        Mockito.when(stockLedgerPersistencePort.findStockLevel(1L)).thenReturn(new StockAvailability(1L, 8, 0));
+        Mockito.when(stockLedgerPersistencePort.listMovements(1L, 7L, 3)).thenReturn(List.of(movement(4L)));
+
+        StockLedger ledger = stockLedgerUseCase.getLedger(1L, 7L, 2);
+
+        assertThat(ledger.getMovements()).extracting(StockMovement::getId).containsExactly(4L);
+        assertNull(ledger.getNextBefore(), "There should be no page after the last one.");
+    }
+
+    @Test
+    @DisplayName("Validation exception when the ledger of an article that doesn't exist is requested")
+    void getLedgerShouldThrowValidationExceptionWhenArticleDoesNotExist() {
+        Mockito.when(stockLedgerPersistencePort.findStockLevel(1L)).thenReturn(null);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            stockLedgerUseCase.getLedger(1L, null, 100);
+        });
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXIST_MESSAGE, 1L));
+        Mockito.verify(stockLedgerPersistencePort, Mockito.never()).listMovements(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("Validation exception when the cursor and the limit are out of range")
+    void getLedgerShouldThrowValidationExceptionWhenParametersAreInvalid() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            stockLedgerUseCase.getLedger(0L, 0L, DomainConstants.MAX_MOVEMENT_PAGE_SIZE + 1);
+        });
+        assertThat(exception.getErrors()).containsExactly(
+                DomainConstants.INVALID_ARTICLE_ID_MESSAGE,
+                DomainConstants.INVALID_MOVEMENT_CURSOR_MESSAGE,
+                DomainConstants.INVALID_MOVEMENT_LIMIT_MESSAGE);
+        Mockito.verifyNoInteractions(stockLedgerPersistencePort);
+    }
+
+    private static StockMovement movement(Long id) {
+        return new StockMovement(id, 1L, StockMovementReason.ADJUSTMENT, -1, 0, LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.bootcamp.microserviceStock.domain.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+    @Test
+    @DisplayName("Case and accents are folded away")
+    void foldsCaseAndAccents() {
+        assertThat(TextNormalizer.normalize("Técnica SÜR")).isEqualTo("tecnica sur");
+        assertThat(TextNormalizer.normalize("Crème Brûlée")).isEqualTo(TextNormalizer.normalize("CREME BRULEE"));
+    }
+
+    @Test
+    @DisplayName("Surrounding spaces are stripped and inner runs collapse to one space")
+    void collapsesWhitespace() {
+        assertThat(TextNormalizer.normalize("  Urban \t Edge\n")).isEqualTo("urban edge");
+        assertThat(TextNormalizer.normalize("   ")).isEmpty();
+        assertThat(TextNormalizer.normalize(null)).isEmpty();
+    }
+}
\ No newline at end of file